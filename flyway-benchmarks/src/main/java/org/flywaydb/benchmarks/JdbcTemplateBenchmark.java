@@ -0,0 +1,127 @@
+/*-
+ * ========================LICENSE_START=================================
+ * flyway-benchmarks
+ * ========================================================================
+ * Copyright (C) 2010 - 2025 Red Gate Software Ltd
+ * ========================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+package org.flywaydb.benchmarks;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.flywaydb.core.internal.database.h2.H2DatabaseType;
+import org.flywaydb.core.internal.jdbc.JdbcTemplate;
+import org.flywaydb.core.internal.jdbc.Row;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures reading a large catalog query, as done when cleaning, on an in-memory H2 database whose schema holds
+ * synthetic tables of 20 columns each, compared with the map per row that queryForList used to build.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class JdbcTemplateBenchmark {
+    private static final String SCHEMA = "BENCHMARK";
+    private static final int COLUMNS_PER_TABLE = 20;
+    private static final String QUERY = "SELECT TABLE_NAME, COLUMN_NAME, ORDINAL_POSITION, DATA_TYPE, IS_NULLABLE,"
+        + " COLUMN_DEFAULT FROM INFORMATION_SCHEMA.COLUMNS WHERE TABLE_SCHEMA = ?";
+
+    @Param({ "100000" })
+    public int rows;
+
+    private Connection connection;
+    private JdbcTemplate jdbcTemplate;
+
+    @Setup
+    public void setUp() throws SQLException {
+        Benchmarks.configure();
+        connection = DriverManager.getConnection("jdbc:h2:mem:flyway_benchmarks;DB_CLOSE_DELAY=-1");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE SCHEMA " + SCHEMA);
+            for (int table = 0; table < rows / COLUMNS_PER_TABLE; table++) {
+                StringBuilder sql = new StringBuilder("CREATE TABLE " + SCHEMA + ".TABLE_" + table + " (ID INT PRIMARY KEY");
+                for (int column = 1; column < COLUMNS_PER_TABLE; column++) {
+                    sql.append(", COLUMN_").append(column).append(column % 2 == 0 ? " VARCHAR(100)" : " INT DEFAULT 0");
+                }
+                statement.execute(sql.append(")").toString());
+            }
+        }
+        jdbcTemplate = new JdbcTemplate(connection, new H2DatabaseType());
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("SHUTDOWN");
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    public List<Row> queryForRows() throws SQLException {
+        return jdbcTemplate.queryForRows(QUERY, SCHEMA);
+    }
+
+    @Benchmark
+    public List<Map<String, String>> queryForList() throws SQLException {
+        return jdbcTemplate.queryForList(QUERY, SCHEMA);
+    }
+
+    /**
+     * Measures queryForList as it was before it delegated to queryForRows, looking up the result set metadata for every
+     * column of every row and building a map per row.
+     */
+    @Benchmark
+    public List<Map<String, String>> queryForListPerRowMaps() throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(QUERY)) {
+            statement.setString(1, SCHEMA);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                List<Map<String, String>> result = new ArrayList<>();
+                while (resultSet.next()) {
+                    Map<String, String> rowMap = new LinkedHashMap<>();
+                    for (int i = 1; i <= resultSet.getMetaData().getColumnCount(); i++) {
+                        rowMap.put(resultSet.getMetaData().getColumnLabel(i), resultSet.getString(i));
+                    }
+                    result.add(rowMap);
+                }
+                return result;
+            }
+        }
+    }
+}
@@ -0,0 +1,175 @@
+/*-
+ * ========================LICENSE_START=================================
+ * flyway-benchmarks
+ * ========================================================================
+ * Copyright (C) 2010 - 2025 Red Gate Software Ltd
+ * ========================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+package org.flywaydb.benchmarks;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationInfo;
+import org.flywaydb.core.api.MigrationVersion;
+import org.flywaydb.core.api.migration.Context;
+import org.flywaydb.core.api.migration.JavaMigration;
+import org.flywaydb.core.internal.util.JsonUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures info, which resolves the migrations and refreshes them against the schema history, on an in-memory
+ * database whose schema history holds a synthetic row for every migration.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class MigrationInfoServiceBenchmark {
+    private static final int BATCH_SIZE = 1000;
+
+    @Param({ "h2", "sqlite" })
+    public String database;
+
+    @Param({ "1000", "100000" })
+    public int migrations;
+
+    private Connection connection;
+    private Flyway flyway;
+
+    @Setup
+    public void setUp() throws SQLException {
+        String url = "h2".equals(database)
+            ? "jdbc:h2:mem:flyway_benchmarks;DB_CLOSE_DELAY=-1"
+            : "jdbc:sqlite:file:flyway_benchmarks?mode=memory&cache=shared";
+        // Keeps the in-memory database alive between the connections Flyway opens and closes
+        connection = DriverManager.getConnection(url);
+
+        JavaMigration[] javaMigrations = new JavaMigration[migrations];
+        for (int i = 0; i < migrations; i++) {
+            javaMigrations[i] = new SyntheticMigration(i + 1);
+        }
+        flyway = Benchmarks.configure()
+            .dataSource(url, "", "")
+            .javaMigrations(javaMigrations)
+            .baselineVersion("0")
+            .load();
+        flyway.baseline();
+        insertSchemaHistory();
+    }
+
+    private void insertSchemaHistory() throws SQLException {
+        connection.setAutoCommit(false);
+        try (PreparedStatement insert = connection.prepareStatement("INSERT INTO \"flyway_schema_history\""
+            + " (\"installed_rank\", \"version\", \"description\", \"type\", \"script\", \"checksum\","
+            + " \"installed_by\", \"execution_time\", \"success\") VALUES (?, ?, ?, 'JDBC', ?, NULL, 'benchmark', ?, ?)")) {
+            for (int i = 1; i <= migrations; i++) {
+                // The baseline marker holds rank 1
+                insert.setInt(1, i + 1);
+                insert.setString(2, Integer.toString(i));
+                insert.setString(3, SyntheticMigration.description(i));
+                insert.setString(4, SyntheticMigration.class.getName());
+                insert.setInt(5, i % 100);
+                insert.setBoolean(6, true);
+                insert.addBatch();
+                if (i % BATCH_SIZE == 0) {
+                    insert.executeBatch();
+                }
+            }
+            insert.executeBatch();
+        }
+        connection.commit();
+        connection.setAutoCommit(true);
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        if ("h2".equals(database)) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SHUTDOWN");
+            }
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    public MigrationInfo[] info() {
+        return flyway.info().all();
+    }
+
+    /**
+     * Measures info as printed with -outputType=json.
+     */
+    @Benchmark
+    public void infoJson() throws IOException {
+        JsonUtils.getJsonMapper().writeValue(OutputStream.nullOutputStream(), flyway.info().getInfoResult());
+    }
+
+    private static class SyntheticMigration implements JavaMigration {
+        private final MigrationVersion version;
+        private final String description;
+
+        SyntheticMigration(int version) {
+            this.version = MigrationVersion.fromVersion(Integer.toString(version));
+            this.description = description(version);
+        }
+
+        static String description(int version) {
+            return "synthetic migration " + version;
+        }
+
+        @Override
+        public MigrationVersion getVersion() {
+            return version;
+        }
+
+        @Override
+        public String getDescription() {
+            return description;
+        }
+
+        @Override
+        public Integer getChecksum() {
+            return null;
+        }
+
+        @Override
+        public boolean canExecuteInTransaction() {
+            return true;
+        }
+
+        @Override
+        public void migrate(Context context) {}
+    }
+}
@@ -0,0 +1,106 @@
+/*-
+ * ========================LICENSE_START=================================
+ * flyway-benchmarks
+ * ========================================================================
+ * Copyright (C) 2010 - 2025 Red Gate Software Ltd
+ * ========================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+package org.flywaydb.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.flywaydb.core.api.configuration.Configuration;
+import org.flywaydb.core.internal.database.h2.H2Parser;
+import org.flywaydb.core.internal.database.sqlite.SQLiteParser;
+import org.flywaydb.core.internal.parser.Parser;
+import org.flywaydb.core.internal.parser.ParsingContext;
+import org.flywaydb.core.internal.resource.StringResource;
+import org.flywaydb.core.internal.sqlscript.SqlStatementIterator;
+import org.flywaydb.database.mysql.MySQLParser;
+import org.flywaydb.database.postgresql.PostgreSQLParser;
+import org.flywaydb.database.spanner.SpannerParser;
+import org.flywaydb.database.sqlserver.SQLServerParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures splitting a synthetic migration script into statements with the parser of each dialect.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ParserBenchmark {
+    @Param({ "h2", "sqlite", "postgresql", "mysql", "sqlserver", "spanner" })
+    public String dialect;
+
+    @Param({ "10000" })
+    public int statements;
+
+    private Parser parser;
+    private StringResource script;
+
+    @Setup
+    public void setUp() {
+        Configuration configuration = Benchmarks.configure();
+        ParsingContext parsingContext = new ParsingContext();
+        switch (dialect) {
+            case "h2":
+                parser = new H2Parser(configuration, parsingContext);
+                break;
+            case "sqlite":
+                parser = new SQLiteParser(configuration, parsingContext);
+                break;
+            case "postgresql":
+                parser = new PostgreSQLParser(configuration, parsingContext);
+                break;
+            case "mysql":
+                parser = new MySQLParser(configuration, parsingContext);
+                break;
+            case "sqlserver":
+                parser = new SQLServerParser(configuration, parsingContext);
+                break;
+            case "spanner":
+                parser = new SpannerParser(configuration, parsingContext);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown dialect: " + dialect);
+        }
+        script = new StringResource(SyntheticCorpus.sqlScript(dialect, statements));
+    }
+
+    @Benchmark
+    public int parse(Blackhole blackhole) {
+        int count = 0;
+        try (SqlStatementIterator iterator = parser.parse(script)) {
+            while (iterator.hasNext()) {
+                blackhole.consume(iterator.next());
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,75 @@
+/*-
+ * ========================LICENSE_START=================================
+ * flyway-benchmarks
+ * ========================================================================
+ * Copyright (C) 2010 - 2025 Red Gate Software Ltd
+ * ========================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+package org.flywaydb.benchmarks;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.flywaydb.core.internal.parser.PlaceholderReplacingReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures reading texts with frequent placeholder references through the placeholder replacing reader.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = "-Xmx1g")
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class PlaceholderReplacingReaderBenchmark {
+    @Param({ "1048576", "52428800" })
+    public int length;
+
+    private Map<String, String> placeholders;
+    private String text;
+    private final char[] buffer = new char[8192];
+
+    @Setup
+    public void setUp() {
+        Benchmarks.configure();
+        placeholders = SyntheticCorpus.placeholders(50);
+        text = SyntheticCorpus.placeholderText(length, placeholders);
+    }
+
+    @Benchmark
+    public long read() throws IOException {
+        long count = 0;
+        try (Reader reader = new PlaceholderReplacingReader("${", "}", ":", placeholders, new StringReader(text))) {
+            int read;
+            while ((read = reader.read(buffer)) != -1) {
+                count += read;
+            }
+        }
+        return count;
+    }
+}
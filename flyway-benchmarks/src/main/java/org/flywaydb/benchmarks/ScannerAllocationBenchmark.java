@@ -0,0 +1,108 @@
+/*-
+ * ========================LICENSE_START=================================
+ * flyway-benchmarks
+ * ========================================================================
+ * Copyright (C) 2010 - 2025 Red Gate Software Ltd
+ * ========================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+package org.flywaydb.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import org.flywaydb.core.api.Location;
+import org.flywaydb.core.api.configuration.Configuration;
+import org.flywaydb.core.api.migration.JavaMigration;
+import org.flywaydb.core.api.resource.LoadableResource;
+import org.flywaydb.core.internal.scanner.LocationScannerCache;
+import org.flywaydb.core.internal.scanner.ResourceNameCache;
+import org.flywaydb.core.internal.scanner.Scanner;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures the allocations of scanning a temporary directory tree of synthetic migrations and filtering the found
+ * resources, with debug logging off. Every resource passes through debug messages that should cost nothing at this
+ * level, so the allocations per operation reported by the GC profiler are the figure to compare, not the time.
+ * Run it with {@code -prof gc}, or through {@link #main(String[])}, which adds the profiler itself.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ScannerAllocationBenchmark {
+    @Param({ "20000" })
+    public int files;
+
+    private Configuration configuration;
+    private Path root;
+    private Scanner<JavaMigration> scanner;
+
+    @Setup
+    public void setUp() throws IOException {
+        root = Files.createTempDirectory("flyway-benchmarks");
+        SyntheticCorpus.migrationTree(root, files);
+        configuration = Benchmarks.configure().locations(Location.FILESYSTEM_PREFIX + root.toAbsolutePath());
+        scanner = scan();
+    }
+
+    @TearDown
+    public void tearDown() {
+        Benchmarks.deleteRecursively(root);
+    }
+
+    /**
+     * Measures finding and validating every resource of the tree, as done once by every command.
+     */
+    @Benchmark
+    public Scanner<JavaMigration> scan() {
+        return new Scanner<>(JavaMigration.class, false, new ResourceNameCache(), new LocationScannerCache(),
+            configuration);
+    }
+
+    /**
+     * Measures looking up the repeatable migrations, which filters out every resource of the tree.
+     */
+    @Benchmark
+    public Collection<LoadableResource> getResources() {
+        return scanner.getResources(configuration.getRepeatableSqlMigrationPrefix(),
+            configuration.getSqlMigrationSuffixes());
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(ScannerAllocationBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build()).run();
+    }
+}
@@ -0,0 +1,165 @@
+/*-
+ * ========================LICENSE_START=================================
+ * flyway-benchmarks
+ * ========================================================================
+ * Copyright (C) 2010 - 2025 Red Gate Software Ltd
+ * ========================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+package org.flywaydb.benchmarks;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.flywaydb.core.api.CoreMigrationType;
+import org.flywaydb.core.api.MigrationVersion;
+import org.flywaydb.core.api.configuration.Configuration;
+import org.flywaydb.core.extensibility.AppliedMigration;
+import org.flywaydb.core.internal.callback.NoopCallbackExecutor;
+import org.flywaydb.core.internal.database.DatabaseType;
+import org.flywaydb.core.internal.database.base.Database;
+import org.flywaydb.core.internal.database.base.Schema;
+import org.flywaydb.core.internal.jdbc.JdbcConnectionFactory;
+import org.flywaydb.core.internal.parser.ParsingContext;
+import org.flywaydb.core.internal.schemahistory.SchemaHistory;
+import org.flywaydb.core.internal.schemahistory.SchemaHistoryFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures reading the schema history into its cache and recording newly applied migrations, on an in-memory H2
+ * database whose schema history holds a synthetic row for every migration.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class SchemaHistoryBenchmark {
+    private static final int BATCH_SIZE = 1000;
+    private static final String URL = "jdbc:h2:mem:flyway_benchmarks;DB_CLOSE_DELAY=-1";
+
+    @Param({ "50000" })
+    public int rows;
+
+    /**
+     * The number of migrations recorded by each invocation of {@link #addAppliedMigrations()}.
+     */
+    @Param({ "1000" })
+    public int inserts;
+
+    private Connection connection;
+    private Database<?> database;
+    private SchemaHistory schemaHistory;
+
+    @Setup
+    public void setUp() throws SQLException {
+        // Keeps the in-memory database alive between the connections Flyway opens and closes
+        connection = DriverManager.getConnection(URL);
+
+        Configuration configuration = Benchmarks.configure().dataSource(URL, "", "").load().getConfiguration();
+        JdbcConnectionFactory jdbcConnectionFactory = new JdbcConnectionFactory(configuration.getDataSource(), configuration, null);
+        DatabaseType databaseType = jdbcConnectionFactory.getDatabaseType();
+        database = databaseType.createDatabase(configuration, jdbcConnectionFactory, null);
+        Schema<?, ?> schema = SchemaHistoryFactory.prepareSchemas(configuration, database).getLeft();
+        schemaHistory = SchemaHistoryFactory.getSchemaHistory(configuration,
+            databaseType.createSqlScriptExecutorFactory(jdbcConnectionFactory, NoopCallbackExecutor.INSTANCE, null),
+            databaseType.createSqlScriptFactory(configuration, new ParsingContext()),
+            database, schema, null);
+        schemaHistory.create(false);
+        insertSchemaHistory();
+    }
+
+    private void insertSchemaHistory() throws SQLException {
+        connection.setAutoCommit(false);
+        try (PreparedStatement insert = connection.prepareStatement("INSERT INTO \"flyway_schema_history\""
+            + " (\"installed_rank\", \"version\", \"description\", \"type\", \"script\", \"checksum\","
+            + " \"installed_by\", \"execution_time\", \"success\") VALUES (?, ?, ?, 'SQL', ?, ?, 'benchmark', ?, ?)")) {
+            for (int i = 1; i <= rows; i++) {
+                insert.setInt(1, i);
+                insert.setString(2, "1." + i);
+                insert.setString(3, "synthetic migration " + i);
+                insert.setString(4, "V1." + i + "__synthetic_migration_" + i + ".sql");
+                insert.setInt(5, i * 31);
+                insert.setInt(6, i % 100);
+                insert.setBoolean(7, true);
+                insert.addBatch();
+                if (i % BATCH_SIZE == 0) {
+                    insert.executeBatch();
+                }
+            }
+            insert.executeBatch();
+        }
+        connection.commit();
+        connection.setAutoCommit(true);
+    }
+
+    /**
+     * Removes the migrations recorded by the previous invocation, so every invocation starts from the same history.
+     */
+    @Setup(Level.Invocation)
+    public void resetSchemaHistory() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.executeUpdate("DELETE FROM \"flyway_schema_history\" WHERE \"installed_rank\" > " + rows);
+        }
+        schemaHistory.clearCache();
+        schemaHistory.allAppliedMigrations();
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        database.close();
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("SHUTDOWN");
+        }
+        connection.close();
+    }
+
+    /**
+     * Measures reading the whole schema history, as done once by every command.
+     */
+    @Benchmark
+    public List<AppliedMigration> allAppliedMigrations() {
+        schemaHistory.clearCache();
+        return schemaHistory.allAppliedMigrations();
+    }
+
+    /**
+     * Measures recording applied migrations one after the other, as done by migrate.
+     */
+    @Benchmark
+    public void addAppliedMigrations() {
+        for (int i = 1; i <= inserts; i++) {
+            int version = rows + i;
+            schemaHistory.addAppliedMigration(MigrationVersion.fromVersion("1." + version), "synthetic migration " + version,
+                CoreMigrationType.SQL, "V1." + version + "__synthetic_migration_" + version + ".sql", version * 31, 1, true);
+        }
+    }
+}
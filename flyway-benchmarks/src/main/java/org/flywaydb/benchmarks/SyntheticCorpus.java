@@ -0,0 +1,208 @@
+/*-
+ * ========================LICENSE_START=================================
+ * flyway-benchmarks
+ * ========================================================================
+ * Copyright (C) 2010 - 2025 Red Gate Software Ltd
+ * ========================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+package org.flywaydb.benchmarks;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * Generates the synthetic migrations, texts and version strings the benchmarks run against. All generators are
+ * deterministic, so runs on different commits measure the same input.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class SyntheticCorpus {
+    private static final long SEED = 20100405L;
+
+    /**
+     * Generates a migration script mixing DDL, DML, comments, quoted delimiters and the block syntax of this dialect.
+     *
+     * @param dialect One of h2, sqlite, postgresql, mysql, sqlserver or spanner.
+     * @param statements The number of statements to generate.
+     */
+    static String sqlScript(String dialect, int statements) {
+        StringBuilder script = new StringBuilder(statements * 96);
+        for (int i = 0; i < statements; i++) {
+            int table = i - i % 6;
+            switch (i % 6) {
+                case 0:
+                    script.append("CREATE TABLE t_").append(table)
+                        .append(" (id INT PRIMARY KEY, name VARCHAR(100) NOT NULL, note VARCHAR(255));\n");
+                    break;
+                case 1:
+                    script.append("-- Seed row ").append(i).append(" of t_").append(table).append('\n')
+                        .append("INSERT INTO t_").append(table).append(" (id, name, note) VALUES (").append(i)
+                        .append(", 'name ''quoted'' ").append(i).append("', NULL);\n");
+                    break;
+                case 2:
+                    script.append("/* Keep the note; it may contain delimiters */\nUPDATE t_").append(table)
+                        .append(" SET note = 'semi;colon ").append(i).append("' WHERE id = ").append(i - 1)
+                        .append(";\n");
+                    break;
+                case 3:
+                    script.append("CREATE VIEW v_").append(i).append(" AS SELECT id, name FROM t_").append(table)
+                        .append(" WHERE name LIKE '%").append(i).append("%';\n");
+                    break;
+                case 4:
+                    appendBlock(script, dialect, table, i);
+                    break;
+                default:
+                    script.append("DELETE FROM t_").append(table).append(" WHERE id = ").append(i).append(";\n");
+            }
+        }
+        return script.toString();
+    }
+
+    private static void appendBlock(StringBuilder script, String dialect, int table, int i) {
+        switch (dialect) {
+            case "h2":
+                script.append("CREATE SEQUENCE s_").append(i).append(" START WITH ").append(i).append(";\n");
+                break;
+            case "sqlite":
+                script.append("CREATE TRIGGER tr_").append(i).append(" AFTER INSERT ON t_").append(table)
+                    .append("\nBEGIN\n    UPDATE t_").append(table)
+                    .append(" SET note = 'x;y' WHERE id = NEW.id;\nEND;\n");
+                break;
+            case "postgresql":
+                script.append("CREATE FUNCTION f_").append(i).append("() RETURNS trigger AS $$\nBEGIN\n")
+                    .append("    NEW.note := 'x;y';\n    RETURN NEW;\nEND;\n$$ LANGUAGE plpgsql;\n");
+                break;
+            case "mysql":
+                script.append("DELIMITER $$\nCREATE PROCEDURE p_").append(i).append("()\nBEGIN\n    UPDATE t_")
+                    .append(table).append(" SET note = 'x;y' WHERE id = ").append(i)
+                    .append(";\n    SELECT 1;\nEND $$\nDELIMITER ;\n");
+                break;
+            case "sqlserver":
+                script.append("CREATE PROCEDURE p_").append(i).append(" AS\nBEGIN\n    UPDATE t_").append(table)
+                    .append(" SET note = 'x;y' WHERE id = ").append(i).append(";\nEND\nGO\n");
+                break;
+            case "spanner":
+                script.append("START BATCH DDL;\nCREATE INDEX i_").append(i).append("_name ON t_").append(table)
+                    .append(" (name);\nCREATE INDEX i_").append(i).append("_note ON t_").append(table)
+                    .append(" (note);\nRUN BATCH;\n");
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown dialect: " + dialect);
+        }
+    }
+
+    /**
+     * Generates a script that inserts, updates and deletes rows of a table with an id and a name column, leaving the
+     * table as it found it, so it can be executed again and again.
+     *
+     * @param table The table to run against.
+     * @param statements The number of statements to generate.
+     */
+    static String dmlScript(String table, int statements) {
+        StringBuilder script = new StringBuilder(statements * 48);
+        for (int i = 0; i < statements; i++) {
+            int id = i / 3;
+            switch (i % 3) {
+                case 0:
+                    script.append("INSERT INTO ").append(table).append(" (id, name) VALUES (").append(id)
+                        .append(", 'name ").append(id).append("');
+");
+                    break;
+                case 1:
+                    script.append("UPDATE ").append(table).append(" SET name = 'renamed ").append(id)
+                        .append("' WHERE id = ").append(id).append(";
+");
+                    break;
+                default:
+                    script.append("DELETE FROM ").append(table).append(" WHERE id = ").append(id).append(";
+");
+            }
+        }
+        // Remove the row of a trailing insert or update, should the count not be a multiple of three
+        if (statements % 3 != 0) {
+            script.append("DELETE FROM ").append(table).append(" WHERE id = ").append(statements / 3).append(";
+");
+        }
+        return script.toString();
+    }
+
+    /**
+     * Generates text of the given length with a placeholder reference roughly every 200 characters.
+     */
+    static String placeholderText(int length, Map<String, String> placeholders) {
+        String[] names = placeholders.keySet().toArray(new String[0]);
+        Random random = new Random(SEED);
+        StringBuilder text = new StringBuilder(length + 256);
+        while (text.length() < length) {
+            int filler = 150 + random.nextInt(100);
+            for (int i = 0; i < filler; i++) {
+                text.append(i % 60 == 59 ? '\n' : (char) ('a' + random.nextInt(26)));
+            }
+            text.append("${").append(names[random.nextInt(names.length)]).append('}');
+        }
+        return text.toString();
+    }
+
+    static Map<String, String> placeholders(int count) {
+        Map<String, String> placeholders = new LinkedHashMap<>();
+        for (int i = 0; i < count; i++) {
+            placeholders.put("placeholder" + i, "value_" + i);
+        }
+        return placeholders;
+    }
+
+    /**
+     * Generates version strings in the shapes seen in real projects: plain, dotted, underscored and date based.
+     */
+    static String[] versions(int count) {
+        Random random = new Random(SEED);
+        String[] versions = new String[count];
+        for (int i = 0; i < count; i++) {
+            switch (i % 4) {
+                case 0:
+                    versions[i] = Integer.toString(i + 1);
+                    break;
+                case 1:
+                    versions[i] = random.nextInt(20) + "." + random.nextInt(50) + "." + random.nextInt(200);
+                    break;
+                case 2:
+                    versions[i] = random.nextInt(20) + "_" + random.nextInt(50);
+                    break;
+                default:
+                    versions[i] = String.format("2024.%02d.%02d.%04d",
+                        1 + random.nextInt(12), 1 + random.nextInt(28), random.nextInt(2400));
+            }
+        }
+        return versions;
+    }
+
+    /**
+     * Writes a tree of small versioned migrations, spread over directories of a hundred files each.
+     */
+    static void migrationTree(Path root, int files) throws IOException {
+        for (int i = 1; i <= files; i++) {
+            Path directory = root.resolve("release_" + (i / 100));
+            Files.createDirectories(directory);
+            Files.write(directory.resolve("V" + i + "__migration_" + i + ".sql"),
+                sqlScript("h2", 6).getBytes(StandardCharsets.UTF_8));
+        }
+    }
+}
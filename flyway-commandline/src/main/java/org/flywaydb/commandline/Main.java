@@ -22,10 +22,16 @@ package org.flywaydb.commandline;
 import static org.flywaydb.commandline.logging.LoggingUtils.getLogCreator;
 import static org.flywaydb.commandline.logging.LoggingUtils.initLogging;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.json.JsonMapper;
-import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -384,41 +390,53 @@ public class Main {
     private static void printJson(final CommandLineArguments commandLineArguments,
         final OperationResult object,
         final ReportDetails reportDetails) throws JsonProcessingException {
-        final String json = convertObjectToJsonString(object, reportDetails);
+        // Stream the result straight to its destinations rather than building a tree of it first, as results of
+        // large schema histories can hold a very large number of migrations
+        final ObjectWriter writer = JsonUtils.getJsonMapper().writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        final JsonOutput jsonOutput = new JsonOutput(object, reportDetails);
 
         if (commandLineArguments.isOutputFileSet()) {
             final Path path = Paths.get(commandLineArguments.getOutputFile());
-            final byte[] bytes = json.getBytes();
 
-            try {
-                Files.write(path,
-                    bytes,
-                    StandardOpenOption.WRITE,
-                    StandardOpenOption.TRUNCATE_EXISTING,
-                    StandardOpenOption.CREATE);
+            try (final Writer fileWriter = Files.newBufferedWriter(path,
+                Charset.defaultCharset(),
+                StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.CREATE)) {
+                writer.writeValue(fileWriter, jsonOutput);
+            } catch (final JsonProcessingException e) {
+                throw e;
             } catch (final IOException e) {
                 throw new FlywayException("Could not write to output file " + commandLineArguments.getOutputFile(), e);
             }
         }
 
-        System.out.println(json);
+        try {
+            writer.writeValue(new OutputStreamWriter(System.out, Charset.defaultCharset()), jsonOutput);
+        } catch (final JsonProcessingException e) {
+            throw e;
+        } catch (final IOException e) {
+            throw new FlywayException("Could not write JSON output", e);
+        }
+        System.out.println();
     }
 
-    private static String convertObjectToJsonString(final Object object, final ReportDetails reportDetails)
-        throws JsonProcessingException {
-        final JsonMapper mapper = JsonUtils.getJsonMapper();
-        final ObjectNode objectNode = mapper.valueToTree(object);
-
-        if (reportDetails != null) {
-            if (reportDetails.getJsonReportFilename() != null) {
-                objectNode.put("jsonReport", reportDetails.getJsonReportFilename());
-            }
-            if (reportDetails.getHtmlReportFilename() != null) {
-                objectNode.put("htmlReport", reportDetails.getHtmlReportFilename());
-            }
+    /**
+     * The JSON output of a command: the fields of its result, followed by the locations of the reports generated for it.
+     */
+    private static final class JsonOutput {
+        @JsonUnwrapped
+        public final Object result;
+        @JsonInclude(Include.NON_NULL)
+        public final String jsonReport;
+        @JsonInclude(Include.NON_NULL)
+        public final String htmlReport;
+
+        private JsonOutput(final Object result, final ReportDetails reportDetails) {
+            this.result = result;
+            this.jsonReport = reportDetails == null ? null : reportDetails.getJsonReportFilename();
+            this.htmlReport = reportDetails == null ? null : reportDetails.getHtmlReportFilename();
         }
-
-        return mapper.writeValueAsString(objectNode);
     }
 
     private static void printUsage(final Boolean fullVersion) {
@@ -46,6 +46,7 @@ import org.flywaydb.core.extensibility.VerbExtension;
 import org.flywaydb.core.internal.callback.CallbackExecutor;
 import org.flywaydb.core.internal.command.*;
 import org.flywaydb.core.internal.command.clean.DbClean;
+import org.flywaydb.core.internal.command.statecache.MigratedStateCache;
 import org.flywaydb.core.internal.database.base.Database;
 import org.flywaydb.core.internal.database.base.Schema;
 import org.flywaydb.core.internal.resolver.CompositeMigrationResolver;
@@ -200,6 +201,20 @@ public class Flyway {
                         }
                     }
 
+                    MigratedStateCache migratedStateCache = MigratedStateCache.create(database, schemas, schemaHistory, migrationResolver, configuration, callbackExecutor);
+                    if (migratedStateCache != null) {
+                        MigrateResult restoredResult = migratedStateCache.restore();
+                        if (restoredResult != null) {
+                            // The snapshot holds the state from right before these ran, as DbMigrate stores it
+                            if (restoredResult.migrationsExecuted > 0) {
+                                callbackExecutor.onMigrateOrUndoEvent(Event.AFTER_MIGRATE_APPLIED);
+                            }
+                            callbackExecutor.onMigrateOrUndoEvent(Event.AFTER_MIGRATE);
+                            callbackExecutor.onOperationFinishEvent(Event.AFTER_MIGRATE_OPERATION_FINISH, restoredResult);
+                            return restoredResult;
+                        }
+                    }
+
                     if (configuration.isCreateSchemas()) {
                         new DbSchemas(database, schemas, schemaHistory, callbackExecutor).create(false);
                     } else if (!defaultSchema.exists()) {
@@ -242,7 +257,7 @@ public class Flyway {
                         schemaHistory.create(false);
                     }
 
-                    MigrateResult result = new DbMigrate(database, schemaHistory, defaultSchema, migrationResolver, configuration, callbackExecutor).migrate();
+                    MigrateResult result = new DbMigrate(database, schemaHistory, defaultSchema, migrationResolver, configuration, callbackExecutor, migratedStateCache).migrate();
 
                     callbackExecutor.onOperationFinishEvent(Event.AFTER_MIGRATE_OPERATION_FINISH, result);
 
@@ -22,11 +22,16 @@ package org.flywaydb.core.api;
 import lombok.Getter;
 
 import java.math.BigInteger;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
 
 public final class MigrationVersion implements Comparable<MigrationVersion> {
+    // Declared first, as they are needed to construct the predefined versions below
+    private static final long[] NO_PARTS = new long[0];
+    private static final BigInteger[] NO_BIG_PARTS = new BigInteger[0];
+
     /**
      * Version for an empty schema.
      */
@@ -49,9 +54,25 @@ public final class MigrationVersion implements Comparable<MigrationVersion> {
      */
     private static final Pattern SPLIT_REGEX = Pattern.compile("\\.(?=\\d)");
     /**
-     * The individual parts this version string is composed of. Ex. 1.2.3.4.0 -> [1, 2, 3, 4, 0]
+     * The maximum number of versions kept in the intern cache. Once full, further versions are parsed on every call.
+     */
+    private static final int MAX_INTERNED_VERSIONS = 10000;
+    /**
+     * Previously parsed versions, keyed by their version string, so that known versions are neither parsed nor
+     * allocated again.
+     */
+    private static final Map<String, MigrationVersion> INTERNED_VERSIONS = new ConcurrentHashMap<>();
+
+    /**
+     * The individual parts this version string is composed of, if all of them fit in a long. Ex. 1.2.3.4.0 -> [1, 2, 3, 4]
+     */
+    private final long[] parts;
+    /**
+     * The individual parts this version string is composed of, if at least one of them does not fit in a long.
+     * Empty otherwise.
      */
-    private final List<BigInteger> versionParts;
+    private final BigInteger[] bigParts;
+    private final int hash;
     /**
      * The printable text to represent the version.
      */
@@ -76,8 +97,10 @@ public final class MigrationVersion implements Comparable<MigrationVersion> {
      * a marker for the latest version that has been applied to the database.
      * @return The MigrationVersion
      */
-    @SuppressWarnings("ConstantConditions")
     public static MigrationVersion fromVersion(String version) {
+        if (version == null) {
+            return EMPTY;
+        }
         if ("current".equalsIgnoreCase(version)) {
             return CURRENT;
         }
@@ -87,9 +110,27 @@ public final class MigrationVersion implements Comparable<MigrationVersion> {
         if ("latest".equalsIgnoreCase(version) || LATEST.getVersion().equals(version)) {
             return LATEST;
         }
-        if (version == null) {
-            return EMPTY;
+
+        MigrationVersion interned = INTERNED_VERSIONS.get(version);
+        if (interned != null) {
+            return interned;
+        }
+
+        MigrationVersion migrationVersion = parse(version);
+        if (INTERNED_VERSIONS.size() >= MAX_INTERNED_VERSIONS) {
+            return migrationVersion;
         }
+        interned = INTERNED_VERSIONS.putIfAbsent(version, migrationVersion);
+        return interned == null ? migrationVersion : interned;
+    }
+
+    /**
+     * Parses this version string into a new MigrationVersion, bypassing the intern cache.
+     *
+     * @param version The version string, other than one of the predefined versions.
+     * @return The new MigrationVersion.
+     */
+    static MigrationVersion parse(String version) {
         return new MigrationVersion(version);
     }
 
@@ -101,7 +142,16 @@ public final class MigrationVersion implements Comparable<MigrationVersion> {
      */
     private MigrationVersion(String version) {
         String normalizedVersion = version.replace('_', '.');
-        this.versionParts = tokenize(normalizedVersion);
+        long[] longParts = tokenize(normalizedVersion);
+        if (longParts == null) {
+            BigInteger[] tokenizedBigParts = tokenizeBig(normalizedVersion);
+            longParts = toLongParts(tokenizedBigParts);
+            this.bigParts = longParts == null ? tokenizedBigParts : NO_BIG_PARTS;
+        } else {
+            this.bigParts = NO_BIG_PARTS;
+        }
+        this.parts = longParts == null ? NO_PARTS : longParts;
+        this.hash = longParts == null ? Arrays.hashCode(bigParts) : Arrays.hashCode(longParts);
         this.displayText = normalizedVersion;
         this.rawVersion = version;
     }
@@ -112,8 +162,14 @@ public final class MigrationVersion implements Comparable<MigrationVersion> {
      * @param displayText The alternative text to display instead of the version number.
      */
     private MigrationVersion(BigInteger version, String displayText) {
-        this.versionParts = new ArrayList<>();
-        this.versionParts.add(version);
+        if (version == null) {
+            this.parts = NO_PARTS;
+            this.bigParts = new BigInteger[] { null };
+        } else {
+            this.parts = new long[] { version.longValue() };
+            this.bigParts = NO_BIG_PARTS;
+        }
+        this.hash = version == null ? 0 : Arrays.hashCode(parts);
         this.displayText = displayText;
         this.rawVersion = displayText;
         this.predefined = true;
@@ -128,26 +184,26 @@ public final class MigrationVersion implements Comparable<MigrationVersion> {
      * @return Numeric version as String
      */
     public String getVersion() {
-        if (this.equals(EMPTY)) {
+        if (this == EMPTY) {
             return null;
         }
-        if (this.equals(LATEST)) {
+        if (this == LATEST) {
             return Long.toString(Long.MAX_VALUE);
         }
         return displayText;
     }
 
     public String getName() {
-        if (this.equals(EMPTY)) {
+        if (this == EMPTY) {
             return null;
         }
-        if (this.equals(LATEST)) {
+        if (this == LATEST) {
             return "latest";
         }
-        if (this.equals(CURRENT)) {
+        if (this == CURRENT) {
             return "current";
         }
-        if (this.equals(NEXT)) {
+        if (this == NEXT) {
             return "next";
         }
         return displayText;
@@ -169,7 +225,7 @@ public final class MigrationVersion implements Comparable<MigrationVersion> {
 
     @Override
     public int hashCode() {
-        return versionParts == null ? 0 : versionParts.hashCode();
+        return hash;
     }
 
     /**
@@ -216,24 +272,24 @@ public final class MigrationVersion implements Comparable<MigrationVersion> {
      * @return The major version.
      */
     public BigInteger getMajor() {
-        return versionParts.get(0);
+        return getPart(0);
     }
 
     /**
      * @return The major version as a string.
      */
     public String getMajorAsString() {
-        return versionParts.get(0).toString();
+        return getPart(0).toString();
     }
 
     /**
      * @return The minor version as a string.
      */
     public String getMinorAsString() {
-        if (versionParts.size() == 1) {
+        if (getNumberOfParts() == 1) {
             return "0";
         }
-        return versionParts.get(1).toString();
+        return getPart(1).toString();
     }
 
     @Override
@@ -277,11 +333,23 @@ public final class MigrationVersion implements Comparable<MigrationVersion> {
         if (o == LATEST) {
             return -1;
         }
-        final List<BigInteger> parts1 = versionParts;
-        final List<BigInteger> parts2 = o.versionParts;
-        int largestNumberOfParts = Math.max(parts1.size(), parts2.size());
+
+        if (bigParts.length == 0 && o.bigParts.length == 0) {
+            final long[] parts1 = parts;
+            final long[] parts2 = o.parts;
+            int largestNumberOfParts = Math.max(parts1.length, parts2.length);
+            for (int i = 0; i < largestNumberOfParts; i++) {
+                final int compared = Long.compare(i < parts1.length ? parts1[i] : 0, i < parts2.length ? parts2[i] : 0);
+                if (compared != 0) {
+                    return compared;
+                }
+            }
+            return 0;
+        }
+
+        int largestNumberOfParts = Math.max(getNumberOfParts(), o.getNumberOfParts());
         for (int i = 0; i < largestNumberOfParts; i++) {
-            final int compared = getOrZero(parts1, i).compareTo(getOrZero(parts2, i));
+            final int compared = getPartOrZero(i).compareTo(o.getPartOrZero(i));
             if (compared != 0) {
                 return compared;
             }
@@ -289,33 +357,109 @@ public final class MigrationVersion implements Comparable<MigrationVersion> {
         return 0;
     }
 
-    private BigInteger getOrZero(List<BigInteger> elements, int i) {
-        return i < elements.size() ? elements.get(i) : BigInteger.ZERO;
+    private int getNumberOfParts() {
+        return bigParts.length == 0 ? parts.length : bigParts.length;
+    }
+
+    private BigInteger getPart(int i) {
+        return bigParts.length == 0 ? BigInteger.valueOf(parts[i]) : bigParts[i];
+    }
+
+    private BigInteger getPartOrZero(int i) {
+        return i < getNumberOfParts() ? getPart(i) : BigInteger.ZERO;
     }
 
     /**
-     * Splits this string into list of BigIntegers
+     * Splits this string of dot-separated ASCII digits into its parts, without trailing zero parts.
      *
      * @param versionStr The string to split.
-     * @return The resulting array.
+     * @return The resulting array, or {@code null} if the string is not made of dot-separated ASCII digits only or one
+     * of its parts does not fit in a long.
      */
-    private List<BigInteger> tokenize(String versionStr) {
-        List<BigInteger> parts = new ArrayList<>();
-        for (String part : SPLIT_REGEX.split(versionStr)) {
-            parts.add(toBigInteger(versionStr, part));
+    private static long[] tokenize(String versionStr) {
+        int length = versionStr.length();
+        if (length == 0) {
+            return null;
         }
 
-        for (int i = parts.size() - 1; i > 0; i--) {
-            if (!parts.get(i).equals(BigInteger.ZERO)) {
-                break;
+        long[] tokenized = new long[1 + countDots(versionStr)];
+        int count = 0;
+        long part = 0;
+        boolean partHasDigits = false;
+        for (int i = 0; i < length; i++) {
+            char c = versionStr.charAt(i);
+            if (c >= '0' && c <= '9') {
+                int digit = c - '0';
+                if (part > (Long.MAX_VALUE - digit) / 10) {
+                    return null;
+                }
+                part = part * 10 + digit;
+                partHasDigits = true;
+            } else if (c == '.' && partHasDigits) {
+                tokenized[count++] = part;
+                part = 0;
+                partHasDigits = false;
+            } else {
+                return null;
             }
-            parts.remove(i);
         }
+        if (!partHasDigits) {
+            return null;
+        }
+        tokenized[count++] = part;
+
+        while (count > 1 && tokenized[count - 1] == 0) {
+            count--;
+        }
+        return count == tokenized.length ? tokenized : Arrays.copyOf(tokenized, count);
+    }
 
-        return parts;
+    private static int countDots(String versionStr) {
+        int dots = 0;
+        for (int i = 0; i < versionStr.length(); i++) {
+            if (versionStr.charAt(i) == '.') {
+                dots++;
+            }
+        }
+        return dots;
+    }
+
+    /**
+     * Splits this string into BigIntegers, without trailing zero parts. Used for anything {@link #tokenize(String)}
+     * can't handle, including invalid versions.
+     *
+     * @param versionStr The string to split.
+     * @return The resulting array.
+     */
+    private static BigInteger[] tokenizeBig(String versionStr) {
+        String[] split = SPLIT_REGEX.split(versionStr);
+        BigInteger[] tokenized = new BigInteger[split.length];
+        for (int i = 0; i < split.length; i++) {
+            tokenized[i] = toBigInteger(versionStr, split[i]);
+        }
+
+        int count = tokenized.length;
+        while (count > 1 && tokenized[count - 1].equals(BigInteger.ZERO)) {
+            count--;
+        }
+        return count == tokenized.length ? tokenized : Arrays.copyOf(tokenized, count);
+    }
+
+    /**
+     * @return These parts as longs, or {@code null} if at least one of them does not fit in a long.
+     */
+    private static long[] toLongParts(BigInteger[] bigIntegerParts) {
+        long[] longParts = new long[bigIntegerParts.length];
+        for (int i = 0; i < bigIntegerParts.length; i++) {
+            if (bigIntegerParts[i].bitLength() > 63) {
+                return null;
+            }
+            longParts[i] = bigIntegerParts[i].longValue();
+        }
+        return longParts;
     }
 
-    private BigInteger toBigInteger(String versionStr, String part) {
+    private static BigInteger toBigInteger(String versionStr, String part) {
         try {
             return new BigInteger(part);
         } catch (NumberFormatException e) {
@@ -19,12 +19,26 @@
  */
 package org.flywaydb.core.api.logging;
 
+import java.util.function.Supplier;
+
 public interface Log {
 
     boolean isDebugEnabled();
 
     void debug(String message);
 
+    /**
+     * Logs a debug message which is only built when debug logging is enabled. Use this rather than
+     * {@link #debug(String)} for messages logged for every resource or statement.
+     *
+     * @param message The supplier of the message.
+     */
+    default void debug(Supplier<String> message) {
+        if (isDebugEnabled()) {
+            debug(message.get());
+        }
+    }
+
     void info(String message);
 
     void warn(String message);
@@ -0,0 +1,114 @@
+/*-
+ * ========================LICENSE_START=================================
+ * flyway-core
+ * ========================================================================
+ * Copyright (C) 2010 - 2025 Red Gate Software Ltd
+ * ========================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+package org.flywaydb.core.api.output;
+
+import java.util.AbstractList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.RandomAccess;
+
+/**
+ * Base class for the lists of command outputs which store their rows as parallel column arrays instead of one object
+ * per row. Rows are materialized on access, so changes made to a returned row are not reflected in the list.
+ */
+abstract class ColumnarList<T> extends AbstractList<T> implements RandomAccess {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final Map<String, String> pool = new HashMap<>();
+    private int size;
+
+    @Override
+    public final int size() {
+        return size;
+    }
+
+    @Override
+    public final T get(int index) {
+        checkIndex(index);
+        return getRow(index);
+    }
+
+    @Override
+    public final boolean add(T row) {
+        addRow(row, reserveRow());
+        return true;
+    }
+
+    @Override
+    public final T remove(int index) {
+        T row = get(index);
+        removeRange(index, index + 1);
+        return row;
+    }
+
+    @Override
+    public final void clear() {
+        removeRange(0, size);
+    }
+
+    @Override
+    protected final void removeRange(int fromIndex, int toIndex) {
+        int newSize = size - (toIndex - fromIndex);
+        moveRows(toIndex, fromIndex, size - toIndex);
+        clearRows(newSize, size);
+        size = newSize;
+        modCount++;
+    }
+
+    /**
+     * @return The index of a newly appended row whose columns must then be filled in.
+     */
+    final int reserveRow() {
+        if (size == capacity()) {
+            resize(Math.max(INITIAL_CAPACITY, size + (size >> 1)));
+        }
+        modCount++;
+        return size++;
+    }
+
+    final void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    /**
+     * Shares a single instance between all occurrences of the same value in a low-cardinality column.
+     */
+    final String pooled(String value) {
+        if (value == null) {
+            return null;
+        }
+        String pooledValue = pool.putIfAbsent(value, value);
+        return pooledValue == null ? value : pooledValue;
+    }
+
+    abstract int capacity();
+
+    abstract void resize(int capacity);
+
+    abstract T getRow(int index);
+
+    abstract void addRow(T row, int index);
+
+    abstract void moveRows(int fromIndex, int toIndex, int length);
+
+    abstract void clearRows(int fromIndex, int toIndex);
+}
@@ -49,9 +49,22 @@ public class CommandResultFactory {
 
         migrationInfos = removeAvailableUndoMigrations(migrationInfos);
 
-        final List<InfoOutput> infoOutputs = new ArrayList<>();
+        final Map<MigrationVersion, MigrationInfo> undoMigrationsByVersion = getUndoMigrationsByVersion(undoableMigrations);
+        final InfoOutputList infoOutputs = new InfoOutputList();
         for (final MigrationInfo migrationInfo : migrationInfos) {
-            infoOutputs.add(createInfoOutput(undoableMigrations, migrationInfo));
+            infoOutputs.add(getCategory(migrationInfo),
+                            migrationInfo.getVersion() != null ? migrationInfo.getVersion().getVersion() : "",
+                            migrationInfo.getVersion() != null ? migrationInfo.getVersion().getRawVersion() : "",
+                            migrationInfo.getDescription(),
+                            migrationInfo.getType() != null ? migrationInfo.getType().toString() : "",
+                            migrationInfo.getInstalledOn(),
+                            migrationInfo.getState().getDisplayName(),
+                            getUndoableStatus(migrationInfo, undoMigrationsByVersion),
+                            migrationInfo.getPhysicalLocation() != null ? migrationInfo.getPhysicalLocation() : "",
+                            getUndoablePath(migrationInfo, undoMigrationsByVersion),
+                            migrationInfo.getInstalledBy() != null ? migrationInfo.getInstalledBy() : "",
+                            migrationInfo.getShouldExecuteExpression(),
+                            migrationInfo.getExecutionTime() != null ? migrationInfo.getExecutionTime() : 0);
         }
 
         final MigrationVersion currentSchemaVersion = current == null ? MigrationVersion.EMPTY : current.getVersion();
@@ -97,6 +110,7 @@ public class CommandResultFactory {
     }
 
     public static InfoOutput createInfoOutput(Set<MigrationInfo> undoableMigrations, MigrationInfo migrationInfo) {
+        final Map<MigrationVersion, MigrationInfo> undoMigrationsByVersion = getUndoMigrationsByVersion(undoableMigrations);
         return new InfoOutput(getCategory(migrationInfo),
                               migrationInfo.getVersion() != null ? migrationInfo.getVersion().getVersion() : "",
                               migrationInfo.getVersion() != null ? migrationInfo.getVersion().getRawVersion() : "",
@@ -104,9 +118,9 @@ public class CommandResultFactory {
                               migrationInfo.getType() != null ? migrationInfo.getType().toString() : "",
                               migrationInfo.getInstalledOn() != null ? migrationInfo.getInstalledOn().toInstant().toString() : "",
                               migrationInfo.getState().getDisplayName(),
-                              getUndoableStatus(migrationInfo, undoableMigrations),
+                              getUndoableStatus(migrationInfo, undoMigrationsByVersion),
                               migrationInfo.getPhysicalLocation() != null ? migrationInfo.getPhysicalLocation() : "",
-                              getUndoablePath(migrationInfo, undoableMigrations),
+                              getUndoablePath(migrationInfo, undoMigrationsByVersion),
                               migrationInfo.getInstalledBy() != null ? migrationInfo.getInstalledBy() : "",
                               migrationInfo.getShouldExecuteExpression(),
                               migrationInfo.getExecutionTime() != null ? migrationInfo.getExecutionTime() : 0);
@@ -145,9 +159,9 @@ public class CommandResultFactory {
         return new RepairOutput(am.getVersion() != null ? am.getVersion().getVersion() : "", am.getDescription(), "");
     }
 
-    private static String getUndoableStatus(MigrationInfo migrationInfo, Set<MigrationInfo> undoableMigrations) {
+    private static String getUndoableStatus(MigrationInfo migrationInfo, Map<MigrationVersion, MigrationInfo> undoMigrationsByVersion) {
         if (migrationInfo.getVersion() != null && !migrationInfo.getType().isUndo() && !migrationInfo.getState().equals(MigrationState.UNDONE)) {
-            if (!migrationInfo.getState().isFailed() && undoableMigrations.stream().anyMatch(u -> u.getVersion().equals(migrationInfo.getVersion()))) {
+            if (!migrationInfo.getState().isFailed() && undoMigrationsByVersion.containsKey(migrationInfo.getVersion())) {
                 return "Yes";
             }
             return "No";
@@ -155,19 +169,24 @@ public class CommandResultFactory {
         return "";
     }
 
-    private static String getUndoablePath(MigrationInfo migrationInfo, Set<MigrationInfo> undoableMigrations) {
+    private static String getUndoablePath(MigrationInfo migrationInfo, Map<MigrationVersion, MigrationInfo> undoMigrationsByVersion) {
         if (migrationInfo.getVersion() != null && !migrationInfo.getType().isUndo() && !migrationInfo.getState().equals(MigrationState.UNDONE)) {
             if (!migrationInfo.getState().isFailed()) {
-                return undoableMigrations.stream()
-                        .filter(u -> u.getVersion().equals(migrationInfo.getVersion()))
-                        .findFirst()
-                        .map(MigrationInfo::getPhysicalLocation)
-                        .orElse("");
+                final MigrationInfo undoMigration = undoMigrationsByVersion.get(migrationInfo.getVersion());
+                return undoMigration != null && undoMigration.getPhysicalLocation() != null ? undoMigration.getPhysicalLocation() : "";
             }
         }
         return "";
     }
 
+    private static Map<MigrationVersion, MigrationInfo> getUndoMigrationsByVersion(Set<MigrationInfo> undoableMigrations) {
+        final Map<MigrationVersion, MigrationInfo> undoMigrationsByVersion = new HashMap<>();
+        for (final MigrationInfo undoMigration : undoableMigrations) {
+            undoMigrationsByVersion.putIfAbsent(undoMigration.getVersion(), undoMigration);
+        }
+        return undoMigrationsByVersion;
+    }
+
     private static Set<MigrationInfo> getUndoMigrations(MigrationInfo[] migrationInfos) {
         return Arrays.stream(migrationInfos)
                 .filter(m -> m.getType().isUndo())
@@ -0,0 +1,241 @@
+/*-
+ * ========================LICENSE_START=================================
+ * flyway-core
+ * ========================================================================
+ * Copyright (C) 2010 - 2025 Red Gate Software Ltd
+ * ========================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+package org.flywaydb.core.api.output;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import java.io.IOException;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Date;
+
+/**
+ * A list of {@link InfoOutput}s stored column by column, so that the info of schema histories with a very large number
+ * of migrations doesn't need an object per migration. Repeated values such as the category, type, state and installer
+ * are shared, and the installation time is kept as a timestamp. It is serialized to JSON row by row, straight from
+ * the columns.
+ */
+@JsonSerialize(using = InfoOutputList.Serializer.class)
+public final class InfoOutputList extends ColumnarList<InfoOutput> {
+    private static final int NOT_INSTALLED = -1;
+    private static final int NULL_INSTALLED_ON = -2;
+    private static final int TEXT_INSTALLED_ON = -3;
+
+    private String[] category = new String[0];
+    private String[] version = new String[0];
+    private String[] rawVersion = new String[0];
+    private String[] description = new String[0];
+    private String[] type = new String[0];
+    private long[] installedOnSeconds = new long[0];
+    private int[] installedOnNanos = new int[0];
+    /**
+     * Only allocated once an installation time is added which can't be stored as a timestamp.
+     */
+    private String[] installedOnText;
+    private String[] state = new String[0];
+    private String[] undoable = new String[0];
+    private String[] filepath = new String[0];
+    private String[] undoFilepath = new String[0];
+    private String[] installedBy = new String[0];
+    private String[] shouldExecuteExpression = new String[0];
+    private int[] executionTime = new int[0];
+
+    /**
+     * Adds a row without creating an intermediate {@link InfoOutput}.
+     */
+    void add(String category, String version, String rawVersion, String description, String type, Date installedOn,
+        String state, String undoable, String filepath, String undoFilepath, String installedBy,
+        String shouldExecuteExpression, int executionTime) {
+        int row = reserveRow();
+        setColumns(row, category, version, rawVersion, description, type, state, undoable, filepath, undoFilepath,
+            installedBy, shouldExecuteExpression, executionTime);
+        if (installedOn == null) {
+            installedOnNanos[row] = NOT_INSTALLED;
+        } else {
+            Instant instant = installedOn.toInstant();
+            installedOnSeconds[row] = instant.getEpochSecond();
+            installedOnNanos[row] = instant.getNano();
+        }
+    }
+
+    @Override
+    void addRow(InfoOutput row, int index) {
+        setColumns(index, row.category, row.version, row.rawVersion, row.description, row.type, row.state,
+            row.undoable, row.filepath, row.undoFilepath, row.installedBy, row.shouldExecuteExpression,
+            row.executionTime);
+        setInstalledOn(index, row.installedOnUTC);
+    }
+
+    @Override
+    InfoOutput getRow(int index) {
+        InfoOutput row = new InfoOutput(category[index], version[index], rawVersion[index], description[index],
+            type[index], getInstalledOnUTC(index), state[index], undoable[index], filepath[index], undoFilepath[index],
+            installedBy[index], executionTime[index]);
+        row.shouldExecuteExpression = shouldExecuteExpression[index];
+        return row;
+    }
+
+    /**
+     * @return The state of the migration at this index, without materializing its row.
+     */
+    public String getState(int index) {
+        checkIndex(index);
+        return state[index];
+    }
+
+    /**
+     * @return The installation time of the migration at this index, without materializing its row.
+     */
+    public String getInstalledOnUTC(int index) {
+        checkIndex(index);
+        switch (installedOnNanos[index]) {
+            case NOT_INSTALLED:
+                return "";
+            case NULL_INSTALLED_ON:
+                return null;
+            case TEXT_INSTALLED_ON:
+                return installedOnText[index];
+            default:
+                return Instant.ofEpochSecond(installedOnSeconds[index], installedOnNanos[index]).toString();
+        }
+    }
+
+    private void setColumns(int row, String category, String version, String rawVersion, String description,
+        String type, String state, String undoable, String filepath, String undoFilepath, String installedBy,
+        String shouldExecuteExpression, int executionTime) {
+        this.category[row] = pooled(category);
+        this.version[row] = version;
+        this.rawVersion[row] = rawVersion != null && rawVersion.equals(version) ? version : rawVersion;
+        this.description[row] = description;
+        this.type[row] = pooled(type);
+        this.state[row] = pooled(state);
+        this.undoable[row] = pooled(undoable);
+        this.filepath[row] = filepath;
+        this.undoFilepath[row] = pooled(undoFilepath);
+        this.installedBy[row] = pooled(installedBy);
+        this.shouldExecuteExpression[row] = pooled(shouldExecuteExpression);
+        this.executionTime[row] = executionTime;
+    }
+
+    private void setInstalledOn(int row, String installedOnUTC) {
+        if (installedOnUTC == null) {
+            installedOnNanos[row] = NULL_INSTALLED_ON;
+            return;
+        }
+        if (installedOnUTC.isEmpty()) {
+            installedOnNanos[row] = NOT_INSTALLED;
+            return;
+        }
+        try {
+            Instant instant = Instant.parse(installedOnUTC);
+            if (instant.toString().equals(installedOnUTC)) {
+                installedOnSeconds[row] = instant.getEpochSecond();
+                installedOnNanos[row] = instant.getNano();
+                return;
+            }
+        } catch (DateTimeException e) {
+            // Not a timestamp, keep the text as is
+        }
+        if (installedOnText == null) {
+            installedOnText = new String[capacity()];
+        }
+        installedOnText[row] = installedOnUTC;
+        installedOnNanos[row] = TEXT_INSTALLED_ON;
+    }
+
+    @Override
+    int capacity() {
+        return executionTime.length;
+    }
+
+    @Override
+    void resize(int capacity) {
+        category = Arrays.copyOf(category, capacity);
+        version = Arrays.copyOf(version, capacity);
+        rawVersion = Arrays.copyOf(rawVersion, capacity);
+        description = Arrays.copyOf(description, capacity);
+        type = Arrays.copyOf(type, capacity);
+        installedOnSeconds = Arrays.copyOf(installedOnSeconds, capacity);
+        installedOnNanos = Arrays.copyOf(installedOnNanos, capacity);
+        if (installedOnText != null) {
+            installedOnText = Arrays.copyOf(installedOnText, capacity);
+        }
+        state = Arrays.copyOf(state, capacity);
+        undoable = Arrays.copyOf(undoable, capacity);
+        filepath = Arrays.copyOf(filepath, capacity);
+        undoFilepath = Arrays.copyOf(undoFilepath, capacity);
+        installedBy = Arrays.copyOf(installedBy, capacity);
+        shouldExecuteExpression = Arrays.copyOf(shouldExecuteExpression, capacity);
+        executionTime = Arrays.copyOf(executionTime, capacity);
+    }
+
+    @Override
+    void moveRows(int fromIndex, int toIndex, int length) {
+        for (Object column : new Object[] { category, version, rawVersion, description, type, installedOnSeconds,
+            installedOnNanos, installedOnText, state, undoable, filepath, undoFilepath, installedBy,
+            shouldExecuteExpression, executionTime }) {
+            if (column != null) {
+                System.arraycopy(column, fromIndex, column, toIndex, length);
+            }
+        }
+    }
+
+    @Override
+    void clearRows(int fromIndex, int toIndex) {
+        for (String[] column : new String[][] { category, version, rawVersion, description, type, installedOnText,
+            state, undoable, filepath, undoFilepath, installedBy, shouldExecuteExpression }) {
+            if (column != null) {
+                Arrays.fill(column, fromIndex, toIndex, null);
+            }
+        }
+    }
+
+    public static class Serializer extends StdSerializer<InfoOutputList> {
+        public Serializer() {
+            super(InfoOutputList.class);
+        }
+
+        @Override
+        public void serialize(InfoOutputList list, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartArray(list, list.size());
+            for (int i = 0; i < list.size(); i++) {
+                gen.writeStartObject();
+                gen.writeStringField("category", list.category[i]);
+                gen.writeStringField("version", list.version[i]);
+                gen.writeStringField("rawVersion", list.rawVersion[i]);
+                gen.writeStringField("description", list.description[i]);
+                gen.writeStringField("type", list.type[i]);
+                gen.writeStringField("installedOnUTC", list.getInstalledOnUTC(i));
+                gen.writeStringField("state", list.state[i]);
+                gen.writeStringField("undoable", list.undoable[i]);
+                gen.writeStringField("filepath", list.filepath[i]);
+                gen.writeStringField("undoFilepath", list.undoFilepath[i]);
+                gen.writeStringField("installedBy", list.installedBy[i]);
+                gen.writeStringField("shouldExecuteExpression", list.shouldExecuteExpression[i]);
+                gen.writeNumberField("executionTime", list.executionTime[i]);
+                gen.writeEndObject();
+            }
+            gen.writeEndArray();
+        }
+    }
+}
@@ -0,0 +1,139 @@
+/*-
+ * ========================LICENSE_START=================================
+ * flyway-core
+ * ========================================================================
+ * Copyright (C) 2010 - 2025 Red Gate Software Ltd
+ * ========================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+package org.flywaydb.core.api.output;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * A list of {@link MigrateOutput}s stored column by column, so that migrating a very large number of migrations
+ * doesn't need an object per migration. Repeated values such as the category and type are shared. It is serialized
+ * to JSON row by row, straight from the columns.
+ */
+@JsonSerialize(using = MigrateOutputList.Serializer.class)
+public final class MigrateOutputList extends ColumnarList<MigrateOutput> {
+    private static final byte ROLLED_BACK_NULL = 0;
+    private static final byte ROLLED_BACK_FALSE = 1;
+    private static final byte ROLLED_BACK_TRUE = 2;
+
+    private String[] category = new String[0];
+    private String[] version = new String[0];
+    private String[] description = new String[0];
+    private String[] type = new String[0];
+    private String[] filepath = new String[0];
+    private int[] executionTime = new int[0];
+    private byte[] rolledBack = new byte[0];
+
+    @Override
+    void addRow(MigrateOutput row, int index) {
+        category[index] = pooled(row.category);
+        version[index] = row.version;
+        description[index] = row.description;
+        type[index] = pooled(row.type);
+        filepath[index] = row.filepath;
+        executionTime[index] = row.executionTime;
+        rolledBack[index] = row.rolledBack == null
+            ? ROLLED_BACK_NULL
+            : row.rolledBack ? ROLLED_BACK_TRUE : ROLLED_BACK_FALSE;
+    }
+
+    @Override
+    MigrateOutput getRow(int index) {
+        return new MigrateOutput(category[index], version[index], description[index], type[index], filepath[index],
+            executionTime[index], rolledBack[index] == ROLLED_BACK_NULL ? null : rolledBack[index] == ROLLED_BACK_TRUE);
+    }
+
+    /**
+     * @return The version of the migration at this index, without materializing its row.
+     */
+    public String getVersion(int index) {
+        checkIndex(index);
+        return version[index];
+    }
+
+    /**
+     * @return The sum of the execution times of all migrations in this list.
+     */
+    public long getTotalExecutionTime() {
+        long total = 0;
+        for (int i = 0; i < size(); i++) {
+            total += executionTime[i];
+        }
+        return total;
+    }
+
+    @Override
+    int capacity() {
+        return executionTime.length;
+    }
+
+    @Override
+    void resize(int capacity) {
+        category = Arrays.copyOf(category, capacity);
+        version = Arrays.copyOf(version, capacity);
+        description = Arrays.copyOf(description, capacity);
+        type = Arrays.copyOf(type, capacity);
+        filepath = Arrays.copyOf(filepath, capacity);
+        executionTime = Arrays.copyOf(executionTime, capacity);
+        rolledBack = Arrays.copyOf(rolledBack, capacity);
+    }
+
+    @Override
+    void moveRows(int fromIndex, int toIndex, int length) {
+        for (Object column : new Object[] { category, version, description, type, filepath, executionTime,
+            rolledBack }) {
+            System.arraycopy(column, fromIndex, column, toIndex, length);
+        }
+    }
+
+    @Override
+    void clearRows(int fromIndex, int toIndex) {
+        for (String[] column : new String[][] { category, version, description, type, filepath }) {
+            Arrays.fill(column, fromIndex, toIndex, null);
+        }
+    }
+
+    public static class Serializer extends StdSerializer<MigrateOutputList> {
+        public Serializer() {
+            super(MigrateOutputList.class);
+        }
+
+        @Override
+        public void serialize(MigrateOutputList list, JsonGenerator gen, SerializerProvider provider)
+            throws IOException {
+            gen.writeStartArray(list, list.size());
+            for (int i = 0; i < list.size(); i++) {
+                gen.writeStartObject();
+                gen.writeStringField("category", list.category[i]);
+                gen.writeStringField("version", list.version[i]);
+                gen.writeStringField("description", list.description[i]);
+                gen.writeStringField("type", list.type[i]);
+                gen.writeStringField("filepath", list.filepath[i]);
+                gen.writeNumberField("executionTime", list.executionTime[i]);
+                gen.writeEndObject();
+            }
+            gen.writeEndArray();
+        }
+    }
+}
@@ -42,6 +42,10 @@ public class MigrateResult extends HtmlResult {
     public String database;
     public List<String> warnings = new ArrayList<>();
     public String databaseType;
+    /**
+     * The number of times a migration transaction was restarted after a conflict with another transaction.
+     */
+    public int transactionRetries;
 
     private transient Map<MigrationKey, MigrateOutput> pendingMigrations = new HashMap<>();
     private transient Map<MigrationKey, MigrateOutput> failedMigrations = new HashMap<>();
@@ -49,7 +53,7 @@ public class MigrateResult extends HtmlResult {
 
     public MigrateResult() {
         super(LocalDateTime.now(), COMMAND);
-        migrations = new ArrayList<>();
+        migrations = new MigrateOutputList();
     }
 
     public MigrateResult(final String flywayVersion,
@@ -60,7 +64,7 @@ public class MigrateResult extends HtmlResult {
         this.flywayVersion = flywayVersion;
         this.database = database;
         this.schemaName = schemaName;
-        this.migrations = new ArrayList<>();
+        this.migrations = new MigrateOutputList();
         this.success = true;
         this.databaseType = databaseType;
     }
@@ -80,6 +84,7 @@ public class MigrateResult extends HtmlResult {
         this.targetSchemaVersion = migrateResult.targetSchemaVersion;
         this.warnings = migrateResult.warnings;
         this.databaseType = migrateResult.databaseType;
+        this.transactionRetries = migrateResult.transactionRetries;
     }
 
     public void putSuccessfulMigration(final MigrationInfo migrationInfo, final int executionTime) {
@@ -127,6 +132,10 @@ public class MigrateResult extends HtmlResult {
             return 0;
         }
 
+        if (migrations instanceof final MigrateOutputList migrateOutputs) {
+            return migrateOutputs.getTotalExecutionTime();
+        }
+
         return migrations.stream()
             .filter(Objects::nonNull)
             .mapToLong(migrateOutput -> migrateOutput.executionTime)
@@ -166,6 +166,12 @@ public sealed interface ExperimentalDatabase <T> extends Plugin, AutoCloseable p
      * Executes the current batch against the database.
      */
     void doExecuteBatch();
+
+    /**
+     * Releases the resources kept open between the execution units of a single script.
+     */
+    default void endExecution() {
+    }
     
     int getBatchSize();
         
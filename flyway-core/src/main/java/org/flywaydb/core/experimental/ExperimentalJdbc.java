@@ -40,6 +40,14 @@ import org.flywaydb.core.internal.util.AsciiTable;
 
 public abstract class ExperimentalJdbc <T> extends AbstractExperimentalDatabase <T> {
     protected Connection connection;
+    /**
+     * The statement shared by the execution units of a script until {@link #endExecution()}.
+     */
+    private Statement executionStatement;
+    /**
+     * Whether statements were added to the batch of {@link #executionStatement} since it was last cleared.
+     */
+    private boolean executionStatementBatched;
 
     @Override
     public void initialize(final ResolvedEnvironment environment, final Configuration configuration) {
@@ -60,10 +68,16 @@ public abstract class ExperimentalJdbc <T> extends AbstractExperimentalDatabase
 
     @Override
     public void doExecute(final T executionUnit, final boolean outputQueryResults) {
-        try (final Statement statement = connection.createStatement()) {
+        try {
+            final Statement statement = getExecutionStatement();
             final boolean hasResult = statement.execute((String) executionUnit);
             parseResults(hasResult, statement, outputQueryResults);
+            if (hasResult && !outputQueryResults) {
+                // Results are only drained when they are output, so don't reuse a statement with open result sets
+                endExecution();
+            }
         } catch (SQLException e) {
+            endExecution();
             throw new FlywayException(e);
         }
     }
@@ -73,17 +87,40 @@ public abstract class ExperimentalJdbc <T> extends AbstractExperimentalDatabase
         if (batch.isEmpty()) {
             return;
         }
-        try (final Statement statement = connection.createStatement()) {
+        try {
+            final Statement statement = getExecutionStatement();
+            executionStatementBatched = true;
             for (final String sql : batch) {
                 statement.addBatch(sql);
             }
             statement.executeBatch();
             batch.clear();
         } catch (SQLException e) {
+            endExecution();
             throw new FlywayException(e);
         }
     }
 
+    @Override
+    public void endExecution() {
+        JdbcUtils.closeStatement(executionStatement);
+        executionStatement = null;
+        executionStatementBatched = false;
+    }
+
+    private Statement getExecutionStatement() throws SQLException {
+        if (executionStatement == null) {
+            executionStatement = connection.createStatement();
+        } else {
+            executionStatement.clearWarnings();
+            if (executionStatementBatched) {
+                executionStatement.clearBatch();
+                executionStatementBatched = false;
+            }
+        }
+        return executionStatement;
+    }
+
     @Override
     public String getCurrentUser() {
         try {
@@ -124,6 +161,7 @@ public abstract class ExperimentalJdbc <T> extends AbstractExperimentalDatabase
 
     @Override
     public void close() throws Exception {
+        endExecution();
         if (!isClosed()) {
             connection.close();
         }
@@ -21,10 +21,10 @@ package org.flywaydb.core.internal.callback;
 
 import lombok.CustomLog;
 import lombok.RequiredArgsConstructor;
-import org.flywaydb.core.api.callback.Callback;
 import org.flywaydb.core.api.callback.Context;
 import org.flywaydb.core.api.callback.Event;
 import org.flywaydb.core.api.configuration.Configuration;
+import org.flywaydb.core.api.resource.LoadableResource;
 import org.flywaydb.core.internal.resolver.script.ScriptMigrationExecutor;
 
 import java.sql.Connection;
@@ -32,7 +32,7 @@ import java.sql.SQLException;
 
 @CustomLog
 @RequiredArgsConstructor
-public class ArbitraryScriptCallback implements Callback, Comparable<ArbitraryScriptCallback> {
+public class ArbitraryScriptCallback implements ScriptCallback, Comparable<ArbitraryScriptCallback> {
 
     private final Event event;
     private final String description;
@@ -76,6 +76,11 @@ public class ArbitraryScriptCallback implements Callback, Comparable<ArbitrarySc
         return description;
     }
 
+    @Override
+    public LoadableResource getResource() {
+        return scriptMigrationExecutor.getResource();
+    }
+
     @Override
     public int compareTo(ArbitraryScriptCallback o) {
         int result = event.compareTo(o.event);
@@ -20,6 +20,7 @@
 package org.flywaydb.core.internal.callback;
 
 import org.flywaydb.core.api.MigrationInfo;
+import org.flywaydb.core.api.callback.Callback;
 import org.flywaydb.core.api.callback.Error;
 import org.flywaydb.core.api.callback.Event;
 import org.flywaydb.core.api.callback.Warning;
@@ -76,4 +77,9 @@ public interface CallbackExecutor {
      * @param operationResult The operation result.
      */
     void onOperationFinishEvent(Event event, OperationResult operationResult);
+
+    /**
+     * @return The callbacks this executor executes.
+     */
+    List<Callback> getCallbacks();
 }
@@ -35,6 +35,7 @@ import org.flywaydb.core.internal.jdbc.ExecutionTemplateFactory;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.concurrent.Callable;
@@ -118,6 +119,11 @@ public class DefaultCallbackExecutor implements CallbackExecutor {
         }
     }
 
+    @Override
+    public List<Callback> getCallbacks() {
+        return Collections.unmodifiableList(callbacks);
+    }
+
     private void execute(final Event event, final Connection connection) {
         final Context context = new SimpleContext(configuration, connection, null, null);
         for (final Callback callback : callbacks) {
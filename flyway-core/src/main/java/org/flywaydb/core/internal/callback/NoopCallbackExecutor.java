@@ -20,11 +20,13 @@
 package org.flywaydb.core.internal.callback;
 
 import org.flywaydb.core.api.MigrationInfo;
+import org.flywaydb.core.api.callback.Callback;
 import org.flywaydb.core.api.callback.Error;
 import org.flywaydb.core.api.callback.Event;
 import org.flywaydb.core.api.callback.Warning;
 import org.flywaydb.core.api.output.OperationResult;
 
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -56,4 +58,9 @@ public enum NoopCallbackExecutor implements CallbackExecutor {
     @Override
     public void onEachMigrateOrUndoStatementEvent(Event event, String sql, List<Warning> warnings, List<Error> errors) {
     }
+
+    @Override
+    public List<Callback> getCallbacks() {
+        return Collections.emptyList();
+    }
 }
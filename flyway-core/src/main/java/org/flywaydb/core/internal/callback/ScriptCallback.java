@@ -0,0 +1,33 @@
+/*-
+ * ========================LICENSE_START=================================
+ * flyway-core
+ * ========================================================================
+ * Copyright (C) 2010 - 2025 Red Gate Software Ltd
+ * ========================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+package org.flywaydb.core.internal.callback;
+
+import org.flywaydb.core.api.callback.Callback;
+import org.flywaydb.core.api.resource.LoadableResource;
+
+/**
+ * A callback which executes a script, so that what it does is entirely determined by the content of that script.
+ */
+public interface ScriptCallback extends Callback {
+    /**
+     * @return The script this callback executes.
+     */
+    LoadableResource getResource();
+}
@@ -94,7 +94,7 @@ public class SqlScriptCallbackFactory {
     }
 
     @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
-    private static class SqlScriptCallback implements Callback, Comparable<SqlScriptCallback> {
+    private static class SqlScriptCallback implements ScriptCallback, Comparable<SqlScriptCallback> {
         private final Event event;
         private final String description;
         private final SqlScriptExecutorFactory sqlScriptExecutorFactory;
@@ -132,6 +132,11 @@ public class SqlScriptCallbackFactory {
             return description;
         }
 
+        @Override
+        public LoadableResource getResource() {
+            return sqlScript.getResource();
+        }
+
         @Override
         public int compareTo(SqlScriptCallback o) {
             int result = event.compareTo(o.event);
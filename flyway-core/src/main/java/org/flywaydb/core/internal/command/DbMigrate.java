@@ -32,12 +32,14 @@ import org.flywaydb.core.api.output.CommandResultFactory;
 import org.flywaydb.core.api.output.MigrateResult;
 import org.flywaydb.core.api.resolver.ResolvedMigration;
 import org.flywaydb.core.internal.callback.CallbackExecutor;
+import org.flywaydb.core.internal.command.statecache.MigratedStateCache;
 import org.flywaydb.core.internal.database.base.Connection;
 import org.flywaydb.core.internal.database.base.Database;
 import org.flywaydb.core.internal.database.base.Schema;
 import org.flywaydb.core.internal.exception.FlywayMigrateException;
 import org.flywaydb.core.internal.info.MigrationInfoImpl;
 import org.flywaydb.core.internal.info.MigrationInfoServiceImpl;
+import org.flywaydb.core.internal.jdbc.ExecutionTemplate;
 import org.flywaydb.core.internal.jdbc.ExecutionTemplateFactory;
 import org.flywaydb.core.internal.resolver.CompositeMigrationResolver;
 import org.flywaydb.core.internal.schemahistory.SchemaHistory;
@@ -68,11 +70,34 @@ public class DbMigrate {
      */
     private boolean isPreviousVersioned;
     private final List<ResolvedMigration> appliedResolvedMigrations = new ArrayList<>();
+    /**
+     * The installed rank of the first migration recorded by the current attempt at applying a group, or {@code null}
+     * if it hasn't recorded any yet.
+     */
+    private Integer groupInstalledRank;
     private final ProgressLogger progress;
+    /**
+     * Parses the scripts of upcoming migrations while the current one executes.
+     */
+    private final MigrationPrefetcher prefetcher = new MigrationPrefetcher();
+    /**
+     * The cache to store the migrated state in once the migrations succeeded, or {@code null} if it isn't cached.
+     */
+    private final MigratedStateCache migratedStateCache;
 
     public DbMigrate(Database database,
                      SchemaHistory schemaHistory, Schema schema, CompositeMigrationResolver migrationResolver,
                      Configuration configuration, CallbackExecutor callbackExecutor) {
+        this(database, schemaHistory, schema, migrationResolver, configuration, callbackExecutor, null);
+    }
+
+    /**
+     * @param migratedStateCache The cache to store the migrated state in before the {@code afterMigrateApplied} and
+     * {@code afterMigrate} callbacks run, as these also run when the state is restored from it, or {@code null}.
+     */
+    public DbMigrate(Database database,
+                     SchemaHistory schemaHistory, Schema schema, CompositeMigrationResolver migrationResolver,
+                     Configuration configuration, CallbackExecutor callbackExecutor, MigratedStateCache migratedStateCache) {
         this.database = database;
         this.connectionUserObjects = database.getMigrationConnection();
         this.schemaHistory = schemaHistory;
@@ -81,6 +106,7 @@ public class DbMigrate {
         this.configuration = configuration;
         this.callbackExecutor = callbackExecutor;
         this.progress = configuration.createProgress("migrate");
+        this.migratedStateCache = migratedStateCache;
     }
 
     /**
@@ -111,6 +137,12 @@ public class DbMigrate {
         } catch (FlywayException e) {
             callbackExecutor.onMigrateOrUndoEvent(Event.AFTER_MIGRATE_ERROR);
             throw e;
+        } finally {
+            prefetcher.close();
+        }
+
+        if (migratedStateCache != null) {
+            migratedStateCache.store(migrateResult);
         }
 
         if (count > 0) {
@@ -252,6 +284,13 @@ public class DbMigrate {
         }
 
         if (!group.isEmpty()) {
+            if (!configuration.isSkipExecutingMigrations()) {
+                prefetcher.prefetch(Arrays.stream(infoService.pending())
+                                            .map(MigrationInfoImpl::getResolvedMigration)
+                                            .filter(resolvedMigration -> !appliedResolvedMigrations.contains(resolvedMigration))
+                                            .skip(group.size())
+                                            .toList());
+            }
             applyMigrations(group, configuration.isSkipExecutingMigrations());
         }
         return group.size();
@@ -277,12 +316,25 @@ public class DbMigrate {
     private void applyMigrations(final LinkedHashMap<MigrationInfoImpl, Boolean> group, boolean skipExecutingMigrations) {
         boolean executeGroupInTransaction = isExecuteGroupInTransaction(group);
         final StopWatch stopWatch = new StopWatch();
+        // Outside the transaction, as a restarted transaction applies the same migrations again
+        progress.pushSteps(group.size());
+        groupInstalledRank = null;
         try {
             if (executeGroupInTransaction) {
-                ExecutionTemplateFactory.createExecutionTemplate(connectionUserObjects.getJdbcConnection(), database).execute(() -> {
-                    doMigrateGroup(group, stopWatch, skipExecutingMigrations, true);
-                    return null;
-                });
+                ExecutionTemplate executionTemplate = ExecutionTemplateFactory.createRestartableExecutionTemplate(connectionUserObjects.getJdbcConnection(), database);
+                int migrationCount = migrateResult.migrations.size();
+                boolean wasPreviousVersioned = isPreviousVersioned;
+                try {
+                    executionTemplate.execute(() -> {
+                        if (executionTemplate.getRetryCount() > 0) {
+                            forgetRestartedAttempt(group.keySet(), migrationCount, wasPreviousVersioned);
+                        }
+                        doMigrateGroup(group, stopWatch, skipExecutingMigrations, true);
+                        return null;
+                    });
+                } finally {
+                    migrateResult.transactionRetries += executionTemplate.getRetryCount();
+                }
             } else {
                 doMigrateGroup(group, stopWatch, skipExecutingMigrations, false);
             }
@@ -306,6 +358,21 @@ public class DbMigrate {
         }
     }
 
+    /**
+     * Forgets what the previous attempt at applying this group did outside its transaction, as the database restarted
+     * the transaction and the group is applied again.
+     */
+    private void forgetRestartedAttempt(Set<MigrationInfoImpl> migrations, int migrationCount, boolean wasPreviousVersioned) {
+        migrations.forEach(migration -> appliedResolvedMigrations.remove(migration.getResolvedMigration()));
+        migrateResult.migrations.subList(migrationCount, migrateResult.migrations.size()).clear();
+        isPreviousVersioned = wasPreviousVersioned;
+        if (groupInstalledRank != null) {
+            // The schema history may be recorded on a connection of its own, which the restart didn't roll back
+            schemaHistory.removeAppliedMigrations(groupInstalledRank);
+            groupInstalledRank = null;
+        }
+    }
+
     private boolean isExecuteGroupInTransaction(LinkedHashMap<MigrationInfoImpl, Boolean> group) {
         boolean executeGroupInTransaction = true;
         boolean first = true;
@@ -350,7 +417,6 @@ public class DbMigrate {
             }
         };
 
-        progress.pushSteps(group.size());
         for (Map.Entry<MigrationInfoImpl, Boolean> entry : group.entrySet()) {
             final MigrationInfoImpl migration = entry.getKey();
             boolean isOutOfOrder = entry.getValue();
@@ -416,8 +482,11 @@ public class DbMigrate {
             migrateResult.migrations.add(CommandResultFactory.createMigrateOutput(migration, executionTime, null));
             migrateResult.putSuccessfulMigration(migration, executionTime);
 
-            schemaHistory.addAppliedMigration(migration.getVersion(), migration.getDescription(), migration.getType(),
-                                              migration.getScript(), migration.getResolvedMigration().getChecksum(), executionTime, true);
+            int installedRank = schemaHistory.addAppliedMigration(migration.getVersion(), migration.getDescription(), migration.getType(),
+                                                                  migration.getScript(), migration.getResolvedMigration().getChecksum(), executionTime, true);
+            if (groupInstalledRank == null) {
+                groupInstalledRank = installedRank;
+            }
         }
     }
 
@@ -0,0 +1,127 @@
+/*-
+ * ========================LICENSE_START=================================
+ * flyway-core
+ * ========================================================================
+ * Copyright (C) 2010 - 2025 Red Gate Software Ltd
+ * ========================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+package org.flywaydb.core.internal.command;
+
+import lombok.CustomLog;
+import org.flywaydb.core.api.resolver.ResolvedMigration;
+import org.flywaydb.core.api.resource.LoadableResource;
+import org.flywaydb.core.internal.resolver.sql.SqlMigrationExecutor;
+import org.flywaydb.core.internal.resource.filesystem.FileSystemResource;
+import org.flywaydb.core.internal.sqlscript.SqlScript;
+
+import java.io.File;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Parses the sql scripts of the next pending migrations on a background thread while the current migration executes,
+ * so reading and parsing them overlaps with the time spent waiting on the database.
+ * <p>
+ * Parse failures are never reported from here. A script which failed to parse ahead is parsed again on the migrating
+ * thread when its turn comes, and fails there, after the migrations before it have completed.
+ */
+@CustomLog
+class MigrationPrefetcher implements AutoCloseable {
+    /**
+     * The number of pending migrations to parse ahead of the current one.
+     */
+    private static final int DEPTH = 2;
+
+    /**
+     * The maximum combined size in bytes of the scripts parsed ahead which haven't been migrated yet.
+     */
+    private static final long MAX_BYTES = 64L * 1024 * 1024;
+
+    /**
+     * The size assumed for scripts whose size can't be determined without reading them.
+     */
+    private static final long UNKNOWN_SIZE = 1024 * 1024;
+
+    /**
+     * The migrations parsed ahead which haven't been migrated yet, with the size of their script.
+     */
+    private final Map<ResolvedMigration, Long> prefetched = new HashMap<>();
+    private ExecutorService executor;
+
+    /**
+     * Parses ahead the scripts of the first of these migrations which haven't been parsed ahead yet.
+     *
+     * @param upcoming The migrations still to be migrated after the current ones, in order.
+     */
+    void prefetch(List<ResolvedMigration> upcoming) {
+        // Migrations no longer upcoming have been migrated and no longer count towards the limits
+        prefetched.keySet().retainAll(upcoming);
+
+        long bytes = prefetched.values().stream().mapToLong(Long::longValue).sum();
+        for (ResolvedMigration resolvedMigration : upcoming.subList(0, Math.min(DEPTH, upcoming.size()))) {
+            if (prefetched.containsKey(resolvedMigration) || !(resolvedMigration.getExecutor() instanceof SqlMigrationExecutor)) {
+                continue;
+            }
+
+            SqlScript sqlScript = ((SqlMigrationExecutor) resolvedMigration.getExecutor()).getSqlScript();
+            long size = getSize(sqlScript.getResource());
+            if (bytes + size > MAX_BYTES) {
+                break;
+            }
+            bytes += size;
+            prefetched.put(resolvedMigration, size);
+
+            getExecutor().execute(() -> parse(sqlScript));
+        }
+    }
+
+    private void parse(SqlScript sqlScript) {
+        try {
+            sqlScript.validate();
+        } catch (RuntimeException e) {
+            LOG.debug("Unable to parse " + sqlScript.getResource().getFilename() + " ahead of its migration: " + e.getMessage());
+        }
+    }
+
+    private long getSize(LoadableResource resource) {
+        if (resource instanceof FileSystemResource) {
+            return new File(resource.getAbsolutePathOnDisk()).length();
+        }
+        return UNKNOWN_SIZE;
+    }
+
+    private ExecutorService getExecutor() {
+        if (executor == null) {
+            executor = Executors.newSingleThreadExecutor(r -> {
+                Thread t = Executors.defaultThreadFactory().newThread(r);
+                t.setDaemon(true);
+                return t;
+            });
+        }
+        return executor;
+    }
+
+    @Override
+    public void close() {
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+        prefetched.clear();
+    }
+}
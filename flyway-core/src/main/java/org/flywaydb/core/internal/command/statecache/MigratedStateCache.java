@@ -0,0 +1,399 @@
+/*-
+ * ========================LICENSE_START=================================
+ * flyway-core
+ * ========================================================================
+ * Copyright (C) 2010 - 2025 Red Gate Software Ltd
+ * ========================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+package org.flywaydb.core.internal.command.statecache;
+
+import lombok.CustomLog;
+import org.flywaydb.core.api.FlywayException;
+import org.flywaydb.core.api.MigrationInfo;
+import org.flywaydb.core.api.callback.Callback;
+import org.flywaydb.core.api.callback.Event;
+import org.flywaydb.core.api.configuration.Configuration;
+import org.flywaydb.core.api.output.CommandResultFactory;
+import org.flywaydb.core.api.output.MigrateResult;
+import org.flywaydb.core.api.resolver.ResolvedMigration;
+import org.flywaydb.core.internal.callback.CallbackExecutor;
+import org.flywaydb.core.internal.callback.ScriptCallback;
+import org.flywaydb.core.internal.database.base.Database;
+import org.flywaydb.core.internal.database.base.MigratedStateSnapshotSupport;
+import org.flywaydb.core.internal.database.base.Schema;
+import org.flywaydb.core.internal.exception.FlywaySqlException;
+import org.flywaydb.core.internal.info.MigrationInfoImpl;
+import org.flywaydb.core.internal.info.MigrationInfoServiceImpl;
+import org.flywaydb.core.internal.license.VersionPrinter;
+import org.flywaydb.core.internal.resolver.ChecksumCalculator;
+import org.flywaydb.core.internal.resolver.CompositeMigrationResolver;
+import org.flywaydb.core.internal.schemahistory.SchemaHistory;
+import org.flywaydb.core.internal.util.FileUtils;
+import org.flywaydb.core.internal.util.StringUtils;
+import org.flywaydb.core.internal.util.ValidatePatternUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.TreeMap;
+
+/**
+ * Caches the migrated state of empty schemas as a database-specific snapshot, keyed by the combined checksum of all
+ * resolved migrations, so that test suites repeatedly running clean and migrate only execute the migrations once.
+ * <p>
+ * The snapshot is taken before the {@code afterMigrateApplied} and {@code afterMigrate} callbacks run, which run again
+ * after it is restored. The key covers the callbacks which run along with the migrations, so their effects are part
+ * of the snapshot, and the configuration affecting the migrated state.
+ * <p>
+ * As restoring a snapshot executes it against the database, snapshots are only kept in a configured directory private
+ * to the current user, and only restored if they still belong to that user and match the digest recorded with them.
+ */
+@CustomLog
+public class MigratedStateCache {
+    /**
+     * The events before the migrations, which run every time migrate runs against empty schemas.
+     */
+    private static final Event[] SETUP_EVENTS = {Event.CREATE_SCHEMA, Event.BEFORE_CREATE_SCHEMA, Event.BEFORE_MIGRATE};
+    /**
+     * The events fired while the migrations run, whose effects are captured by the snapshot taken afterwards.
+     */
+    private static final Event[] SNAPSHOT_EVENTS = {
+            Event.BEFORE_EACH_MIGRATE, Event.BEFORE_EACH_MIGRATE_STATEMENT, Event.AFTER_EACH_MIGRATE_STATEMENT,
+            Event.AFTER_EACH_MIGRATE_STATEMENT_ERROR, Event.AFTER_EACH_MIGRATE, Event.AFTER_EACH_MIGRATE_ERROR,
+            Event.AFTER_VERSIONED, Event.BEFORE_REPEATABLES};
+
+    private final Database database;
+    private final MigratedStateSnapshotSupport snapshotSupport;
+    private final Schema[] schemas;
+    private final SchemaHistory schemaHistory;
+    private final CompositeMigrationResolver migrationResolver;
+    private final Configuration configuration;
+    private final Path snapshotFile;
+    /**
+     * The file holding the SHA-256 digest of the snapshot, which is checked before the snapshot is restored.
+     */
+    private final Path digestFile;
+
+    private MigratedStateCache(Database database, MigratedStateSnapshotSupport snapshotSupport, Schema[] schemas,
+                               SchemaHistory schemaHistory, CompositeMigrationResolver migrationResolver,
+                               Configuration configuration, Path snapshotFile) {
+        this.database = database;
+        this.snapshotSupport = snapshotSupport;
+        this.schemas = schemas;
+        this.schemaHistory = schemaHistory;
+        this.migrationResolver = migrationResolver;
+        this.configuration = configuration;
+        this.snapshotFile = snapshotFile;
+        this.digestFile = snapshotFile.resolveSibling(snapshotFile.getFileName() + ".sha256");
+    }
+
+    /**
+     * Creates the cache for the migrated state of these schemas. This must be called before migrate touches them, as
+     * only the state of schemas which are still empty is determined by the resolved migrations alone.
+     *
+     * @return The cache, or {@code null} if it isn't enabled or the migrated state of these schemas can't be cached.
+     */
+    public static MigratedStateCache create(Database database, Schema[] schemas, SchemaHistory schemaHistory,
+                                            CompositeMigrationResolver migrationResolver, Configuration configuration,
+                                            CallbackExecutor callbackExecutor) {
+        StateCacheConfigurationExtension extension = configuration.getPluginRegister().getPlugin(StateCacheConfigurationExtension.class);
+        if (extension == null || !Boolean.TRUE.equals(extension.getEnabled())) {
+            return null;
+        }
+        if (!StringUtils.hasText(extension.getDirectory())) {
+            throw new FlywayException("Unable to use the state cache: flyway.stateCache.directory must be set to a"
+                                              + " directory private to the current user");
+        }
+
+        if (!(database instanceof final MigratedStateSnapshotSupport snapshotSupport)
+                || !snapshotSupport.supportsMigratedStateSnapshots(schemas)) {
+            LOG.debug("Not caching migrated state: snapshots of " + Arrays.toString(schemas) + " are not supported for "
+                              + database.getDatabaseType().getName());
+            return null;
+        }
+        if (configuration.isSkipExecutingMigrations()
+                || (configuration.getCherryPick() != null && configuration.getCherryPick().length > 0)) {
+            LOG.debug("Not caching migrated state: skipExecutingMigrations and cherryPick are not supported");
+            return null;
+        }
+        if (schemaHistory.exists() || !allEmpty(schemas)) {
+            return null;
+        }
+
+        String key = computeKey(database, schemas, migrationResolver, configuration, callbackExecutor.getCallbacks());
+        if (key == null) {
+            return null;
+        }
+
+        Path directory = Paths.get(extension.getDirectory());
+        if (!isPrivate(directory)) {
+            return null;
+        }
+        return new MigratedStateCache(database, snapshotSupport, schemas, schemaHistory, migrationResolver, configuration,
+                                      directory.resolve(key + ".snapshot"));
+    }
+
+    /**
+     * Creates this directory if needed and checks that only the current user can access it, as the snapshots in it
+     * are executed against the database on restore.
+     */
+    private static boolean isPrivate(Path directory) {
+        try {
+            if (FileUtils.createPrivateDirectory(directory)) {
+                return true;
+            }
+            LOG.warn("Not caching migrated state: " + directory + " is not a directory private to the current user");
+        } catch (IOException e) {
+            LOG.warn("Not caching migrated state: unable to create " + directory + ": " + e.getMessage());
+        }
+        return false;
+    }
+
+    /**
+     * Adds the callbacks whose effects end up in the snapshot to the key. Callbacks for the events after the snapshot
+     * is taken run on restore as well, so they don't affect it.
+     *
+     * @return {@code false} if the effects of the callbacks can't be captured by a snapshot.
+     */
+    private static boolean appendCallbacks(StringBuilder key, List<Callback> callbacks) {
+        for (Callback callback : callbacks) {
+            for (Event event : SETUP_EVENTS) {
+                if (callback.supports(event, null)) {
+                    // Restoring the snapshot replaces running these, and it can't be restored on top of their effects
+                    LOG.debug("Not caching migrated state: callback " + callback.getCallbackName() + " handles " + event.getId());
+                    return false;
+                }
+            }
+            for (Event event : SNAPSHOT_EVENTS) {
+                if (!callback.supports(event, null)) {
+                    continue;
+                }
+                if (!(callback instanceof final ScriptCallback scriptCallback)) {
+                    // Like migrations without checksum, what other callbacks do can't be keyed
+                    LOG.debug("Not caching migrated state: callback " + callback.getCallbackName() + " for " + event.getId() + " is not a script");
+                    return false;
+                }
+                key.append('\n')
+                        .append(event.getId()).append('\0')
+                        .append(callback.getCallbackName()).append('\0')
+                        .append(scriptCallback.getResource().getRelativePath()).append('\0')
+                        .append(ChecksumCalculator.calculate(scriptCallback.getResource()));
+            }
+        }
+        return true;
+    }
+
+    private static boolean allEmpty(Schema[] schemas) {
+        for (Schema schema : schemas) {
+            if (schema.exists() && !schema.empty()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String computeKey(Database database, Schema[] schemas, CompositeMigrationResolver migrationResolver,
+                                     Configuration configuration, List<Callback> callbacks) {
+        StringBuilder key = new StringBuilder()
+                .append(VersionPrinter.getVersion()).append('\0')
+                .append(database.getDatabaseType().getName()).append('\0')
+                .append(Arrays.toString(schemas)).append('\0')
+                .append(configuration.getTable()).append('\0')
+                .append(configuration.getTarget()).append('\0')
+                .append(configuration.getBaselineVersion()).append('\0')
+                .append(configuration.getBaselineDescription()).append('\0')
+                .append(configuration.isBaselineOnMigrate()).append('\0')
+                .append(configuration.isOutOfOrder()).append('\0')
+                .append(configuration.isCreateSchemas()).append('\0')
+                .append(configuration.getInstalledBy()).append('\0')
+                .append(configuration.getInitSql()).append('\0')
+                .append(configuration.isPlaceholderReplacement()).append('\0')
+                .append(configuration.getPlaceholderPrefix()).append('\0')
+                .append(configuration.getPlaceholderSeparator()).append('\0')
+                .append(configuration.getPlaceholderSuffix()).append('\0')
+                .append(configuration.getScriptPlaceholderPrefix()).append('\0')
+                .append(configuration.getScriptPlaceholderSuffix()).append('\0')
+                .append(new TreeMap<>(configuration.getPlaceholders()));
+
+        if (!appendCallbacks(key, callbacks)) {
+            return null;
+        }
+
+        for (ResolvedMigration migration : migrationResolver.resolveMigrations(configuration)) {
+            if (migration.getChecksum() == null) {
+                // The state produced by migrations without checksum, like Java migrations, can't be keyed
+                LOG.debug("Not caching migrated state: migration " + migration.getScript() + " has no checksum");
+                return null;
+            }
+            key.append('\n')
+                    .append(migration.getVersion()).append('\0')
+                    .append(migration.getDescription()).append('\0')
+                    .append(migration.getType().name()).append('\0')
+                    .append(migration.getScript()).append('\0')
+                    .append(migration.getChecksum());
+        }
+
+        try {
+            return toHex(MessageDigest.getInstance("SHA-256").digest(key.toString().getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new FlywayException(e);
+        }
+    }
+
+    /**
+     * Restores the cached migrated state, if a snapshot for the resolved migrations exists.
+     *
+     * @return The result listing the migrations recorded in the restored schema history table, or {@code null} if no
+     * snapshot exists and the migrations must be executed.
+     */
+    public MigrateResult restore() {
+        if (!Files.isRegularFile(snapshotFile, LinkOption.NOFOLLOW_LINKS)) {
+            LOG.debug("No migrated state snapshot found at " + snapshotFile);
+            return null;
+        }
+        if (!isTrusted()) {
+            return null;
+        }
+
+        LOG.info("Restoring migrated state of " + StringUtils.arrayToCommaDelimitedString(schemas) + " from " + snapshotFile);
+        try {
+            snapshotSupport.restoreMigratedStateSnapshot(snapshotFile);
+        } catch (SQLException e) {
+            throw new FlywaySqlException("Unable to restore migrated state snapshot " + snapshotFile, e);
+        }
+
+        MigrationInfoServiceImpl infoService = new MigrationInfoServiceImpl(migrationResolver, schemaHistory, database, configuration,
+                                                                            configuration.getTarget(), configuration.isOutOfOrder(), ValidatePatternUtils.getIgnoreAllPattern(), configuration.getCherryPick());
+        infoService.refresh();
+
+        MigrateResult result = CommandResultFactory.createMigrateResult(database.getCatalog(),
+                                                                        database.getDatabaseType().getName(),
+                                                                        configuration);
+        for (MigrationInfoImpl migrationInfo : infoService.applied()) {
+            if (!migrationInfo.getType().isSynthetic()) {
+                result.migrations.add(CommandResultFactory.createMigrateOutput(migrationInfo, 0, null));
+                result.putSuccessfulMigration(migrationInfo, 0);
+            }
+        }
+        result.migrationsExecuted = result.migrations.size();
+        MigrationInfo current = infoService.current();
+        if (current != null && current.getVersion() != null) {
+            result.targetSchemaVersion = current.getVersion().getVersion();
+        }
+
+        LOG.info("Successfully restored " + result.migrationsExecuted + " migration" + (result.migrationsExecuted == 1 ? "" : "s")
+                         + " from the migrated state snapshot");
+        return result;
+    }
+
+    /**
+     * Checks, right before restoring it, that the snapshot is still in a private directory, belongs to the current
+     * user and has the digest recorded when it was stored. Snapshots failing the digest check are removed.
+     */
+    private boolean isTrusted() {
+        Path directory = snapshotFile.getParent();
+        if (!isPrivate(directory)) {
+            return false;
+        }
+        try {
+            if (!Files.getOwner(directory, LinkOption.NOFOLLOW_LINKS).equals(Files.getOwner(snapshotFile, LinkOption.NOFOLLOW_LINKS))) {
+                LOG.warn("Not restoring migrated state snapshot " + snapshotFile + ": it is not owned by the current user");
+                return false;
+            }
+            if (!Files.isRegularFile(digestFile, LinkOption.NOFOLLOW_LINKS)
+                    || !new String(Files.readAllBytes(digestFile), StandardCharsets.US_ASCII).trim().equals(digest(snapshotFile))) {
+                LOG.warn("Not restoring migrated state snapshot " + snapshotFile + ": it does not match its digest");
+                Files.deleteIfExists(snapshotFile);
+                Files.deleteIfExists(digestFile);
+                return false;
+            }
+        } catch (IOException e) {
+            LOG.warn("Not restoring migrated state snapshot " + snapshotFile + ": " + e.getMessage());
+            return false;
+        }
+        return true;
+    }
+
+    private static String digest(Path file) throws IOException {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            try (InputStream inputStream = new DigestInputStream(Files.newInputStream(file, LinkOption.NOFOLLOW_LINKS), digest)) {
+                inputStream.transferTo(OutputStream.nullOutputStream());
+            }
+            return toHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new FlywayException(e);
+        }
+    }
+
+    private static String toHex(byte[] digest) {
+        return String.format("%064x", new BigInteger(1, digest));
+    }
+
+    /**
+     * Snapshots the migrated state after a successful migration, unless a snapshot for the resolved migrations already
+     * exists. Failures are logged, as they only affect subsequent runs.
+     *
+     * @param result The result of the migration.
+     */
+    public void store(MigrateResult result) {
+        if (!result.success || result.migrationsExecuted == 0 || Files.exists(snapshotFile)) {
+            return;
+        }
+
+        Path tempFile = null;
+        Path tempDigestFile = null;
+        try {
+            // Written next to the final location and moved in place, so concurrent builds never see a partial snapshot.
+            // The digest is moved in first, so that every snapshot in place has one.
+            tempFile = Files.createTempFile(snapshotFile.getParent(), "flyway-", ".tmp");
+            Files.delete(tempFile);
+            snapshotSupport.takeMigratedStateSnapshot(schemas, tempFile);
+            tempDigestFile = Files.createTempFile(snapshotFile.getParent(), "flyway-", ".tmp");
+            Files.write(tempDigestFile, digest(tempFile).getBytes(StandardCharsets.US_ASCII));
+            Files.move(tempDigestFile, digestFile, StandardCopyOption.ATOMIC_MOVE);
+            Files.move(tempFile, snapshotFile, StandardCopyOption.ATOMIC_MOVE);
+            LOG.debug("Stored migrated state snapshot at " + snapshotFile);
+        } catch (IOException | SQLException e) {
+            LOG.warn("Unable to store migrated state snapshot at " + snapshotFile + ": " + e.getMessage());
+        } finally {
+            deleteIfExists(tempFile);
+            deleteIfExists(tempDigestFile);
+        }
+    }
+
+    private static void deleteIfExists(Path file) {
+        if (file != null) {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                LOG.debug("Unable to delete " + file + ": " + e.getMessage());
+            }
+        }
+    }
+}
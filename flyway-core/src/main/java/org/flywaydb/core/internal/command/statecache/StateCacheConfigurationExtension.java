@@ -0,0 +1,58 @@
+/*-
+ * ========================LICENSE_START=================================
+ * flyway-core
+ * ========================================================================
+ * Copyright (C) 2010 - 2025 Red Gate Software Ltd
+ * ========================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+package org.flywaydb.core.internal.command.statecache;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.flywaydb.core.extensibility.ConfigurationExtension;
+
+@Getter
+@Setter
+public class StateCacheConfigurationExtension implements ConfigurationExtension {
+    private static final String STATE_CACHE_ENABLED = "flyway.stateCache.enabled";
+    private static final String STATE_CACHE_DIRECTORY = "flyway.stateCache.directory";
+
+    /**
+     * Whether migrate should restore a snapshot of the migrated state of empty schemas instead of executing all
+     * migrations, when a snapshot for the same resolved migrations exists.
+     */
+    private Boolean enabled = false;
+    /**
+     * The directory holding the snapshots, which is required when the state cache is enabled. It is created so that
+     * only the current user can access it, and snapshots are only used while that holds.
+     */
+    private String directory;
+
+    @Override
+    public String getNamespace() {
+        return "stateCache";
+    }
+
+    @Override
+    public String getConfigurationParameterFromEnvironmentVariable(String environmentVariable) {
+        if ("FLYWAY_STATE_CACHE_ENABLED".equals(environmentVariable)) {
+            return STATE_CACHE_ENABLED;
+        }
+        if ("FLYWAY_STATE_CACHE_DIRECTORY".equals(environmentVariable)) {
+            return STATE_CACHE_DIRECTORY;
+        }
+        return null;
+    }
+}
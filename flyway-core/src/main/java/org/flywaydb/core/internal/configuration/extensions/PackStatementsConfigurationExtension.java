@@ -0,0 +1,49 @@
+/*-
+ * ========================LICENSE_START=================================
+ * flyway-core
+ * ========================================================================
+ * Copyright (C) 2010 - 2025 Red Gate Software Ltd
+ * ========================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+package org.flywaydb.core.internal.configuration.extensions;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.flywaydb.core.extensibility.ConfigurationExtension;
+
+@Getter
+@Setter
+public class PackStatementsConfigurationExtension implements ConfigurationExtension {
+    private static final String PACK_STATEMENTS = "flyway.packStatements";
+
+    /**
+     * Whether consecutive non-batchable statements should be sent to the database in a single round trip, on the
+     * databases which support it.
+     */
+    private Boolean packStatements = false;
+
+    @Override
+    public String getNamespace() {
+        return "";
+    }
+
+    @Override
+    public String getConfigurationParameterFromEnvironmentVariable(String environmentVariable) {
+        if ("FLYWAY_PACK_STATEMENTS".equals(environmentVariable)) {
+            return PACK_STATEMENTS;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,76 @@
+/*-
+ * ========================LICENSE_START=================================
+ * flyway-core
+ * ========================================================================
+ * Copyright (C) 2010 - 2025 Red Gate Software Ltd
+ * ========================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+package org.flywaydb.core.internal.configuration.extensions;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.flywaydb.core.extensibility.ConfigurationExtension;
+
+@Getter
+@Setter
+public class ResultRetentionConfigurationExtension implements ConfigurationExtension {
+    public static final String RESULT_RETENTION = "flyway.resultRetention";
+    private static final String RESULT_ROW_LIMIT = "flyway.resultRowLimit";
+
+    /**
+     * Which results of the statements executed by a script are kept once they have been handled.
+     */
+    public enum ResultRetention {
+        /**
+         * Keep all results.
+         */
+        ALL,
+        /**
+         * Only keep the results of statements which raised warnings or errors, without their rows.
+         */
+        WARNINGS_AND_ERRORS,
+        /**
+         * Keep no results.
+         */
+        DISCARD
+    }
+
+    /**
+     * Which results of executed statements to keep. One of ALL, WARNINGS_AND_ERRORS or DISCARD.
+     */
+    private String resultRetention = ResultRetention.ALL.name();
+
+    /**
+     * The maximum number of rows to read from each result set, or {@code null} for no limit. Further rows are skipped
+     * without being converted.
+     */
+    private Integer resultRowLimit = null;
+
+    @Override
+    public String getNamespace() {
+        return "";
+    }
+
+    @Override
+    public String getConfigurationParameterFromEnvironmentVariable(String environmentVariable) {
+        if ("FLYWAY_RESULT_RETENTION".equals(environmentVariable)) {
+            return RESULT_RETENTION;
+        }
+        if ("FLYWAY_RESULT_ROW_LIMIT".equals(environmentVariable)) {
+            return RESULT_ROW_LIMIT;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,49 @@
+/*-
+ * ========================LICENSE_START=================================
+ * flyway-core
+ * ========================================================================
+ * Copyright (C) 2010 - 2025 Red Gate Software Ltd
+ * ========================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+package org.flywaydb.core.internal.configuration.extensions;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.flywaydb.core.extensibility.ConfigurationExtension;
+
+@Getter
+@Setter
+public class ScriptMigrationTimeoutConfigurationExtension implements ConfigurationExtension {
+    private static final String SCRIPT_MIGRATION_TIMEOUT = "flyway.scriptMigrationTimeout";
+
+    /**
+     * The maximum number of seconds a script migration may run before its process is killed, or {@code null} for no
+     * limit.
+     */
+    private Integer scriptMigrationTimeout = null;
+
+    @Override
+    public String getNamespace() {
+        return "";
+    }
+
+    @Override
+    public String getConfigurationParameterFromEnvironmentVariable(String environmentVariable) {
+        if ("FLYWAY_SCRIPT_MIGRATION_TIMEOUT".equals(environmentVariable)) {
+            return SCRIPT_MIGRATION_TIMEOUT;
+        }
+        return null;
+    }
+}
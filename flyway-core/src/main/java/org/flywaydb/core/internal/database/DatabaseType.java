@@ -177,6 +177,14 @@ public interface DatabaseType extends Plugin {
      */
     ExecutionTemplate createTransactionalExecutionTemplate(Connection connection, boolean rollbackOnException);
 
+    /**
+     * Initializes the ExecutionTemplate applying a group of migrations in a transaction. Unlike the other templates,
+     * it may execute its callback again when the database restarts the transaction.
+     *
+     * @return The ExecutionTemplate.
+     */
+    ExecutionTemplate createRestartableTransactionalExecutionTemplate(Connection connection, boolean rollbackOnException);
+
     /**
      * Set the default connection properties for this database. These can be overridden by {@code setConfigConnectionProps}
      * and {@code setOverridingConnectionProps}
@@ -35,6 +35,7 @@ import org.flywaydb.core.internal.sqlscript.DefaultSqlScriptExecutor;
 import org.flywaydb.core.internal.sqlscript.ParserSqlScript;
 import org.flywaydb.core.internal.sqlscript.SqlScriptExecutorFactory;
 import org.flywaydb.core.internal.sqlscript.SqlScriptFactory;
+import org.flywaydb.core.internal.sqlscript.StatementPacker;
 
 import java.sql.Connection;
 import java.sql.*;
@@ -155,8 +156,23 @@ public abstract class BaseDatabaseType implements DatabaseType {
                                                                    final StatementInterceptor statementInterceptor) {
         final DatabaseType thisRef = this;
 
+        final StatementPacker statementPacker = createStatementPacker(jdbcConnectionFactory);
+
         return (connection, undo, batch, outputQueryResults) -> new DefaultSqlScriptExecutor(new JdbcTemplate(connection, thisRef),
-                                                                                             callbackExecutor, undo, jdbcConnectionFactory.isSupportsBatch() && batch, outputQueryResults, statementInterceptor);
+                                                                                             callbackExecutor, undo, jdbcConnectionFactory.isSupportsBatch() && batch, outputQueryResults, statementInterceptor,
+                                                                                             statementPacker);
+    }
+
+    /**
+     * Creates the packer sending consecutive non-batchable statements in a single round trip when
+     * {@code flyway.packStatements} is enabled, or always for packers which behave like separate statements.
+     *
+     * @param jdbcConnectionFactory The current connection factory.
+     * @return The statement packer, or {@code null} if this database or its driver can't execute several statements at
+     * once.
+     */
+    public StatementPacker createStatementPacker(JdbcConnectionFactory jdbcConnectionFactory) {
+        return null;
     }
 
     public DatabaseExecutionStrategy createExecutionStrategy(java.sql.Connection connection) {
@@ -167,6 +183,10 @@ public abstract class BaseDatabaseType implements DatabaseType {
         return new TransactionalExecutionTemplate(connection, rollbackOnException);
     }
 
+    public ExecutionTemplate createRestartableTransactionalExecutionTemplate(Connection connection, boolean rollbackOnException) {
+        return createTransactionalExecutionTemplate(connection, rollbackOnException);
+    }
+
     /**
      * Retrieves the version string for a connection as described by SELECT VERSION(), which may differ from the
      * connection metadata.
@@ -115,6 +115,7 @@ public abstract class Connection<D extends Database> implements Closeable {
         restoreOriginalState();
         restoreOriginalSchema();
         restoreOriginalAutoCommit();
+        jdbcTemplate.closeReusableStatements();
         JdbcUtils.closeConnection(jdbcConnection);
     }
 
@@ -26,6 +26,7 @@ import org.flywaydb.core.api.MigrationVersion;
 import org.flywaydb.core.api.configuration.Configuration;
 import org.flywaydb.core.extensibility.LicenseGuard;
 import org.flywaydb.core.extensibility.Tier;
+import org.flywaydb.core.internal.command.clean.CleanConfigurationExtension;
 import org.flywaydb.core.internal.database.DatabaseType;
 import org.flywaydb.core.internal.exception.FlywayDbUpgradeRequiredException;
 import org.flywaydb.core.internal.exception.FlywaySqlException;
@@ -459,6 +460,14 @@ public abstract class Database<C extends Connection> implements Closeable {
         return true;
     }
 
+    /**
+     * @return Whether schemas should be cleaned by dropping and recreating them where the database supports it.
+     */
+    public boolean isCleanByRecreatingSchemaEnabled() {
+        CleanConfigurationExtension extension = configuration.getPluginRegister().getPlugin(CleanConfigurationExtension.class);
+        return extension != null && Boolean.TRUE.equals(extension.getRecreateSchema());
+    }
+
     /**
      * Cleans all the objects in this database that need to be cleaned before each schema.
      */
@@ -0,0 +1,54 @@
+/*-
+ * ========================LICENSE_START=================================
+ * flyway-core
+ * ========================================================================
+ * Copyright (C) 2010 - 2025 Red Gate Software Ltd
+ * ========================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+package org.flywaydb.core.internal.database.base;
+
+import java.nio.file.Path;
+import java.sql.SQLException;
+
+/**
+ * Implemented by databases which can write the migrated state of schemas to a snapshot file and restore it from there
+ * later. Databases without this capability don't implement it, so the state cache never calls into them.
+ */
+public interface MigratedStateSnapshotSupport {
+    /**
+     * @param schemas The schemas to snapshot.
+     * @return Whether the migrated state of these particular schemas can be snapshotted, for example given the driver
+     * or connection in use.
+     */
+    boolean supportsMigratedStateSnapshots(Schema[] schemas);
+
+    /**
+     * Writes the current state of these schemas, including the schema history table, to this snapshot file.
+     *
+     * @param schemas The schemas to snapshot.
+     * @param file The snapshot file to write.
+     * @throws SQLException when the snapshot could not be written.
+     */
+    void takeMigratedStateSnapshot(Schema[] schemas, Path file) throws SQLException;
+
+    /**
+     * Restores a snapshot written by {@link #takeMigratedStateSnapshot(Schema[], Path)} into the empty schemas it was
+     * taken from.
+     *
+     * @param file The snapshot file to restore.
+     * @throws SQLException when the snapshot could not be restored.
+     */
+    void restoreMigratedStateSnapshot(Path file) throws SQLException;
+}
@@ -122,6 +122,18 @@ public abstract class Schema<D extends Database, T extends Table> {
      */
     public void clean() {
         try {
+            if (database.isCleanByRecreatingSchemaEnabled()) {
+                List<String> recreateStatements = getRecreateStatements();
+                if (recreateStatements != null) {
+                    LOG.debug("Cleaning schema " + this + " by dropping and recreating it ...");
+                    doDrop();
+                    for (String statement : recreateStatements) {
+                        jdbcTemplate.execute(statement);
+                    }
+                    return;
+                }
+                LOG.debug("Schema " + this + " can't be recreated. Dropping its objects instead ...");
+            }
             doClean();
         } catch (SQLException e) {
             throw new FlywaySqlException("Unable to clean schema " + this, e);
@@ -135,6 +147,18 @@ public abstract class Schema<D extends Database, T extends Table> {
      */
     protected abstract void doClean() throws SQLException;
 
+    /**
+     * Snapshots this schema for cleaning it by dropping and recreating it. This is only used when enabled with
+     * {@code flyway.clean.recreateSchema}, and requires {@link #doDrop()} to drop the schema with all its contents.
+     *
+     * @return The statements which recreate this schema after it has been dropped, restoring its owner, grants and
+     * default privileges, or {@code null} if this schema can't be cleaned this way.
+     * @throws SQLException when the snapshot failed.
+     */
+    protected List<String> getRecreateStatements() throws SQLException {
+        return null;
+    }
+
     /**
      * Retrieves all the tables in this schema.
      */
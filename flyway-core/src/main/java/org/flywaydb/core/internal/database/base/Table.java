@@ -94,7 +94,8 @@ public abstract class Table<D extends Database, S extends Schema> extends Schema
      * (in which case {@code doUnlock()} may be a no-op) in order to maintain the lock count correctly.
      */
     public void lock() {
-        if (!exists()) {
+        // A table that is already locked is known to exist
+        if (lockDepth == 0 && !exists()) {
             return;
         }
         try {
@@ -114,20 +115,100 @@ public abstract class Table<D extends Database, S extends Schema> extends Schema
      */
     protected abstract void doLock() throws SQLException;
 
+    /**
+     * Executes this update statement while holding a lock on this table, as if it was surrounded by {@code lock()} and
+     * {@code unlock()}. If the database can combine the lock and the update into a single statement, they are sent to
+     * the database in a single round trip. The prepared statement is kept open for reuse by subsequent calls.
+     *
+     * @param sql The update statement to execute.
+     * @param params The statement parameters.
+     * @return The number of round trips used for existence checks, locking, the update itself and unlocking.
+     * @throws SQLException when the update failed.
+     */
+    public int updateWhileLocked(String sql, Object... params) throws SQLException {
+        int roundTrips = 0;
+        if (lockDepth == 0) {
+            roundTrips++;
+            if (!exists()) {
+                jdbcTemplate.updateReusingStatement(sql, params);
+                return roundTrips + 1;
+            }
+        }
+
+        String lockAndUpdateStatement = getLockAndUpdateStatement(sql);
+        boolean locked = false;
+        try {
+            if (lockAndUpdateStatement == null) {
+                try {
+                    doLock();
+                } catch (SQLException e) {
+                    throw new FlywaySqlException("Unable to lock table " + this, e);
+                }
+                lockDepth++;
+                locked = true;
+                roundTrips++;
+                jdbcTemplate.updateReusingStatement(sql, params);
+            } else {
+                jdbcTemplate.updateReusingStatement(lockAndUpdateStatement, params);
+                lockDepth++;
+                locked = true;
+            }
+            roundTrips++;
+        } finally {
+            if (locked) {
+                // The lock was just taken on this table, so it is known to still exist whether or not the update
+                // succeeded
+                roundTrips += unlockExisting();
+            }
+        }
+        return roundTrips;
+    }
+
+    /**
+     * Returns a single statement which takes the same lock as {@code doLock()} and then executes this update
+     * statement, for databases which can do both in one round trip.
+     *
+     * @param sql The update statement to execute.
+     * @return The combined statement, or {@code null} if the lock has to be taken separately.
+     */
+    protected String getLockAndUpdateStatement(String sql) {
+        return null;
+    }
+
     /**
      * For databases that require an explicit unlocking, not an implicit end-of-transaction one.
      */
     public void unlock() {
         // lockDepth can be zero if this table didn't exist at the time of the call to lock()
-        if (!exists() || lockDepth == 0) {
+        // Nested locks are still covered by the outermost one, so existence only needs re-checking for the last unlock
+        if (lockDepth == 0 || (lockDepth == 1 && !exists())) {
             return;
         }
+        unlockExisting();
+    }
+
+    /**
+     * @return The number of round trips used for unlocking.
+     */
+    private int unlockExisting() {
+        int roundTrips = lockDepth == 1 && hasExplicitUnlock() ? 1 : 0;
         try {
             doUnlock();
             lockDepth--;
         } catch (SQLException e) {
             throw new FlywaySqlException("Unable to unlock table " + this, e);
         }
+        return roundTrips;
+    }
+
+    /**
+     * Whether {@code doUnlock()} sends a statement to the database to release the outermost lock, rather than relying
+     * on the end of the transaction.
+     *
+     * @return {@code true} if releasing the outermost lock takes a round trip, {@code false} if not.
+     */
+    protected boolean hasExplicitUnlock() {
+        return false;
     }
 
     /**
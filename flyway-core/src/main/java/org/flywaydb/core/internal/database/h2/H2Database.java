@@ -22,15 +22,20 @@ package org.flywaydb.core.internal.database.h2;
 import org.flywaydb.core.api.MigrationVersion;
 import org.flywaydb.core.api.configuration.Configuration;
 import org.flywaydb.core.internal.database.base.Database;
+import org.flywaydb.core.internal.database.base.MigratedStateSnapshotSupport;
+import org.flywaydb.core.internal.database.base.Schema;
 import org.flywaydb.core.internal.database.base.Table;
 import org.flywaydb.core.internal.exception.FlywaySqlException;
 import org.flywaydb.core.internal.jdbc.JdbcConnectionFactory;
 import org.flywaydb.core.internal.jdbc.StatementInterceptor;
 
+import java.nio.file.Path;
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.stream.Collectors;
 
-public class H2Database extends Database<H2Connection> {
+public class H2Database extends Database<H2Connection> implements MigratedStateSnapshotSupport {
     /**
      * A dummy user used in Oracle mode, where USER() can return null but nulls can't be inserted into the
      * schema history table
@@ -190,4 +195,26 @@ public class H2Database extends Database<H2Connection> {
     public boolean catalogIsSchema() {
         return false;
     }
+
+    @Override
+    public boolean supportsMigratedStateSnapshots(Schema[] schemas) {
+        // SCRIPT and RUNSCRIPT resolve file names on the server, which only matches ours for embedded databases
+        String url = jdbcConnectionFactory.getJdbcUrl();
+        return url != null && !url.startsWith("jdbc:h2:tcp:") && !url.startsWith("jdbc:h2:ssl:");
+    }
+
+    @Override
+    public void takeMigratedStateSnapshot(Schema[] schemas, Path file) throws SQLException {
+        String schemaNames = Arrays.stream(schemas).map(schema -> quote(schema.getName())).collect(Collectors.joining(", "));
+        getMainConnection().getJdbcTemplate().execute("SCRIPT NOSETTINGS TO " + toFileLiteral(file) + " SCHEMA " + schemaNames);
+    }
+
+    @Override
+    public void restoreMigratedStateSnapshot(Path file) throws SQLException {
+        getMainConnection().getJdbcTemplate().execute("RUNSCRIPT FROM " + toFileLiteral(file));
+    }
+
+    private static String toFileLiteral(Path file) {
+        return "'" + file.toAbsolutePath().toString().replace("'", "''") + "'";
+    }
 }
@@ -28,6 +28,7 @@ import org.flywaydb.core.internal.util.StringUtils;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 @CustomLog
 public class H2Schema extends Schema<H2Database, H2Table> {
@@ -59,6 +60,31 @@ public class H2Schema extends Schema<H2Database, H2Table> {
                                      + (database.supportsDropSchemaCascade ? " CASCADE" : ""));
     }
 
+    @Override
+    protected List<String> getRecreateStatements() throws SQLException {
+        if (!database.supportsDropSchemaCascade
+                || "PUBLIC".equalsIgnoreCase(name) || "INFORMATION_SCHEMA".equalsIgnoreCase(name)) {
+            return null;
+        }
+
+        List<Map<String, String>> schemas = jdbcTemplate.queryForList(
+                "SELECT SCHEMA_OWNER, REMARKS FROM INFORMATION_SCHEMA.SCHEMATA WHERE SCHEMA_NAME = ?", name);
+        if (schemas.isEmpty()) {
+            return null;
+        }
+
+        List<String> statements = new ArrayList<>();
+        statements.add("CREATE SCHEMA " + database.quote(name) + " AUTHORIZATION " + database.quote(schemas.get(0).get("SCHEMA_OWNER")));
+        String remarks = schemas.get(0).get("REMARKS");
+        if (StringUtils.hasText(remarks)) {
+            statements.add("COMMENT ON SCHEMA " + database.quote(name) + " IS '" + remarks.replace("'", "''") + "'");
+        }
+        if (name.equals(jdbcTemplate.getConnection().getSchema())) {
+            statements.add("SET SCHEMA " + database.quote(name));
+        }
+        return statements;
+    }
+
     @Override
     protected void doClean() throws SQLException {
         for (Table table : allTables()) {
@@ -21,13 +21,18 @@ package org.flywaydb.core.internal.database.sqlite;
 
 import org.flywaydb.core.api.configuration.Configuration;
 import org.flywaydb.core.internal.database.base.Database;
+import org.flywaydb.core.internal.database.base.MigratedStateSnapshotSupport;
+import org.flywaydb.core.internal.database.base.Schema;
 import org.flywaydb.core.internal.database.base.Table;
 import org.flywaydb.core.internal.jdbc.JdbcConnectionFactory;
 import org.flywaydb.core.internal.jdbc.StatementInterceptor;
 
+import java.nio.file.Path;
 import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
 
-public class SQLiteDatabase extends Database<SQLiteConnection> {
+public class SQLiteDatabase extends Database<SQLiteConnection> implements MigratedStateSnapshotSupport {
     public SQLiteDatabase(Configuration configuration, JdbcConnectionFactory jdbcConnectionFactory, StatementInterceptor statementInterceptor) {
         super(configuration, jdbcConnectionFactory, statementInterceptor);
     }
@@ -92,4 +97,33 @@ public class SQLiteDatabase extends Database<SQLiteConnection> {
     public boolean useSingleConnection() {
         return true;
     }
+
+    @Override
+    public boolean supportsMigratedStateSnapshots(Schema[] schemas) {
+        // The backup and restore commands are extensions of the Xerial driver and only cover the main database
+        String driverInfo = jdbcConnectionFactory.getDriverInfo();
+        return driverInfo != null && driverInfo.contains("SQLite JDBC")
+                && schemas.length == 1 && "main".equals(schemas[0].getName());
+    }
+
+    @Override
+    public void takeMigratedStateSnapshot(Schema[] schemas, Path file) throws SQLException {
+        executeDriverCommand("backup to " + toFileArgument(file));
+    }
+
+    @Override
+    public void restoreMigratedStateSnapshot(Path file) throws SQLException {
+        executeDriverCommand("restore from " + toFileArgument(file));
+    }
+
+    private void executeDriverCommand(String command) throws SQLException {
+        // The driver only intercepts these commands on plain statements
+        try (Statement statement = getMainConnection().getJdbcConnection().createStatement()) {
+            statement.executeUpdate(command);
+        }
+    }
+
+    private static String toFileArgument(Path file) {
+        return "\"" + file.toAbsolutePath() + "\"";
+    }
 }
@@ -33,4 +33,11 @@ public interface ExecutionTemplate {
      * @return The result of the callback.
      */
     <T> T execute(Callable<T> callback);
+
+    /**
+     * @return The number of times a callback was executed again because the database restarted its transaction.
+     */
+    default int getRetryCount() {
+        return 0;
+    }
 }
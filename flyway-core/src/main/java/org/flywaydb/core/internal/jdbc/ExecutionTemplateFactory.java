@@ -43,6 +43,22 @@ public class ExecutionTemplateFactory {
         return new PlainExecutionTemplate();
     }
 
+    /**
+     * Creates a new execution template for applying a group of migrations on this connection. It may execute its
+     * callback again when the database restarts the transaction, so the callback must undo whatever the previous
+     * attempt did outside the transaction.
+     *
+     * @param connection The connection for execution.
+     * @param database The database
+     */
+    public static ExecutionTemplate createRestartableExecutionTemplate(Connection connection, Database database) {
+        if (database.supportsMultiStatementTransactions() && database.getConfiguration().isExecuteInTransaction()) {
+            return database.getDatabaseType().createRestartableTransactionalExecutionTemplate(connection, true);
+        }
+
+        return new PlainExecutionTemplate();
+    }
+
     /**
      * Creates a new execution template for this connection, which attempts to get exclusive access to the table
      *
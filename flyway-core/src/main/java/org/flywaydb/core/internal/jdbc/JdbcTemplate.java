@@ -31,7 +31,7 @@ import java.io.BufferedInputStream;
 import java.io.InputStreamReader;
 import java.sql.*;
 import java.util.ArrayList;
-import java.util.LinkedHashMap;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -45,6 +45,28 @@ public class JdbcTemplate {
      * The type to assign to a null value.
      */
     protected final int nullType;
+    /**
+     * Prepared statements kept open by {@link #updateReusingStatement(String, Object...)}, keyed by their SQL.
+     */
+    private final Map<String, PreparedStatement> reusableStatements = new HashMap<>();
+    /**
+     * How many scopes opened by {@link #beginStatementReuse()} are still active.
+     */
+    private int statementReuseDepth;
+    /**
+     * The plain statement shared by {@link #executeStatement(String)} and {@link #executeBatch(List, Configuration)}
+     * while statement reuse is active.
+     */
+    private Statement sharedStatement;
+    /**
+     * Whether statements were added to the batch of the shared statement since it was last cleared. Only then is
+     * {@link Statement#clearBatch()} called, as drivers without batch support may reject it.
+     */
+    private boolean sharedStatementBatched;
+    /**
+     * The maximum number of rows to read from each result set, or -1 for no limit.
+     */
+    private int resultRowLimit = -1;
 
     public JdbcTemplate(Connection connection, DatabaseType databaseType) {
         this.connection = connection;
@@ -55,22 +77,49 @@ public class JdbcTemplate {
         return connection;
     }
 
+    /**
+     * Limits the number of rows read from each result set of the statements executed by
+     * {@link #executeStatement(String)}. Further rows are still drained so all errors are detected, but they are never
+     * converted.
+     *
+     * @param resultRowLimit The maximum number of rows, or -1 for no limit.
+     */
+    public void setResultRowLimit(int resultRowLimit) {
+        this.resultRowLimit = resultRowLimit;
+    }
+
     public List<Map<String, String>> queryForList(String query, Object... params) throws SQLException {
+        return new ArrayList<>(queryForRows(query, params));
+    }
+
+    /**
+     * Executes this query and returns its rows. The column labels are resolved once for the whole result set, so this
+     * is cheaper than {@link #queryForList(String, Object...)} for large results, and the values can also be read by
+     * column index.
+     *
+     * @param query The query to execute.
+     * @param params The query parameters.
+     * @return The rows of the result set.
+     * @throws SQLException when the query execution failed.
+     */
+    public List<Row> queryForRows(String query, Object... params) throws SQLException {
         PreparedStatement statement = null;
         ResultSet resultSet = null;
 
-        List<Map<String, String>> result;
+        List<Row> result;
         try {
             statement = prepareStatement(query, params);
             resultSet = statement.executeQuery();
 
+            Row.Header header = new Row.Header(resultSet.getMetaData());
+            int columnCount = header.getColumnCount();
             result = new ArrayList<>();
             while (resultSet.next()) {
-                Map<String, String> rowMap = new LinkedHashMap<>();
-                for (int i = 1; i <= resultSet.getMetaData().getColumnCount(); i++) {
-                    rowMap.put(resultSet.getMetaData().getColumnLabel(i), resultSet.getString(i));
+                String[] values = new String[columnCount];
+                for (int i = 0; i < columnCount; i++) {
+                    values[i] = resultSet.getString(i + 1);
                 }
-                result.add(rowMap);
+                result.add(new Row(header, values));
             }
         } finally {
             JdbcUtils.closeResultSet(resultSet);
@@ -203,21 +252,70 @@ public class JdbcTemplate {
     public Results executeStatement(String sql) {
         Results results = new Results();
         Statement statement = null;
+        boolean failed = true;
         try {
-            statement = connection.createStatement();
+            statement = acquireStatement();
             statement.setEscapeProcessing(false);
 
             boolean hasResults = statement.execute(sql);
             extractResults(results, statement, sql, hasResults);
             extractWarnings(results, statement);
+            failed = false;
         } catch (final SQLException e) {
             extractErrors(results, e);
         } finally {
-            JdbcUtils.closeStatement(statement);
+            releaseStatement(statement, failed);
         }
         return results;
     }
 
+    /**
+     * Shares a single plain statement between all calls to {@link #executeStatement(String)} and
+     * {@link #executeBatch(List, Configuration)} until the matching {@link #endStatementReuse()}, instead of creating
+     * and closing one per call. Scopes may be nested.
+     */
+    public void beginStatementReuse() {
+        statementReuseDepth++;
+    }
+
+    /**
+     * Ends a scope opened by {@link #beginStatementReuse()}, closing the shared statement once no scope is left.
+     */
+    public void endStatementReuse() {
+        if (statementReuseDepth > 0 && --statementReuseDepth == 0) {
+            JdbcUtils.closeStatement(sharedStatement);
+            sharedStatement = null;
+            sharedStatementBatched = false;
+        }
+    }
+
+    private Statement acquireStatement() throws SQLException {
+        if (statementReuseDepth == 0) {
+            return connection.createStatement();
+        }
+        if (sharedStatement == null) {
+            sharedStatement = connection.createStatement();
+        } else {
+            sharedStatement.clearWarnings();
+            if (sharedStatementBatched) {
+                sharedStatement.clearBatch();
+                sharedStatementBatched = false;
+            }
+        }
+        return sharedStatement;
+    }
+
+    private void releaseStatement(Statement statement, boolean failed) {
+        if (statement != sharedStatement) {
+            JdbcUtils.closeStatement(statement);
+        } else if (failed) {
+            // The driver may have left the statement in an unusable state, so the next call starts with a fresh one
+            JdbcUtils.closeStatement(sharedStatement);
+            sharedStatement = null;
+            sharedStatementBatched = false;
+        }
+    }
+
     protected void extractWarnings(Results results, Statement statement) throws SQLException {
         SQLWarning warning = statement.getWarnings();
         while (warning != null) {
@@ -267,6 +365,9 @@ public class JdbcTemplate {
                     data = new ArrayList<>();
 
                     while (resultSet.next()) {
+                        if (resultRowLimit >= 0 && data.size() >= resultRowLimit) {
+                            continue;
+                        }
                         List<String> row = new ArrayList<>();
                         for (int i = 1; i <= columnCount; i++) {
                             row.add(resultSet.getString(i));
@@ -299,6 +400,42 @@ public class JdbcTemplate {
         }
     }
 
+    /**
+     * Executes this sql statement using a PreparedStatement which is kept open and reused by subsequent calls with the
+     * same sql, until {@link #closeReusableStatements()} is called.
+     *
+     * @param sql    The statement to execute.
+     * @param params The statement parameters.
+     *
+     * @throws SQLException when the execution failed.
+     */
+    public void updateReusingStatement(String sql, Object... params) throws SQLException {
+        PreparedStatement statement = reusableStatements.remove(sql);
+        try {
+            if (statement == null) {
+                statement = prepareStatement(sql, params);
+            } else {
+                statement.clearParameters();
+                setParameters(statement, params);
+            }
+            statement.executeUpdate();
+        } catch (SQLException e) {
+            JdbcUtils.closeStatement(statement);
+            throw e;
+        }
+        reusableStatements.put(sql, statement);
+    }
+
+    /**
+     * Closes all statements kept open by {@link #updateReusingStatement(String, Object...)}.
+     */
+    public void closeReusableStatements() {
+        for (PreparedStatement statement : reusableStatements.values()) {
+            JdbcUtils.closeStatement(statement);
+        }
+        reusableStatements.clear();
+    }
+
     /**
      * Creates a new prepared statement for this sql with these params.
      *
@@ -311,6 +448,19 @@ public class JdbcTemplate {
      */
     protected PreparedStatement prepareStatement(String sql, Object[] params) throws SQLException {
         PreparedStatement statement = connection.prepareStatement(sql);
+        setParameters(statement, params);
+        return statement;
+    }
+
+    /**
+     * Sets these params on this prepared statement.
+     *
+     * @param statement The prepared statement.
+     * @param params    The params.
+     *
+     * @throws SQLException when the params could not be set.
+     */
+    protected void setParameters(PreparedStatement statement, Object[] params) throws SQLException {
         for (int i = 0; i < params.length; i++) {
             if (params[i] == null) {
                 statement.setNull(i + 1, nullType);
@@ -331,7 +481,6 @@ public class JdbcTemplate {
                                                   "Please contact support or leave an issue on GitHub.");
             }
         }
-        return statement;
     }
 
     /**
@@ -375,9 +524,12 @@ public class JdbcTemplate {
     public Results executeBatch(List<String> sqlBatch, Configuration config) {
         Results results = new Results();
         Statement statement = null;
+        boolean failed = true;
         StringBuilder sb = new StringBuilder();
         try {
-            statement = connection.createStatement();
+            statement = acquireStatement();
+            statement.setEscapeProcessing(true);
+            sharedStatementBatched |= statement == sharedStatement;
             for (String sql : sqlBatch) {
                 sb.append(sql);
                 statement.addBatch(sql);
@@ -386,6 +538,7 @@ public class JdbcTemplate {
                 for (int intResult : statement.executeBatch()) {
                     results.addResult(new Result(intResult, null, null, sb.toString()));
                 }
+                failed = false;
             } catch (BatchUpdateException e) {
                 for (int intResult : e.getUpdateCounts()) {
                     results.addResult(new Result(intResult, null, null, sb.toString()));
@@ -397,7 +550,7 @@ public class JdbcTemplate {
         } catch (SQLException e) {
             extractErrors(results, e);
         } finally {
-            JdbcUtils.closeStatement(statement);
+            releaseStatement(statement, failed);
         }
         return results;
     }
@@ -0,0 +1,133 @@
+/*-
+ * ========================LICENSE_START=================================
+ * flyway-core
+ * ========================================================================
+ * Copyright (C) 2010 - 2025 Red Gate Software Ltd
+ * ========================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+package org.flywaydb.core.internal.jdbc;
+
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * A row returned by a query, as an immutable map from column label to value. The labels are resolved once per result
+ * set and shared by all its rows, which only hold their values.
+ */
+public final class Row extends AbstractMap<String, String> {
+    private final Header header;
+    private final String[] values;
+
+    Row(Header header, String[] values) {
+        this.header = header;
+        this.values = values;
+    }
+
+    /**
+     * @param columnIndex The index of the column, starting at 0.
+     * @return The value of this column.
+     */
+    public String get(int columnIndex) {
+        return values[columnIndex];
+    }
+
+    @Override
+    public String get(Object label) {
+        Integer columnIndex = header.columnIndexes.get(label);
+        return columnIndex == null ? null : values[columnIndex];
+    }
+
+    @Override
+    public boolean containsKey(Object label) {
+        return header.columnIndexes.containsKey(label);
+    }
+
+    @Override
+    public int size() {
+        return header.labels.length;
+    }
+
+    @Override
+    public Set<Entry<String, String>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<String, String>> iterator() {
+                return new Iterator<>() {
+                    private int i;
+
+                    @Override
+                    public boolean hasNext() {
+                        return i < header.labels.length;
+                    }
+
+                    @Override
+                    public Entry<String, String> next() {
+                        if (!hasNext()) {
+                            throw new NoSuchElementException();
+                        }
+                        String label = header.labels[i++];
+                        return new SimpleImmutableEntry<>(label, get(label));
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return header.labels.length;
+            }
+        };
+    }
+
+    /**
+     * The column labels of a result set.
+     */
+    static final class Header {
+        /**
+         * The distinct labels, in the order of their first column.
+         */
+        private final String[] labels;
+        /**
+         * The index of the column holding the value of each label. When several columns share a label, the last one
+         * wins.
+         */
+        private final Map<String, Integer> columnIndexes = new HashMap<>();
+        private final int columnCount;
+
+        Header(ResultSetMetaData metadata) throws SQLException {
+            columnCount = metadata.getColumnCount();
+            String[] distinctLabels = new String[columnCount];
+            int distinctCount = 0;
+            for (int i = 0; i < columnCount; i++) {
+                String label = metadata.getColumnLabel(i + 1);
+                if (columnIndexes.put(label, i) == null) {
+                    distinctLabels[distinctCount++] = label;
+                }
+            }
+            labels = distinctCount == columnCount ? distinctLabels : Arrays.copyOf(distinctLabels, distinctCount);
+        }
+
+        int getColumnCount() {
+            return columnCount;
+        }
+    }
+}
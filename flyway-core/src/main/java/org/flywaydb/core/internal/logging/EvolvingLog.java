@@ -25,6 +25,8 @@ import org.flywaydb.core.api.logging.Log;
 import org.flywaydb.core.api.logging.LogFactory;
 import org.flywaydb.core.internal.logging.buffered.BufferedLog;
 
+import java.util.function.Supplier;
+
 @AllArgsConstructor
 public class EvolvingLog implements Log {
     private Log log;
@@ -56,6 +58,12 @@ public class EvolvingLog implements Log {
         log.debug(message);
     }
 
+    @Override
+    public void debug(Supplier<String> message) {
+        updateLog();
+        log.debug(message);
+    }
+
     @Override
     public void info(String message) {
         updateLog();
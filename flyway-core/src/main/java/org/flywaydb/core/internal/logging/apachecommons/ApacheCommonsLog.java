@@ -22,6 +22,8 @@ package org.flywaydb.core.internal.logging.apachecommons;
 import lombok.RequiredArgsConstructor;
 import org.flywaydb.core.api.logging.Log;
 
+import java.util.function.Supplier;
+
 @RequiredArgsConstructor
 public class ApacheCommonsLog implements Log {
 
@@ -36,6 +38,13 @@ public class ApacheCommonsLog implements Log {
         logger.debug(message);
     }
 
+    @Override
+    public void debug(Supplier<String> message) {
+        if (logger.isDebugEnabled()) {
+            logger.debug(message.get());
+        }
+    }
+
     public void info(String message) {
         logger.info(message);
     }
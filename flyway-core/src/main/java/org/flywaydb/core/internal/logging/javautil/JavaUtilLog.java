@@ -22,6 +22,7 @@ package org.flywaydb.core.internal.logging.javautil;
 import lombok.RequiredArgsConstructor;
 import org.flywaydb.core.api.logging.Log;
 
+import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.LogRecord;
 import java.util.logging.Logger;
@@ -40,6 +41,13 @@ public class JavaUtilLog implements Log {
         log(Level.FINE, message, null);
     }
 
+    @Override
+    public void debug(Supplier<String> message) {
+        if (logger.isLoggable(Level.FINE)) {
+            log(Level.FINE, message.get(), null);
+        }
+    }
+
     public void info(String message) {
         log(Level.INFO, message, null);
     }
@@ -23,6 +23,8 @@ import lombok.RequiredArgsConstructor;
 import org.apache.logging.log4j.Logger;
 import org.flywaydb.core.api.logging.Log;
 
+import java.util.function.Supplier;
+
 @RequiredArgsConstructor
 public class Log4j2Log implements Log {
 
@@ -35,6 +37,13 @@ public class Log4j2Log implements Log {
 
     public void debug(String message) {logger.debug(message);}
 
+    @Override
+    public void debug(Supplier<String> message) {
+        if (logger.isDebugEnabled()) {
+            logger.debug(message.get());
+        }
+    }
+
     public void info(String message) {
         logger.info(message);
     }
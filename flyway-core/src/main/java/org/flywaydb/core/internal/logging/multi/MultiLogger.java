@@ -23,6 +23,7 @@ import lombok.RequiredArgsConstructor;
 import org.flywaydb.core.api.logging.Log;
 
 import java.util.List;
+import java.util.function.Supplier;
 
 /**
  * Log implementation that forwards method calls to multiple implementations
@@ -50,6 +51,20 @@ public class MultiLogger implements Log {
         }
     }
 
+    @Override
+    public void debug(Supplier<String> message) {
+        // Build the message at most once, and only when one of the logs will output it
+        String text = null;
+        for (Log log : logs) {
+            if (log.isDebugEnabled()) {
+                if (text == null) {
+                    text = message.get();
+                }
+                log.debug(text);
+            }
+        }
+    }
+
     @Override
     public void info(String message) {
         for (Log log : logs) {
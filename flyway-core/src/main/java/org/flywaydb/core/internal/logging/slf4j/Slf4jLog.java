@@ -23,6 +23,8 @@ import lombok.RequiredArgsConstructor;
 import org.flywaydb.core.api.logging.Log;
 import org.slf4j.Logger;
 
+import java.util.function.Supplier;
+
 @RequiredArgsConstructor
 public class Slf4jLog implements Log {
 
@@ -37,6 +39,13 @@ public class Slf4jLog implements Log {
         logger.debug(message);
     }
 
+    @Override
+    public void debug(Supplier<String> message) {
+        if (logger.isDebugEnabled()) {
+            logger.debug(message.get());
+        }
+    }
+
     public void info(String message) {
         logger.info(message);
     }
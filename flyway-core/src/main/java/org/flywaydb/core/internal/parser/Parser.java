@@ -115,19 +115,24 @@ public abstract class Parser {
         ParserContext context = new ParserContext(getDefaultDelimiter());
 
         String filename = resource.getFilename();
-        LOG.debug("Parsing " + filename + " ...");
+        LOG.debug(() -> "Parsing " + filename + " ...");
 
         ResourceName result = new ResourceNameParser(configuration).parse(filename);
-        parsingContext.updateFilenamePlaceholder(result, configuration);
 
-        PeekingReader peekingReader = new PeekingReader(
-                new RecordingReader(recorder,
-                                    new PositionTrackingReader(tracker, replacePlaceholders(
-                                            new BomStrippingReader(
-                                                    new UnboundedReadAheadReader(
-                                                            new BufferedReader(resource.read(), 4096))),
-                                            metadata))),
-                supportsPeekingMultipleLines());
+        PeekingReader peekingReader;
+        // The parsing context is shared by all scripts, which may be parsed on different threads
+        synchronized (parsingContext) {
+            parsingContext.updateFilenamePlaceholder(result, configuration);
+
+            peekingReader = new PeekingReader(
+                    new RecordingReader(recorder,
+                                        new PositionTrackingReader(tracker, replacePlaceholders(
+                                                new BomStrippingReader(
+                                                        new UnboundedReadAheadReader(
+                                                                new BufferedReader(resource.read(), 4096))),
+                                                metadata))),
+                    supportsPeekingMultipleLines());
+        }
 
         return new ParserSqlStatementIterator(peekingReader, resource, recorder, tracker, context);
     }
@@ -157,6 +162,8 @@ public abstract class Parser {
         try {
             List<Token> tokens = new ArrayList<>();
             List<Token> keywords = new ArrayList<>();
+            // Whether all tokens are comments or blank lines, tracked as they are added to avoid rescanning them
+            boolean onlyCommentsAndBlankLines = true;
 
             int statementPos = -1;
             recorder.start();
@@ -199,6 +206,7 @@ public abstract class Parser {
 
                     ));
                     tokens.clear();
+                    onlyCommentsAndBlankLines = true;
                     recorder.start();
                     statementLine = tracker.getLine();
                     statementCol = tracker.getCol();
@@ -208,6 +216,7 @@ public abstract class Parser {
 
                 if (shouldDiscard(token, nonCommentPartPos >= 0)) {
                     tokens.clear();
+                    onlyCommentsAndBlankLines = true;
                     recorder.start();
                     statementLine = tracker.getLine();
                     statementCol = tracker.getCol();
@@ -245,7 +254,7 @@ public abstract class Parser {
                         batchable);
                 }
 
-                if (tokens.isEmpty() || tokens.stream().allMatch(t -> t.getType() == TokenType.BLANK_LINES || t.getType() == TokenType.COMMENT)) {
+                if (onlyCommentsAndBlankLines) {
                     nonCommentPartPos = -1;
                     nonCommentPartLine = -1;
                     nonCommentPartCol = -1;
@@ -255,6 +264,9 @@ public abstract class Parser {
                     statementCol = token.getCol();
                 }
                 tokens.add(token);
+                if (tokenType != TokenType.BLANK_LINES && tokenType != TokenType.COMMENT) {
+                    onlyCommentsAndBlankLines = false;
+                }
                 recorder.confirm();
                 if (nonCommentPartPos < 0 &&
                         TokenType.COMMENT != tokenType &&
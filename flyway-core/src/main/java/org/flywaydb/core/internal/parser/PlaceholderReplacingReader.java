@@ -30,44 +30,54 @@ import java.util.HashMap;
 import java.util.Map;
 
 public class PlaceholderReplacingReader extends FilterReader {
+    /**
+     * The number of characters read from the underlying reader at once.
+     */
+    private static final int BLOCK_SIZE = 8192;
+
     private final String prefix;
     private final String suffix;
     private final String separator;
-    private final CaseInsensitiveMap placeholders = new CaseInsensitiveMap();
-
-    private final StringBuilder buffer = new StringBuilder();
-    private String markBuffer;
-
-    private String replacement;
-    private int replacementPos;
-
-    private String markReplacement;
-    private int markReplacementPos;
-
-    private static class CaseInsensitiveMap extends HashMap<String, String> {
-
-        @Override
-        public void putAll(Map<? extends String, ? extends String> m) {
-            for (Map.Entry<? extends String, ? extends String> e : m.entrySet()) {
-                put(e.getKey(), e.getValue());
-            }
-        }
-
-        @Override
-        public String put(String key, String value) {
-            return super.put(key.toLowerCase(), value);
-        }
-
-        @Override
-        public String get(Object key) {
-            return super.get(key.toString().toLowerCase());
-        }
-
-        @Override
-        public boolean containsKey(Object key) {
-            return super.containsKey(key.toString().toLowerCase());
-        }
-    }
+    /**
+     * The placeholder values, keyed by their lower case name.
+     */
+    private final Map<String, String> placeholders = new HashMap<>();
+
+    private final char[] prefixChars;
+    private final char[] suffixChars;
+
+    /**
+     * The block of characters last read from the underlying reader.
+     */
+    private final char[] block = new char[BLOCK_SIZE];
+
+    /**
+     * The characters with placeholders replaced which are ready to be read. Characters from the mark onwards are
+     * kept so the reader can be reset to it.
+     */
+    private char[] buffer = new char[BLOCK_SIZE];
+    private int bufferPos;
+    private int bufferLimit;
+    private int markPos = -1;
+    private int markLimit;
+
+    /**
+     * The number of characters of the prefix matched so far at the end of the last block.
+     */
+    private int prefixMatched;
+
+    /**
+     * Whether the prefix of a placeholder has been read, but not yet its suffix.
+     */
+    private boolean inPlaceholder;
+    private final StringBuilder placeholderBuilder = new StringBuilder();
+
+    private boolean eof;
+
+    /**
+     * The failure to replace a placeholder, thrown once the characters before it have been read.
+     */
+    private FlywayException placeholderException;
 
     public PlaceholderReplacingReader(final String prefix,
         final String suffix,
@@ -78,16 +88,21 @@ public class PlaceholderReplacingReader extends FilterReader {
         this.prefix = prefix;
         this.suffix = suffix;
         this.separator = separator;
-        this.placeholders.putAll(placeholders);
+        this.prefixChars = prefix.toCharArray();
+        this.suffixChars = suffix.toCharArray();
+        for (Map.Entry<String, String> e : placeholders.entrySet()) {
+            this.placeholders.put(e.getKey().toLowerCase(), e.getValue());
+        }
     }
 
     public static PlaceholderReplacingReader create(Configuration configuration, ParsingContext parsingContext, Reader reader) {
         Map<String, String> placeholders = new HashMap<>();
         Map<String, String> configurationPlaceholders = configuration.getPlaceholders();
-        Map<String, String> parsingContextPlaceholders = parsingContext.getPlaceholders();
 
         placeholders.putAll(configurationPlaceholders);
-        placeholders.putAll(parsingContextPlaceholders);
+        synchronized (parsingContext) {
+            placeholders.putAll(parsingContext.getPlaceholders());
+        }
 
         return new PlaceholderReplacingReader(
             configuration.getPlaceholderPrefix(),
@@ -99,14 +114,15 @@ public class PlaceholderReplacingReader extends FilterReader {
         public static PlaceholderReplacingReader create(Configuration configuration, ParsingContext parsingContext, LoadableMigrationInfo info) {
             Map<String, String> placeholders = new HashMap<>();
             Map<String, String> configurationPlaceholders = configuration.getPlaceholders();
-            Map<String, String> parsingContextPlaceholders = parsingContext.getPlaceholders();
 
             final boolean placeholderReplacement = info.isPlaceholderReplacement() == null
                 ? configuration.isPlaceholderReplacement()
                 : info.isPlaceholderReplacement();
             if (placeholderReplacement) {
                 placeholders.putAll(configurationPlaceholders);
-                placeholders.putAll(parsingContextPlaceholders);
+                synchronized (parsingContext) {
+                    placeholders.putAll(parsingContext.getPlaceholders());
+                }
             }
                 return new PlaceholderReplacingReader(
                     configuration.getPlaceholderPrefix(),
@@ -119,10 +135,11 @@ public class PlaceholderReplacingReader extends FilterReader {
     public static PlaceholderReplacingReader createForScriptMigration(Configuration configuration, ParsingContext parsingContext, Reader reader) {
         Map<String, String> placeholders = new HashMap<>();
         Map<String, String> configurationPlaceholders = configuration.getPlaceholders();
-        Map<String, String> parsingContextPlaceholders = parsingContext.getPlaceholders();
 
         placeholders.putAll(configurationPlaceholders);
-        placeholders.putAll(parsingContextPlaceholders);
+        synchronized (parsingContext) {
+            placeholders.putAll(parsingContext.getPlaceholders());
+        }
 
         return new PlaceholderReplacingReader(
                 configuration.getScriptPlaceholderPrefix(),
@@ -134,128 +151,211 @@ public class PlaceholderReplacingReader extends FilterReader {
 
     @Override
     public int read() throws IOException {
-        if (replacement == null) {
+        if (bufferPos >= bufferLimit && !fill()) {
+            return -1;
+        }
+        return buffer[bufferPos++];
+    }
 
-            // if we have a previous read, then consume it
-            if (buffer.length() > 0) {
-                char c = buffer.charAt(0);
-                buffer.deleteCharAt(0);
-                return c;
-            }
+    @Override
+    public int read(char[] cbuf, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        if (bufferPos >= bufferLimit && !fill()) {
+            return -1;
+        }
+        int count = Math.min(len, bufferLimit - bufferPos);
+        System.arraycopy(buffer, bufferPos, cbuf, off, count);
+        bufferPos += count;
+        return count;
+    }
 
-            // else read ahead by the prefix length
-            int r;
-            do {
-                r = super.read();
-                if (r == -1) {
-                    break;
-                }
+    @Override
+    public long skip(long n) throws IOException {
+        long skipped = 0;
+        while (skipped < n && (bufferPos < bufferLimit || fill())) {
+            int count = (int) Math.min(n - skipped, bufferLimit - bufferPos);
+            bufferPos += count;
+            skipped += count;
+        }
+        return skipped;
+    }
 
-                buffer.append((char) r);
-            } while (buffer.length() < prefix.length() && endsWith(buffer, prefix.substring(0, buffer.length())));
+    @Override
+    public boolean ready() throws IOException {
+        return bufferPos < bufferLimit || super.ready();
+    }
 
-            // if the buffer does not contain the prefix
-            if (!endsWith(buffer, prefix)) {
-                // if it contain data, return the first character of it
-                if (buffer.length() > 0) {
-                    char c = buffer.charAt(0);
-                    buffer.deleteCharAt(0);
-                    return c;
-                }
-                // else return -1
-                return -1;
-            }
-            // if the buffer contained the prefix, wipe the buffer
-            buffer.delete(0, buffer.length());
-
-            // begin reading ahead until we get to the suffix
-            StringBuilder placeholderBuilder = new StringBuilder();
-            do {
-                int r1 = super.read();
-                if (r1 == -1) {
-                    break;
-                } else {
-                    placeholderBuilder.append((char) r1);
-                }
-            } while (!endsWith(placeholderBuilder, suffix));
+    @Override
+    public boolean markSupported() {
+        return true;
+    }
 
-            // delete the suffix from the builder
-            for (int i = 0; i < suffix.length(); i++) {
-                placeholderBuilder.deleteCharAt(placeholderBuilder.length() - 1);
-            }
+    @Override
+    public void mark(int readAheadLimit) {
+        markPos = bufferPos;
+        markLimit = readAheadLimit;
+    }
 
-            // look up the placeholder string
-            String placeholder = placeholderBuilder.toString();
-            if (!placeholders.containsKey(placeholder)) {
-                String canonicalPlaceholder = prefix + placeholder + suffix;
+    @Override
+    public void reset() throws IOException {
+        if (markPos < 0) {
+            throw new IOException("Mark invalid");
+        }
+        bufferPos = markPos;
+    }
 
-                if (placeholder.startsWith("flyway" + separator)) {
-                    throw new FlywayException("Failed to populate value for default placeholder: "
-                                                      + canonicalPlaceholder);
-                }
+    /**
+     * Reads blocks from the underlying reader until there are characters ready to be read.
+     *
+     * @return {@code false} if the end of the stream has been reached.
+     */
+    private boolean fill() throws IOException {
+        if (markPos >= 0 && bufferLimit - markPos > markLimit) {
+            // Read past the limit, so the mark no longer needs to be kept
+            markPos = -1;
+        }
+        if (markPos >= 0) {
+            System.arraycopy(buffer, markPos, buffer, 0, bufferLimit - markPos);
+            bufferLimit -= markPos;
+            bufferPos = bufferLimit;
+            markPos = 0;
+        } else {
+            bufferPos = 0;
+            bufferLimit = 0;
+        }
 
-                throw new FlywayException("No value provided for placeholder: "
-                                                  + canonicalPlaceholder
-                                                  + ".  Check your configuration!");
+        while (bufferPos >= bufferLimit) {
+            if (placeholderException != null) {
+                throw placeholderException;
+            }
+            if (eof) {
+                return false;
             }
 
-            // set the current placeholder replacement
-            replacement = placeholders.get(placeholder);
+            int count = super.read(block, 0, BLOCK_SIZE);
+            if (count == -1) {
+                eof = true;
+                if (inPlaceholder) {
+                    // Unterminated placeholder
+                    placeholderBuilder.setLength(Math.max(0, placeholderBuilder.length() - suffixChars.length));
+                    inPlaceholder = false;
+                    replacePlaceholder();
+                } else {
+                    append(prefixChars, 0, prefixMatched);
+                    prefixMatched = 0;
+                }
+            } else {
+                replacePlaceholders(count);
+            }
+        }
+        return true;
+    }
 
-            // Empty placeholder value -> move to the next character
-            if (replacement == null || replacement.length() == 0) {
-                replacement = null;
-                return read();
+    private void replacePlaceholders(int count) {
+        int i = 0;
+        while (i < count && placeholderException == null) {
+            if (inPlaceholder) {
+                // Read ahead until we get to the suffix
+                placeholderBuilder.append(block[i++]);
+                if (endsWith(placeholderBuilder, suffixChars)) {
+                    placeholderBuilder.setLength(placeholderBuilder.length() - suffixChars.length);
+                    inPlaceholder = false;
+                    replacePlaceholder();
+                }
+            } else if (prefixMatched > 0) {
+                char c = block[i++];
+                if (c == prefixChars[prefixMatched]) {
+                    prefixMatched++;
+                    startPlaceholderIfPrefixMatched();
+                } else {
+                    // Not a placeholder, the characters read ahead are passed through as they are
+                    append(prefixChars, 0, prefixMatched);
+                    append(c);
+                    prefixMatched = 0;
+                }
+            } else {
+                // Pass everything up to the first character of the prefix through in bulk
+                int start = i;
+                if (prefixChars.length > 0) {
+                    char prefixStart = prefixChars[0];
+                    while (i < count && block[i] != prefixStart) {
+                        i++;
+                    }
+                } else {
+                    i = count;
+                }
+                append(block, start, i - start);
+                if (i < count) {
+                    i++;
+                    prefixMatched = 1;
+                    startPlaceholderIfPrefixMatched();
+                }
             }
         }
+    }
 
-        int result = replacement.charAt(replacementPos);
-        replacementPos++;
-        if (replacementPos >= replacement.length()) {
-            replacement = null;
-            replacementPos = 0;
+    private void startPlaceholderIfPrefixMatched() {
+        if (prefixMatched == prefixChars.length) {
+            prefixMatched = 0;
+            inPlaceholder = true;
+            placeholderBuilder.setLength(0);
         }
-        return result;
     }
 
-    @Override
-    public int read(char[] cbuf, int off, int len) throws IOException {
-        int count = 0;
-        for (int i = 0; i < len; i++) {
-            int r = read();
-            if (r == -1) {
-                return count == 0 ? -1 : count;
+    private void replacePlaceholder() {
+        // look up the placeholder string
+        String placeholder = placeholderBuilder.toString();
+        String key = placeholder.toLowerCase();
+        if (!placeholders.containsKey(key)) {
+            String canonicalPlaceholder = prefix + placeholder + suffix;
+
+            if (placeholder.startsWith("flyway" + separator)) {
+                placeholderException = new FlywayException("Failed to populate value for default placeholder: "
+                                                                   + canonicalPlaceholder);
+            } else {
+                placeholderException = new FlywayException("No value provided for placeholder: "
+                                                                   + canonicalPlaceholder
+                                                                   + ".  Check your configuration!");
             }
-            cbuf[off + i] = (char) r;
-            count++;
+            return;
+        }
+
+        String replacement = placeholders.get(key);
+        if (replacement != null) {
+            ensureCapacity(replacement.length());
+            replacement.getChars(0, replacement.length(), buffer, bufferLimit);
+            bufferLimit += replacement.length();
         }
-        return count;
     }
 
-    @Override
-    public void mark(int readAheadLimit) throws IOException {
-        markBuffer = buffer.toString();
-        markReplacement = replacement;
-        markReplacementPos = replacementPos;
-        super.mark(readAheadLimit);
+    private void append(char c) {
+        ensureCapacity(1);
+        buffer[bufferLimit++] = c;
     }
 
-    @Override
-    public void reset() throws IOException {
-        super.reset();
-        buffer.delete(0, buffer.length());
-        buffer.append(markBuffer);
-        replacement = markReplacement;
-        replacementPos = markReplacementPos;
+    private void append(char[] chars, int off, int len) {
+        ensureCapacity(len);
+        System.arraycopy(chars, off, buffer, bufferLimit, len);
+        bufferLimit += len;
+    }
+
+    private void ensureCapacity(int len) {
+        if (bufferLimit + len > buffer.length) {
+            char[] newBuffer = new char[Math.max(buffer.length * 2, bufferLimit + len)];
+            System.arraycopy(buffer, 0, newBuffer, 0, bufferLimit);
+            buffer = newBuffer;
+        }
     }
 
-    private boolean endsWith(StringBuilder result, String str) {
-        if (result.length() < str.length()) {
+    private boolean endsWith(StringBuilder result, char[] chars) {
+        if (result.length() < chars.length) {
             return false;
         }
 
-        for (int i = 0; i < str.length(); i++) {
-            if (result.charAt(result.length() - str.length() + i) != str.charAt(i)) {
+        for (int i = 0; i < chars.length; i++) {
+            if (result.charAt(result.length() - chars.length + i) != chars[i]) {
                 return false;
             }
         }
@@ -20,11 +20,13 @@
 package org.flywaydb.core.internal.resolver.script;
 
 import lombok.CustomLog;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.flywaydb.core.api.FlywayException;
 import org.flywaydb.core.api.executor.Context;
 import org.flywaydb.core.api.executor.MigrationExecutor;
 import org.flywaydb.core.api.resource.LoadableResource;
+import org.flywaydb.core.internal.configuration.extensions.ScriptMigrationTimeoutConfigurationExtension;
 import org.flywaydb.core.internal.database.DatabaseExecutionStrategy;
 import org.flywaydb.core.internal.database.DatabaseType;
 import org.flywaydb.core.internal.database.DatabaseTypeRegister;
@@ -32,21 +34,25 @@ import org.flywaydb.core.internal.jdbc.Results;
 import org.flywaydb.core.internal.jdbc.StatementInterceptor;
 import org.flywaydb.core.internal.parser.ParsingContext;
 import org.flywaydb.core.internal.resource.ResourceName;
-import org.flywaydb.core.internal.util.FileUtils;
+import org.flywaydb.core.internal.util.ExternalProcessRunner;
 import org.flywaydb.core.internal.util.OsUtils;
 import org.flywaydb.core.internal.util.StringUtils;
 
 import java.io.File;
-import java.io.InputStreamReader;
-import java.nio.charset.StandardCharsets;
 import java.sql.SQLException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 @CustomLog
 @RequiredArgsConstructor
 public class ScriptMigrationExecutor implements MigrationExecutor {
+    private static final int MAX_ERROR_LINES = 100;
+
+    @Getter
     private final LoadableResource resource;
     private final ParsingContext parsingContext;
     private final ResourceName resourceName;
@@ -145,8 +151,12 @@ public class ScriptMigrationExecutor implements MigrationExecutor {
         String prefix = context.getConfiguration().getScriptPlaceholderPrefix();
         String suffix = context.getConfiguration().getScriptPlaceholderSuffix();
 
-        parsingContext.updateFilenamePlaceholder(resourceName, context.getConfiguration());
-        Map<String, String> placeHolders = parsingContext.getPlaceholders();
+        Map<String, String> placeHolders;
+        // The parsing context is shared with sql scripts, which may be parsed ahead on another thread
+        synchronized (parsingContext) {
+            parsingContext.updateFilenamePlaceholder(resourceName, context.getConfiguration());
+            placeHolders = new HashMap<>(parsingContext.getPlaceholders());
+        }
         placeHolders.putAll(context.getConfiguration().getPlaceholders());
 
         // If the url or username aren't set, try to read them from the connection metadata
@@ -176,14 +186,22 @@ public class ScriptMigrationExecutor implements MigrationExecutor {
 
         builder.redirectErrorStream(true);
 
-        Process process = builder.start();
-        String stdOut = FileUtils.copyToString(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8));
-        int returnCode = process.waitFor();
+        ScriptMigrationTimeoutConfigurationExtension extension = context.getConfiguration().getPluginRegister()
+                .getPlugin(ScriptMigrationTimeoutConfigurationExtension.class);
+        Integer timeout = extension == null ? null : extension.getScriptMigrationTimeout();
 
-        LOG.info(stdOut);
+        // Only the last lines are kept for the error message, as the output may be much larger than the memory
+        Deque<String> lastLines = new ArrayDeque<>();
+        int returnCode = new ExternalProcessRunner().run(builder, line -> {
+            LOG.info(line);
+            if (lastLines.size() == MAX_ERROR_LINES) {
+                lastLines.removeFirst();
+            }
+            lastLines.addLast(line);
+        }, timeout == null ? 0 : timeout);
 
         if (returnCode != 0) {
-            throw new FlywayException(stdOut);
+            throw new FlywayException(String.join("\n", lastLines));
         }
     }
 
@@ -46,8 +46,8 @@ import java.util.*;
 @CustomLog
 public class ScriptMigrationResolver implements MigrationResolver {
 
-    private final String[] fileTypes = new String[] {"cmd", "bat", "ps1", "py", "sh", "bash"};
-    private final String[] suffixes = Arrays.stream(fileTypes).map(s -> "." + s).toArray(String[]::new);
+    private static final String[] fileTypes = new String[] {"cmd", "bat", "ps1", "py", "sh", "bash"};
+    private static final String[] suffixes = Arrays.stream(fileTypes).map(s -> "." + s).toArray(String[]::new);
     private final ResourceProvider resourceProvider;
     private final Configuration configuration;
     private final ParsingContext parsingContext;
@@ -175,7 +175,7 @@ public class ScriptMigrationResolver implements MigrationResolver {
             }
 
             if (isCallback(result)) {
-                LOG.debug("Found script callback: " + resource.getAbsolutePath() + " (filename: " + resource.getFilename() + ")");
+                LOG.debug(() -> "Found script callback: " + resource.getAbsolutePath() + " (filename: " + resource.getFilename() + ")");
                 scriptCallbacks.add(new ArbitraryScriptCallback(
                         Event.fromId(result.getPrefix()),
                         result.getDescription(),
@@ -185,6 +185,14 @@ public class ScriptMigrationResolver implements MigrationResolver {
         }
     }
 
+    /**
+     * @return The suffixes of script migrations and callbacks. On platforms other than Windows, files without an
+     * extension are scripts as well.
+     */
+    public static String[] getScriptSuffixes() {
+        return suffixes.clone();
+    }
+
     boolean isNotScriptFile(String filename) {
         boolean isWindows = System.getProperty("os.name").toLowerCase(Locale.ENGLISH).contains("win");
         String extension = StringUtils.getFileNameAndExtension(filename).getRight();
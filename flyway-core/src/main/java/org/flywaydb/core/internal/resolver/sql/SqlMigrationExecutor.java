@@ -23,6 +23,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.flywaydb.core.api.executor.Context;
 import org.flywaydb.core.api.executor.MigrationExecutor;
@@ -45,6 +46,7 @@ public class SqlMigrationExecutor implements MigrationExecutor {
     /**
      * The SQL script that will be executed.
      */
+    @Getter
     private final SqlScript sqlScript;
 
     /**
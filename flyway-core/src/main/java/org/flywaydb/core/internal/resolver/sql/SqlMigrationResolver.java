@@ -34,8 +34,10 @@ import org.flywaydb.core.internal.parser.ParsingContext;
 import org.flywaydb.core.internal.resolver.ChecksumCalculator;
 import org.flywaydb.core.internal.resolver.ResolvedMigrationComparator;
 import org.flywaydb.core.internal.resolver.ResolvedMigrationImpl;
+import org.flywaydb.core.internal.resource.classpath.IndexedClassPathResource;
 import org.flywaydb.core.internal.resource.ResourceName;
 import org.flywaydb.core.internal.resource.ResourceNameParser;
+import org.flywaydb.core.internal.scanner.MigrationIndex;
 import org.flywaydb.core.internal.sqlscript.SqlScript;
 import org.flywaydb.core.internal.sqlscript.SqlScriptExecutorFactory;
 import org.flywaydb.core.internal.sqlscript.SqlScriptFactory;
@@ -105,12 +107,24 @@ public class SqlMigrationResolver implements MigrationResolver {
         return null;
     }
 
+    /**
+     * @return The entry of this resource in the migration index it was found through, if any.
+     */
+    private static MigrationIndex.Entry getIndexEntry(LoadableResource resource) {
+        if (resource instanceof IndexedClassPathResource) {
+            return ((IndexedClassPathResource) resource).getIndexEntry();
+        }
+        return null;
+    }
+
     private void addMigrations(List<ResolvedMigration> migrations, String prefix, String[] suffixes, boolean repeatable) {
         ResourceNameParser resourceNameParser = new ResourceNameParser(configuration);
 
         for (LoadableResource resource : resourceProvider.getResources(prefix, suffixes)) {
-            String filename = resource.getFilename();
-            ResourceName resourceName = resourceNameParser.parse(filename);
+            MigrationIndex.Entry indexEntry = getIndexEntry(resource);
+            ResourceName resourceName = indexEntry != null && indexEntry.getResourceName() != null
+                    ? indexEntry.getResourceName()
+                    : resourceNameParser.parse(resource.getFilename());
             if (!resourceName.isValid() || isSqlCallback(resourceName) || !prefix.equals(resourceName.getPrefix())) {
                 continue;
             }
@@ -133,8 +147,18 @@ public class SqlMigrationResolver implements MigrationResolver {
 
 
 
-            Integer checksum = getChecksumForLoadableResource(repeatable, resources, resourceName, sqlScript.placeholderReplacement());
-            Integer equivalentChecksum = getEquivalentChecksumForLoadableResource(repeatable, resources);
+            Integer checksum;
+            Integer equivalentChecksum;
+            if (indexEntry != null && indexEntry.getChecksum() != null && resources.size() == 1) {
+                // Only a placeholder-replaced repeatable migration's checksum depends on the configuration
+                checksum = repeatable && sqlScript.placeholderReplacement()
+                        ? getChecksumForLoadableResource(true, resources, resourceName, true)
+                        : indexEntry.getChecksum();
+                equivalentChecksum = repeatable ? indexEntry.getChecksum() : null;
+            } else {
+                checksum = getChecksumForLoadableResource(repeatable, resources, resourceName, sqlScript.placeholderReplacement());
+                equivalentChecksum = getEquivalentChecksumForLoadableResource(repeatable, resources);
+            }
 
             migrations.add(new ResolvedMigrationImpl(
                     resourceName.getVersion(),
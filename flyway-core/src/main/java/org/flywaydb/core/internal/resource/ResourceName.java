@@ -77,6 +77,17 @@ public class ResourceName {
         }
     }
 
+    /**
+     * The version of the resource as it appears in its name (eg. "1_2_3"), or an empty string for non-versioned
+     * resources
+     */
+    public String getRawVersion() {
+        if (!isValid) {
+            throw new FlywayException("Cannot access version of invalid ResourceNameParseResult\r\n" + validityMessage);
+        }
+        return version;
+    }
+
     /**
      * The description of the resource
      */
@@ -87,6 +98,16 @@ public class ResourceName {
         return description;
     }
 
+    /**
+     * The description of the resource as it appears in its name, with underscores instead of spaces
+     */
+    public String getRawDescription() {
+        if (!isValid) {
+            throw new FlywayException("Cannot access description of invalid ResourceNameParseResult\r\n" + validityMessage);
+        }
+        return rawDescription;
+    }
+
     /**
      * The file type suffix of the resource (eg. ".sql" for SQL migration scripts)
      */
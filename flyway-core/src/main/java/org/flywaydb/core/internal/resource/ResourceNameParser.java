@@ -97,6 +97,20 @@ public class ResourceNameParser {
         return ResourceName.invalid("Unrecognised migration name format: " + resourceName);
     }
 
+    /**
+     * @return A signature of the settings that determine how names are parsed, which is equal for two parsers exactly
+     * when they parse every name the same way.
+     */
+    public String getNamingSignature() {
+        StringBuilder signature = new StringBuilder();
+        for (Pair<String, ResourceType> prefix : prefixes) {
+            signature.append(prefix.getLeft()).append(':').append(prefix.getRight().isVersioned()).append(',');
+        }
+        signature.append('|').append(configuration.getSqlMigrationSeparator()).append('|');
+        signature.append(String.join(",", configuration.getSqlMigrationSuffixes()));
+        return signature.toString();
+    }
+
     private Pair<String, ResourceType> findPrefix(String nameWithoutSuffix, List<Pair<String, ResourceType>> prefixes) {
         for (Pair<String, ResourceType> prefix : prefixes) {
             if (nameWithoutSuffix.startsWith(prefix.getLeft())) {
@@ -46,6 +46,10 @@ public class ClassPathResource extends LoadableResource {
     private final String parentURL;
 
     private final boolean stream;
+    /**
+     * The URL of this resource, once it has been found.
+     */
+    private URL url;
 
     public ClassPathResource(Location location, String fileNameWithAbsolutePath, ClassLoader classLoader,
                              Charset encoding) {
@@ -88,11 +92,15 @@ public class ClassPathResource extends LoadableResource {
     }
 
     private URL getUrl() {
+        if (url != null) {
+            return url;
+        }
         try {
             Enumeration<URL> urls = classLoader.getResources(fileNameWithAbsolutePath);
             while (urls.hasMoreElements()) {
-                URL url = urls.nextElement();
-                if (url.getPath() != null && url.getPath().contains(parentURL)) {
+                URL candidate = urls.nextElement();
+                if (candidate.getPath() != null && candidate.getPath().contains(parentURL)) {
+                    url = candidate;
                     return url;
                 }
             }
@@ -103,25 +111,27 @@ public class ClassPathResource extends LoadableResource {
         return null;
     }
 
-    @Override
-    public Reader read() {
-        InputStream inputStream = null;
+    /**
+     * Opens the raw bytes of this resource, such as a class file, without decoding them.
+     *
+     * @return The stream, which the caller must close.
+     * @throws FlywayException when the resource could not be opened.
+     */
+    public InputStream openStream() {
+        URL resourceUrl = getUrl();
+        if (resourceUrl == null) {
+            throw new FlywayException("Unable to obtain inputstream for resource: " + fileNameWithAbsolutePath);
+        }
         try {
-            Enumeration<URL> urls = classLoader.getResources(fileNameWithAbsolutePath);
-            while (urls.hasMoreElements()) {
-                URL url = urls.nextElement();
-                if (url.getPath() != null && url.getPath().contains(parentURL)) {
-                    inputStream = url.openStream();
-                    break;
-                }
-            }
+            return resourceUrl.openStream();
         } catch (IOException e) {
             throw new FlywayException(e);
         }
+    }
 
-        if (inputStream == null) {
-            throw new FlywayException("Unable to obtain inputstream for resource: " + fileNameWithAbsolutePath);
-        }
+    @Override
+    public Reader read() {
+        InputStream inputStream = openStream();
 
         Charset charset = encoding;
         if (detectEncoding) {
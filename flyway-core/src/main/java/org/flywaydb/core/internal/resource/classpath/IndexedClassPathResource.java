@@ -0,0 +1,41 @@
+/*-
+ * ========================LICENSE_START=================================
+ * flyway-core
+ * ========================================================================
+ * Copyright (C) 2010 - 2025 Red Gate Software Ltd
+ * ========================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+package org.flywaydb.core.internal.resource.classpath;
+
+import lombok.Getter;
+import org.flywaydb.core.api.Location;
+import org.flywaydb.core.internal.scanner.MigrationIndex;
+
+import java.nio.charset.Charset;
+
+/**
+ * A classpath resource that was found through a {@link MigrationIndex} instead of by scanning, which carries the
+ * information the index holds about it.
+ */
+public class IndexedClassPathResource extends ClassPathResource {
+    @Getter
+    private final MigrationIndex.Entry indexEntry;
+
+    public IndexedClassPathResource(Location location, MigrationIndex.Entry indexEntry, ClassLoader classLoader,
+                                    Charset encoding, String parentURL, boolean stream) {
+        super(location, indexEntry.getName(), classLoader, encoding, parentURL, stream);
+        this.indexEntry = indexEntry;
+    }
+}
@@ -0,0 +1,313 @@
+/*-
+ * ========================LICENSE_START=================================
+ * flyway-core
+ * ========================================================================
+ * Copyright (C) 2010 - 2025 Red Gate Software Ltd
+ * ========================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+package org.flywaydb.core.internal.resource.s3;
+
+import lombok.CustomLog;
+import org.flywaydb.core.api.FlywayException;
+import org.flywaydb.core.internal.util.FileUtils;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Object;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Local cache of S3 object bodies. Objects are downloaded at most once per cache (optionally ahead of time on a
+ * bounded pool of background threads) and stored on disk under a name derived from their bucket, key and ETag, so
+ * that unchanged objects are not downloaded again by later runs.
+ * <p>
+ * Only a directory private to the current user is used for this, and only objects whose ETag is the MD5 digest of
+ * their content are kept in it, so that every cached copy is checked against its ETag before being used. Copies
+ * which are least recently used beyond {@link #MAX_CACHE_BYTES}, or unused for {@link #MAX_AGE}, are evicted.
+ */
+@CustomLog
+public class AwsS3ObjectCache {
+    private static final int MAX_DOWNLOAD_THREADS = 8;
+    private static final long MAX_CACHE_BYTES = 256L * 1024 * 1024;
+    private static final Duration MAX_AGE = Duration.ofDays(30);
+    private static final Duration MAX_TEMP_FILE_AGE = Duration.ofDays(1);
+    /**
+     * The ETag of objects uploaded in a single part without customer-provided or KMS keys: the MD5 of the content.
+     */
+    private static final Pattern MD5_ETAG = Pattern.compile("\"?([0-9a-fA-F]{32})\"?");
+    private static final Pattern CACHE_ENTRY = Pattern.compile("[0-9a-f]{64}");
+
+    private final S3Client s3Client;
+    private final Path cacheDirectory;
+    private final ExecutorService executor;
+    private final Map<String, Future<Path>> downloads = new ConcurrentHashMap<>();
+
+    /**
+     * The directory downloads are actually stored in, resolved on first use.
+     */
+    private Path downloadDirectory;
+    /**
+     * Whether downloads are kept in the cache directory for later runs, which requires it to be private.
+     */
+    private boolean persistent;
+
+    /**
+     * Creates a new cache storing objects under the default cache directory in the current user's application data.
+     *
+     * @param s3Client The client used to download objects.
+     */
+    public AwsS3ObjectCache(S3Client s3Client) {
+        this(s3Client, Paths.get(FileUtils.getAppDataLocation().getPath(), "Flyway", "s3-cache"));
+    }
+
+    /**
+     * Creates a new cache.
+     *
+     * @param s3Client The client used to download objects.
+     * @param cacheDirectory The directory to store downloaded objects in. It is only used if it is private to the
+     * current user; otherwise objects are downloaded to a temporary directory for this run only.
+     */
+    public AwsS3ObjectCache(S3Client s3Client, Path cacheDirectory) {
+        this.s3Client = s3Client;
+        this.cacheDirectory = cacheDirectory;
+        ThreadPoolExecutor threadPool = new ThreadPoolExecutor(MAX_DOWNLOAD_THREADS, MAX_DOWNLOAD_THREADS,
+                30, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), r -> {
+            Thread t = Executors.defaultThreadFactory().newThread(r);
+            t.setName("flyway-s3-download-" + t.getName());
+            t.setDaemon(true);
+            return t;
+        });
+        threadPool.allowCoreThreadTimeOut(true);
+        this.executor = threadPool;
+    }
+
+    /**
+     * Starts downloading this object in the background unless it has already been requested.
+     */
+    public void prefetch(String bucketName, S3Object s3Object) {
+        downloads.computeIfAbsent(getCacheKey(bucketName, s3Object),
+                k -> executor.submit(() -> download(bucketName, s3Object)));
+    }
+
+    /**
+     * Retrieves the local copy of this object, waiting for or performing the download as required.
+     *
+     * @return The path of the local copy.
+     */
+    public Path get(String bucketName, S3Object s3Object) {
+        String cacheKey = getCacheKey(bucketName, s3Object);
+        Future<Path> download = downloads.get(cacheKey);
+        if (download == null) {
+            FutureTask<Path> task = new FutureTask<>(() -> download(bucketName, s3Object));
+            download = downloads.putIfAbsent(cacheKey, task);
+            if (download == null) {
+                download = task;
+                task.run();
+            }
+        }
+
+        try {
+            return download.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FlywayException("Interrupted while downloading " + bucketName + "/" + s3Object.key() + " from s3", e);
+        } catch (ExecutionException e) {
+            // Let a later read retry instead of remembering the failure
+            downloads.remove(cacheKey, download);
+            Throwable cause = e.getCause();
+            if (cause instanceof FlywayException) {
+                throw (FlywayException) cause;
+            }
+            throw new FlywayException("Failed to get object from s3: " + cause.getMessage(), cause);
+        }
+    }
+
+    private Path download(String bucketName, S3Object s3Object) throws IOException {
+        Path directory = getDownloadDirectory();
+        String expectedMd5 = getContentMd5(s3Object);
+        Path target = persistent && expectedMd5 != null
+                ? directory.resolve(hash(bucketName + "\u0000" + s3Object.key() + "\u0000" + s3Object.eTag()))
+                : null;
+        if (target != null && Files.isRegularFile(target, LinkOption.NOFOLLOW_LINKS)) {
+            if (expectedMd5.equals(md5(target))) {
+                LOG.debug(() -> "Using cached copy of Amazon S3 resource: " + bucketName + "/" + s3Object.key());
+                Files.setLastModifiedTime(target, FileTime.from(Instant.now()));
+                return target;
+            }
+            LOG.warn("Discarding cached copy of Amazon S3 resource " + bucketName + "/" + s3Object.key() + " as its content does not match its ETag");
+            Files.deleteIfExists(target);
+        }
+
+        LOG.debug(() -> "Downloading Amazon S3 resource: " + bucketName + "/" + s3Object.key());
+        Path temp = Files.createTempFile(directory, "download", ".tmp");
+        try {
+            MessageDigest digest = newMd5Digest();
+            GetObjectRequest request = GetObjectRequest.builder().bucket(bucketName).key(s3Object.key()).build();
+            try (InputStream inputStream = new DigestInputStream(s3Client.getObject(request), digest)) {
+                Files.copy(inputStream, temp, StandardCopyOption.REPLACE_EXISTING);
+            }
+            // Objects whose ETag isn't the MD5 of what was downloaded can't be verified later, so aren't kept
+            if (target == null || !expectedMd5.equals(toHex(digest.digest(), 32))) {
+                temp.toFile().deleteOnExit();
+                Path downloaded = temp;
+                temp = null;
+                return downloaded;
+            }
+            // Another process may have stored the same object meanwhile; either copy is identical
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return target;
+        } catch (AwsServiceException | SdkClientException e) {
+            LOG.error(e.getMessage(), e);
+            throw new FlywayException("Failed to get object from s3: " + e.getMessage(), e);
+        } finally {
+            if (temp != null) {
+                Files.deleteIfExists(temp);
+            }
+        }
+    }
+
+    private synchronized Path getDownloadDirectory() throws IOException {
+        if (downloadDirectory == null) {
+            try {
+                persistent = FileUtils.createPrivateDirectory(cacheDirectory);
+            } catch (IOException e) {
+                LOG.debug(() -> "Unable to create Amazon S3 cache directory " + cacheDirectory + ": " + e.getMessage());
+                persistent = false;
+            }
+            if (persistent) {
+                evict(cacheDirectory);
+                downloadDirectory = cacheDirectory;
+            } else {
+                LOG.warn("Not caching Amazon S3 resources in " + cacheDirectory + " as it is not private to the current user");
+                // Temporary directories are only accessible to their owner
+                downloadDirectory = Files.createTempDirectory("flyway-s3");
+                downloadDirectory.toFile().deleteOnExit();
+            }
+        }
+        return downloadDirectory;
+    }
+
+    /**
+     * Removes the cached copies unused for longer than the maximum age, then the least recently used ones until the
+     * cache fits in its maximum size, as well as temporary files left behind by interrupted downloads.
+     */
+    private static void evict(Path directory) {
+        Instant now = Instant.now();
+        List<Path> entries = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for (Path file : files) {
+                BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+                Duration age = Duration.between(attributes.lastModifiedTime().toInstant(), now);
+                if (CACHE_ENTRY.matcher(file.getFileName().toString()).matches()) {
+                    if (age.compareTo(MAX_AGE) > 0) {
+                        Files.deleteIfExists(file);
+                    } else {
+                        entries.add(file);
+                    }
+                } else if (age.compareTo(MAX_TEMP_FILE_AGE) > 0) {
+                    Files.deleteIfExists(file);
+                }
+            }
+
+            entries.sort(Comparator.comparing(AwsS3ObjectCache::lastModified).reversed());
+            long size = 0;
+            for (Path entry : entries) {
+                size += Files.size(entry);
+                if (size > MAX_CACHE_BYTES) {
+                    Files.deleteIfExists(entry);
+                }
+            }
+        } catch (IOException e) {
+            LOG.debug(() -> "Unable to evict Amazon S3 cache entries from " + directory + ": " + e.getMessage());
+        }
+    }
+
+    private static FileTime lastModified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file, LinkOption.NOFOLLOW_LINKS);
+        } catch (IOException e) {
+            return FileTime.fromMillis(0);
+        }
+    }
+
+    /**
+     * @return The MD5 digest of the content of this object, if its ETag is one, or {@code null} otherwise.
+     */
+    private static String getContentMd5(S3Object s3Object) {
+        if (s3Object.eTag() == null) {
+            return null;
+        }
+        Matcher matcher = MD5_ETAG.matcher(s3Object.eTag());
+        return matcher.matches() ? matcher.group(1).toLowerCase() : null;
+    }
+
+    private static String md5(Path file) throws IOException {
+        MessageDigest digest = newMd5Digest();
+        try (InputStream inputStream = new DigestInputStream(Files.newInputStream(file, LinkOption.NOFOLLOW_LINKS), digest)) {
+            inputStream.transferTo(OutputStream.nullOutputStream());
+        }
+        return toHex(digest.digest(), 32);
+    }
+
+    private static MessageDigest newMd5Digest() {
+        try {
+            return MessageDigest.getInstance("MD5");
+        } catch (NoSuchAlgorithmException e) {
+            throw new FlywayException(e);
+        }
+    }
+
+    private static String getCacheKey(String bucketName, S3Object s3Object) {
+        return bucketName + "/" + s3Object.key() + "#" + s3Object.eTag();
+    }
+
+    private static String hash(String value) {
+        try {
+            return toHex(MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8)), 64);
+        } catch (NoSuchAlgorithmException e) {
+            throw new FlywayException(e);
+        }
+    }
+
+    private static String toHex(byte[] digest, int length) {
+        return String.format("%0" + length + "x", new BigInteger(1, digest));
+    }
+}
@@ -22,17 +22,15 @@ package org.flywaydb.core.internal.resource.s3;
 import lombok.CustomLog;
 import lombok.RequiredArgsConstructor;
 import org.flywaydb.core.api.FlywayException;
-import org.flywaydb.core.api.configuration.S3ClientFactory;
 import org.flywaydb.core.api.resource.LoadableResource;
-import software.amazon.awssdk.awscore.exception.AwsServiceException;
-import software.amazon.awssdk.core.ResponseInputStream;
-import software.amazon.awssdk.services.s3.S3Client;
-import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.S3Object;
 
+import java.io.IOException;
 import java.io.Reader;
 import java.nio.channels.Channels;
 import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
 
 @CustomLog
 @RequiredArgsConstructor
@@ -40,18 +38,19 @@ public class AwsS3Resource extends LoadableResource {
     private final String bucketName;
     private final S3Object s3ObjectSummary;
     private final Charset encoding;
+    private final AwsS3ObjectCache objectCache;
 
+    /**
+     * Reads the local copy of this object, which is only downloaded the first time it is needed (or prefetched).
+     */
     @Override
     public Reader read() {
-        S3Client s3 = S3ClientFactory.getClient();
+        Path localCopy = objectCache.get(bucketName, s3ObjectSummary);
         try {
-            GetObjectRequest.Builder builder = GetObjectRequest.builder().bucket(bucketName).key(s3ObjectSummary.key());
-            GetObjectRequest request = builder.build();
-            ResponseInputStream o = s3.getObject(request);
-            return Channels.newReader(Channels.newChannel(o), encoding.name());
-        } catch (AwsServiceException e) {
+            return Channels.newReader(Files.newByteChannel(localCopy), encoding.name());
+        } catch (IOException e) {
             LOG.error(e.getMessage(), e);
-            throw new FlywayException("Failed to get object from s3: " + e.getMessage(), e);
+            throw new FlywayException("Failed to read local copy of s3 object " + getAbsolutePath() + ": " + e.getMessage(), e);
         }
     }
 
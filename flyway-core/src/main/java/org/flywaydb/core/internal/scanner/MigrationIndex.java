@@ -0,0 +1,409 @@
+/*-
+ * ========================LICENSE_START=================================
+ * flyway-core
+ * ========================================================================
+ * Copyright (C) 2010 - 2025 Red Gate Software Ltd
+ * ========================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+package org.flywaydb.core.internal.scanner;
+
+import lombok.CustomLog;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.flywaydb.core.api.FlywayException;
+import org.flywaydb.core.api.Location;
+import org.flywaydb.core.api.configuration.Configuration;
+import org.flywaydb.core.api.resource.LoadableResource;
+import org.flywaydb.core.internal.license.VersionPrinter;
+import org.flywaydb.core.internal.resolver.ChecksumCalculator;
+import org.flywaydb.core.internal.resource.ResourceName;
+import org.flywaydb.core.internal.resource.ResourceNameParser;
+import org.flywaydb.core.internal.scanner.classpath.ClassPathScanner;
+
+import java.io.*;
+import java.net.JarURLConnection;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.net.URLConnection;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.*;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.zip.CRC32;
+
+/**
+ * Build-time index of the resources in the classpath locations of an artifact, stored as {@code META-INF/flyway/index}
+ * inside it. For every location it lists each resource with its size, its CRC-32 and, for SQL resources, the checksum
+ * Flyway calculates for it and its parsed name. When the index is present, resources in these locations can be
+ * resolved without reading them or calculating checksums.
+ * <p>
+ * An index is only used for a location that resolves to the same jar as the index itself, and only if it was created
+ * by this version of Flyway; directories are always scanned, as they can change after the index was created. Before it
+ * is used for a location, the resources it lists there are compared by name, size and CRC-32 with the entries of the
+ * jar, so that a stale index packaged alongside different migrations falls back to a full scan. Checksums are only
+ * used if the index was created with the same encoding, and parsed names only if it was created with the same
+ * migration naming configuration.
+ */
+@CustomLog
+public class MigrationIndex {
+    public static final String INDEX_RESOURCE = "META-INF/flyway/index";
+
+    private static final String HEADER = "# Flyway migration index";
+    private static final String FLYWAY_VERSION = "flywayVersion";
+    private static final String ENCODING = "encoding";
+    private static final String NAMING = "naming";
+    private static final String LOCATION = "location";
+    private static final String RESOURCE = "resource";
+    private static final String NO_VALUE = "-";
+
+    /**
+     * The path of the container holding the index, such as {@code file:/app/app.jar!/}, which every resource url
+     * from the same container starts with.
+     */
+    @Getter
+    private final String containerPath;
+    private final Map<String, List<Entry>> entriesByLocation;
+
+    private MigrationIndex(String containerPath, Map<String, List<Entry>> entriesByLocation) {
+        this.containerPath = containerPath;
+        this.entriesByLocation = entriesByLocation;
+    }
+
+    /**
+     * Loads all the indexes on the classpath of this configuration which were created by this version of Flyway.
+     */
+    public static List<MigrationIndex> loadAll(Configuration configuration) {
+        List<MigrationIndex> indexes = new ArrayList<>();
+        try {
+            Enumeration<URL> urls = configuration.getClassLoader().getResources(INDEX_RESOURCE);
+            while (urls.hasMoreElements()) {
+                URL url = urls.nextElement();
+                if (!"jar".equals(url.getProtocol())) {
+                    LOG.debug("Ignoring migration index outside of a jar: " + url);
+                    continue;
+                }
+                MigrationIndex index = load(url, configuration);
+                if (index != null) {
+                    indexes.add(index);
+                }
+            }
+        } catch (IOException e) {
+            LOG.debug("Unable to look up migration indexes: " + e.getMessage());
+        }
+        return indexes;
+    }
+
+    private static MigrationIndex load(URL url, Configuration configuration) throws IOException {
+        String containerPath = url.getPath().substring(0, url.getPath().length() - INDEX_RESOURCE.length());
+        String expectedNaming = new ResourceNameParser(configuration).getNamingSignature();
+        String separator = configuration.getSqlMigrationSeparator();
+
+        boolean checksumsUsable = false;
+        boolean namesUsable = false;
+        Map<String, List<Entry>> entriesByLocation = new HashMap<>();
+        List<Entry> entries = null;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(url.openStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] fields = line.split("\t", -1);
+                switch (fields[0]) {
+                    case FLYWAY_VERSION:
+                        if (!VersionPrinter.getVersion().equals(unescape(fields[1]))) {
+                            LOG.debug("Ignoring migration index " + url + " created by Flyway " + unescape(fields[1]));
+                            return null;
+                        }
+                        break;
+                    case ENCODING:
+                        checksumsUsable = configuration.getEncoding().name().equals(unescape(fields[1]));
+                        break;
+                    case NAMING:
+                        namesUsable = expectedNaming.equals(unescape(fields[1]));
+                        break;
+                    case LOCATION:
+                        entries = entriesByLocation.computeIfAbsent(unescape(fields[1]), k -> new ArrayList<>());
+                        break;
+                    case RESOURCE:
+                        if (entries == null) {
+                            throw new FlywayException("Resource listed before any location in " + url);
+                        }
+                        entries.add(new Entry(
+                                unescape(fields[1]),
+                                Long.parseLong(fields[2]),
+                                Long.parseLong(fields[3]),
+                                checksumsUsable ? parseChecksum(fields[4]) : null,
+                                namesUsable && fields.length > 8 ? parseResourceName(fields, separator) : null));
+                        break;
+                    default:
+                        throw new FlywayException("Unexpected line in " + url + ": " + line);
+                }
+            }
+        } catch (RuntimeException e) {
+            LOG.warn("Ignoring invalid migration index " + url + ": " + e.getMessage());
+            return null;
+        }
+
+        LOG.debug("Loaded migration index " + url + " covering " + entriesByLocation.size() + " location(s)");
+        return new MigrationIndex(containerPath, entriesByLocation);
+    }
+
+    /**
+     * Retrieves the entries of this location, provided it is covered by this index.
+     *
+     * @param location The location.
+     * @param locationUrls The urls the location resolves to on the classpath.
+     * @return The entries or {@code null} if the location must be scanned instead.
+     */
+    public List<Entry> getEntries(Location location, List<URL> locationUrls) {
+        List<Entry> entries = entriesByLocation.get(location.getDescriptor());
+        if (entries == null || locationUrls.size() != 1) {
+            return null;
+        }
+        URL locationUrl = locationUrls.get(0);
+        if (!"jar".equals(locationUrl.getProtocol()) || !locationUrl.getPath().startsWith(containerPath)) {
+            return null;
+        }
+        if (!matchesJar(location, locationUrl, entries)) {
+            return null;
+        }
+        return entries;
+    }
+
+    /**
+     * Checks that the jar this location resolves to contains exactly the listed resources in it, with the listed
+     * sizes and CRC-32s. This only reads the central directory of the jar, not the resources themselves.
+     */
+    private boolean matchesJar(Location location, URL locationUrl, List<Entry> entries) {
+        Map<String, Entry> listed = new HashMap<>();
+        for (Entry entry : entries) {
+            listed.put(entry.getName(), entry);
+        }
+
+        String rootPath = location.getRootPath();
+        String prefix = rootPath.isEmpty() || rootPath.endsWith("/") ? rootPath : rootPath + "/";
+        int found = 0;
+        try {
+            URLConnection connection = locationUrl.openConnection();
+            if (!(connection instanceof final JarURLConnection jarConnection)) {
+                return false;
+            }
+            jarConnection.setUseCaches(false);
+            try (JarFile jarFile = jarConnection.getJarFile()) {
+                Enumeration<JarEntry> jarEntries = jarFile.entries();
+                while (jarEntries.hasMoreElements()) {
+                    JarEntry jarEntry = jarEntries.nextElement();
+                    String name = jarEntry.getName();
+                    if (jarEntry.isDirectory() || !name.startsWith(prefix) || !location.matchesPath(name)) {
+                        continue;
+                    }
+                    Entry entry = listed.get(name);
+                    if (entry == null || entry.getSize() != jarEntry.getSize() || entry.getCrc32() != jarEntry.getCrc()) {
+                        LOG.debug("Ignoring migration index of " + containerPath + " for '" + location + "': "
+                                          + name + (entry == null ? " is not listed" : " has changed"));
+                        return false;
+                    }
+                    found++;
+                }
+            }
+        } catch (IOException e) {
+            LOG.debug("Ignoring migration index of " + containerPath + " for '" + location + "': " + e.getMessage());
+            return false;
+        }
+
+        if (found != listed.size()) {
+            LOG.debug("Ignoring migration index of " + containerPath + " for '" + location + "': "
+                              + (listed.size() - found) + " listed resource(s) no longer exist");
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Creates the index for the classpath locations of this configuration.
+     *
+     * @param configuration The configuration whose locations, encoding and naming settings to use.
+     * @param roots The directories holding the compiled classes and resources of the artifact.
+     * @param outputDirectory The directory the index should be written to, relative to which it is at
+     * {@code META-INF/flyway/index}.
+     * @return The number of resources in the index.
+     */
+    public static int generate(Configuration configuration, List<File> roots, File outputDirectory) {
+        ResourceNameParser resourceNameParser = new ResourceNameParser(configuration);
+        String[] suffixes = configuration.getSqlMigrationSuffixes();
+
+        List<URL> rootUrls = new ArrayList<>();
+        try {
+            for (File root : roots) {
+                if (root.isDirectory()) {
+                    rootUrls.add(root.toURI().toURL());
+                }
+            }
+        } catch (IOException e) {
+            throw new FlywayException("Unable to create migration index: " + e.getMessage(), e);
+        }
+
+        StringBuilder index = new StringBuilder();
+        index.append(HEADER).append("\n");
+        appendLine(index, FLYWAY_VERSION, VersionPrinter.getVersion());
+        appendLine(index, ENCODING, configuration.getEncoding().name());
+        appendLine(index, NAMING, resourceNameParser.getNamingSignature());
+
+        int count = 0;
+        try (URLClassLoader classLoader = new URLClassLoader(rootUrls.toArray(new URL[0]), ClassLoader.getPlatformClassLoader())) {
+            for (Location location : configuration.getLocations()) {
+                if (!location.isClassPath()) {
+                    LOG.warn("Not indexing location " + location + ": only classpath locations can be indexed");
+                    continue;
+                }
+                appendLine(index, LOCATION, location.getDescriptor());
+
+                ClassPathScanner<Object> scanner = new ClassPathScanner<>(Object.class, classLoader, configuration.getEncoding(),
+                        location, new ResourceNameCache(), new LocationScannerCache(), false, false);
+                List<LoadableResource> resources = new ArrayList<>(scanner.scanForResources());
+                resources.sort(Comparator.comparing(LoadableResource::getAbsolutePath));
+                for (LoadableResource resource : resources) {
+                    appendResource(index, classLoader, resource, resourceNameParser, suffixes);
+                    count++;
+                }
+            }
+        } catch (IOException e) {
+            throw new FlywayException("Unable to create migration index: " + e.getMessage(), e);
+        }
+
+        File indexFile = new File(outputDirectory, INDEX_RESOURCE);
+        try {
+            Files.createDirectories(indexFile.getParentFile().toPath());
+            Files.write(indexFile.toPath(), index.toString().getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new FlywayException("Unable to write migration index " + indexFile + ": " + e.getMessage(), e);
+        }
+        LOG.info("Indexed " + count + " resource(s) in " + indexFile);
+        return count;
+    }
+
+    private static void appendResource(StringBuilder index, ClassLoader classLoader, LoadableResource resource,
+                                       ResourceNameParser resourceNameParser, String[] suffixes) throws IOException {
+        String name = resource.getAbsolutePath();
+        long size = 0;
+        CRC32 crc32 = new CRC32();
+        try (InputStream inputStream = classLoader.getResourceAsStream(name)) {
+            if (inputStream == null) {
+                throw new FlywayException("Unable to read " + name + " while creating migration index");
+            }
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = inputStream.read(buffer)) != -1) {
+                crc32.update(buffer, 0, read);
+                size += read;
+            }
+        }
+
+        index.append(RESOURCE).append("\t").append(escape(name))
+                .append("\t").append(size)
+                .append("\t").append(crc32.getValue());
+
+        if (!hasSuffix(name, suffixes)) {
+            index.append("\t").append(NO_VALUE).append("\n");
+            return;
+        }
+        index.append("\t").append(ChecksumCalculator.calculate(resource));
+
+        ResourceName resourceName = resourceNameParser.parse(resource.getFilename());
+        if (resourceName.isValid()) {
+            index.append("\t").append(escape(resourceName.getPrefix()))
+                    .append("\t").append(escape(resourceName.getRawVersion()))
+                    .append("\t").append(escape(resourceName.getRawDescription()))
+                    .append("\t").append(escape(resourceName.getSuffix()));
+        }
+        index.append("\n");
+    }
+
+    private static boolean hasSuffix(String name, String[] suffixes) {
+        for (String suffix : suffixes) {
+            if (name.toUpperCase().endsWith(suffix.toUpperCase())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Integer parseChecksum(String field) {
+        return NO_VALUE.equals(field) ? null : Integer.valueOf(field);
+    }
+
+    private static ResourceName parseResourceName(String[] fields, String separator) {
+        String rawDescription = unescape(fields[7]);
+        return new ResourceName(unescape(fields[5]), unescape(fields[6]), separator, rawDescription.replace("_", " "),
+                                rawDescription, unescape(fields[8]), true, "");
+    }
+
+    private static void appendLine(StringBuilder index, String key, String value) {
+        index.append(key).append("\t").append(escape(value)).append("\n");
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\t", "\\t").replace("\n", "\\n").replace("\r", "\\r");
+    }
+
+    private static String unescape(String value) {
+        if (value.indexOf('\\') < 0) {
+            return value;
+        }
+        StringBuilder result = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '\\' && i + 1 < value.length()) {
+                char next = value.charAt(++i);
+                result.append(next == 't' ? '\t' : next == 'n' ? '\n' : next == 'r' ? '\r' : next);
+            } else {
+                result.append(c);
+            }
+        }
+        return result.toString();
+    }
+
+    /**
+     * A resource listed in the index.
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class Entry {
+        /**
+         * The name of the resource on the classpath.
+         */
+        private final String name;
+        /**
+         * The size of the resource in bytes.
+         */
+        private final long size;
+        /**
+         * The CRC-32 of the bytes of the resource.
+         */
+        private final long crc32;
+        /**
+         * The checksum as calculated by {@link ChecksumCalculator}, which is also the equivalent checksum of repeatable
+         * migrations, or {@code null} if it isn't known or can't be used with the current configuration.
+         */
+        private final Integer checksum;
+        /**
+         * The parsed name of the resource, or {@code null} if it isn't known or can't be used with the current
+         * configuration.
+         */
+        private final ResourceName resourceName;
+    }
+}
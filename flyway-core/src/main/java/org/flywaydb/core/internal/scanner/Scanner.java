@@ -28,6 +28,8 @@ import org.flywaydb.core.api.resource.LoadableResource;
 import org.flywaydb.core.extensibility.LicenseGuard;
 import org.flywaydb.core.extensibility.Tier;
 import org.flywaydb.core.internal.license.FlywayEditionUpgradeRequiredException;
+import org.flywaydb.core.internal.resolver.script.ScriptMigrationResolver;
+import org.flywaydb.core.internal.resource.ResourceNameParser;
 import org.flywaydb.core.internal.scanner.classpath.ClassPathScanner;
 import org.flywaydb.core.internal.scanner.classpath.ResourceAndClassScanner;
 import org.flywaydb.core.internal.scanner.cloud.s3.AwsS3Scanner;
@@ -42,6 +44,8 @@ import org.flywaydb.core.internal.util.StringUtils;
 import java.nio.charset.Charset;
 import java.nio.file.Paths;
 import java.util.*;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 /**
  * Scanner for Resources and Classes.
@@ -70,6 +74,7 @@ public class Scanner<I> implements ResourceProvider, ClassProvider<I> {
         FileSystemScanner fileSystemScanner = new FileSystemScanner(stream, configuration);
 
         FeatureDetector detector = new FeatureDetector(classLoader);
+        List<MigrationIndex> migrationIndexes = null;
         for (Location location : configuration.getLocations()) {
             if (location.isFileSystem()) {
                 resources.addAll(fileSystemScanner.scanForResources(location));
@@ -88,13 +93,16 @@ public class Scanner<I> implements ResourceProvider, ClassProvider<I> {
 
             } else if (location.isAwsS3()) {
                 if (detector.isAwsAvailable()) {
-                    Collection<LoadableResource> awsResources = new AwsS3Scanner(encoding, throwOnMissingLocations).scanForResources(location);
+                    Collection<LoadableResource> awsResources = new AwsS3Scanner(encoding, throwOnMissingLocations, getPrefetchFilter(configuration)).scanForResources(location);
                     resources.addAll(awsResources);
                 } else {
                     LOG.error("Can't read location " + location + "; AWS SDK not found");
                 }
             } else {
-                ResourceAndClassScanner<I> resourceAndClassScanner = new ClassPathScanner<>(implementedInterface, classLoader, encoding, location, resourceNameCache, locationScannerCache, throwOnMissingLocations, stream);
+                if (migrationIndexes == null) {
+                    migrationIndexes = MigrationIndex.loadAll(configuration);
+                }
+                ResourceAndClassScanner<I> resourceAndClassScanner = new ClassPathScanner<>(implementedInterface, classLoader, encoding, location, resourceNameCache, locationScannerCache, throwOnMissingLocations, stream, migrationIndexes);
                 resources.addAll(resourceAndClassScanner.scanForResources());
                 classes.addAll(resourceAndClassScanner.scanForClasses());
             }
@@ -134,6 +142,23 @@ public class Scanner<I> implements ResourceProvider, ClassProvider<I> {
         return null;
     }
 
+    /**
+     * @return A filter matching the file names of the resources that can be SQL or script migrations or callbacks, so
+     * will be read.
+     */
+    private static Predicate<String> getPrefetchFilter(Configuration configuration) {
+        ResourceNameParser resourceNameParser = new ResourceNameParser(configuration);
+        String[] suffixes = Stream.concat(Arrays.stream(configuration.getSqlMigrationSuffixes()),
+                                          Arrays.stream(ScriptMigrationResolver.getScriptSuffixes())).toArray(String[]::new);
+        return filename -> {
+            boolean hasSuffix = filename.indexOf('.') < 0;
+            for (String suffix : suffixes) {
+                hasSuffix |= filename.toUpperCase().endsWith(suffix.toUpperCase());
+            }
+            return hasSuffix && resourceNameParser.parse(filename, suffixes).isValid();
+        };
+    }
+
     /**
      * Returns all known resources starting with the specified prefix and ending with any of the specified suffixes.
      *
@@ -148,7 +173,7 @@ public class Scanner<I> implements ResourceProvider, ClassProvider<I> {
             if (StringUtils.startsAndEndsWith(fileName, prefix, suffixes)) {
                 result.add(resource);
             } else {
-                LOG.debug("Filtering out resource: " + resource.getAbsolutePath() + " (filename: " + fileName + ")");
+                LOG.debug(() -> "Filtering out resource: " + resource.getAbsolutePath() + " (filename: " + fileName + ")");
             }
         }
         return result;
@@ -25,7 +25,9 @@ import org.flywaydb.core.api.Location;
 import org.flywaydb.core.api.callback.Callback;
 import org.flywaydb.core.api.resource.LoadableResource;
 import org.flywaydb.core.internal.resource.classpath.ClassPathResource;
+import org.flywaydb.core.internal.resource.classpath.IndexedClassPathResource;
 import org.flywaydb.core.internal.scanner.LocationScannerCache;
+import org.flywaydb.core.internal.scanner.MigrationIndex;
 import org.flywaydb.core.internal.scanner.ResourceNameCache;
 import org.flywaydb.core.internal.scanner.classpath.jboss.JBossVFSv2UrlResolver;
 import org.flywaydb.core.internal.scanner.classpath.jboss.JBossVFSv3ClassPathLocationScanner;
@@ -70,6 +72,20 @@ public class ClassPathScanner<I> implements ResourceAndClassScanner<I> {
                             LocationScannerCache locationScannerCache,
                             boolean throwOnMissingLocations,
                             boolean stream) {
+        this(implementedInterface, classLoader, encoding, location, resourceNameCache, locationScannerCache,
+             throwOnMissingLocations, stream, Collections.emptyList());
+    }
+
+    /**
+     * @param migrationIndexes The migration indexes on the classpath. When one of them covers the location, its
+     *                         resources are taken from it instead of scanning.
+     */
+    public ClassPathScanner(Class<I> implementedInterface, ClassLoader classLoader, Charset encoding, Location location,
+                            ResourceNameCache resourceNameCache,
+                            LocationScannerCache locationScannerCache,
+                            boolean throwOnMissingLocations,
+                            boolean stream,
+                            List<MigrationIndex> migrationIndexes) {
         this.implementedInterface = implementedInterface;
         this.classLoader = classLoader;
         this.location = location;
@@ -77,15 +93,37 @@ public class ClassPathScanner<I> implements ResourceAndClassScanner<I> {
         this.locationScannerCache = locationScannerCache;
         this.throwOnMissingLocations = throwOnMissingLocations;
 
+        if (addIndexedResources(migrationIndexes, encoding, stream)) {
+            return;
+        }
+
         LOG.debug("Scanning for classpath resources at '" + location + "' ...");
         for (Pair<String, String> resourceNameAndParentURL : findResourceNamesAndParentURLs()) {
             String resourceName = resourceNameAndParentURL.getLeft();
             String parentURL = resourceNameAndParentURL.getRight();
             resources.add(new ClassPathResource(location, resourceName, classLoader, encoding, parentURL, stream));
-            LOG.debug("Found resource: " + resourceNameAndParentURL.getLeft());
+            LOG.debug(() -> "Found resource: " + resourceNameAndParentURL.getLeft());
         }
     }
 
+    private boolean addIndexedResources(List<MigrationIndex> migrationIndexes, Charset encoding, boolean stream) {
+        if (migrationIndexes.isEmpty()) {
+            return false;
+        }
+        List<URL> locationUrls = getLocationUrlsForPath(location);
+        for (MigrationIndex migrationIndex : migrationIndexes) {
+            List<MigrationIndex.Entry> entries = migrationIndex.getEntries(location, locationUrls);
+            if (entries != null) {
+                LOG.debug("Using migration index of " + migrationIndex.getContainerPath() + " for classpath resources at '" + location + "'");
+                for (MigrationIndex.Entry entry : entries) {
+                    resources.add(new IndexedClassPathResource(location, entry, classLoader, encoding, migrationIndex.getContainerPath(), stream));
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+
     @Override
     public Collection<LoadableResource> scanForResources() {
         return resources;
@@ -96,9 +134,16 @@ public class ClassPathScanner<I> implements ResourceAndClassScanner<I> {
         LOG.debug("Scanning for classes at " + location);
 
         List<Class<? extends I>> classes = new ArrayList<>();
+        SuperTypeFilter superTypeFilter = new SuperTypeFilter(implementedInterface, classLoader);
+        int skipped = 0;
 
         for (LoadableResource resource : resources) {
             if (resource.getAbsolutePath().endsWith(".class")) {
+                if (!superTypeFilter.isCandidate(resource)) {
+                    skipped++;
+                    continue;
+                }
+
                 Class<? extends I> clazz;
                 try {
                     clazz = ClassUtils.loadClass(
@@ -121,6 +166,9 @@ public class ClassPathScanner<I> implements ResourceAndClassScanner<I> {
             }
         }
 
+        if (skipped > 0) {
+            LOG.debug("Skipped loading " + skipped + " classes at " + location + " not implementing " + implementedInterface.getName());
+        }
         return classes;
     }
 
@@ -140,7 +188,7 @@ public class ClassPathScanner<I> implements ResourceAndClassScanner<I> {
 
         List<URL> locationUrls = getLocationUrlsForPath(location);
         for (URL locationUrl : locationUrls) {
-            LOG.debug("Scanning URL: " + locationUrl.toExternalForm());
+            LOG.debug(() -> "Scanning URL: " + locationUrl.toExternalForm());
 
             UrlResolver urlResolver = createUrlResolver(locationUrl.getProtocol());
             URL resolvedUrl = urlResolver.toStandardJavaUrl(locationUrl);
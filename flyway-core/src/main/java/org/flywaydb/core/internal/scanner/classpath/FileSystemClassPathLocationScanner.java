@@ -36,7 +36,7 @@ public class FileSystemClassPathLocationScanner implements ClassPathLocationScan
         String filePath = UrlUtils.toFilePath(locationUrl);
         File folder = new File(filePath);
         if (!folder.isDirectory()) {
-            LOG.debug("Skipping path as it is not a directory: " + filePath);
+            LOG.debug(() -> "Skipping path as it is not a directory: " + filePath);
             return new TreeSet<String>();
         }
 
@@ -59,7 +59,7 @@ public class FileSystemClassPathLocationScanner implements ClassPathLocationScan
     /*private -> for testing*/
     @SuppressWarnings("ConstantConditions")
     Set<String> findResourceNamesFromFileSystem(String classPathRootOnDisk, String scanRootLocation, File folder) {
-        LOG.debug("Scanning for resources in path: " + folder.getPath() + " (" + scanRootLocation + ")");
+        LOG.debug(() -> "Scanning for resources in path: " + folder.getPath() + " (" + scanRootLocation + ")");
 
         Set<String> resourceNames = new TreeSet<>();
 
@@ -69,7 +69,7 @@ public class FileSystemClassPathLocationScanner implements ClassPathLocationScan
                 if (file.isDirectory()) {
                     if (file.isHidden()) {
                         // #1807: Skip hidden directories to avoid issues with Kubernetes
-                        LOG.debug("Skipping hidden directory: " + file.getAbsolutePath());
+                        LOG.debug(() -> "Skipping hidden directory: " + file.getAbsolutePath());
                     } else {
                         resourceNames.addAll(findResourceNamesFromFileSystem(classPathRootOnDisk, scanRootLocation, file));
                     }
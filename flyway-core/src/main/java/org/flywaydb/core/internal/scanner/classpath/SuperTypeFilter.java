@@ -0,0 +1,279 @@
+/*-
+ * ========================LICENSE_START=================================
+ * flyway-core
+ * ========================================================================
+ * Copyright (C) 2010 - 2025 Red Gate Software Ltd
+ * ========================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+package org.flywaydb.core.internal.scanner.classpath;
+
+import lombok.CustomLog;
+import org.flywaydb.core.api.FlywayException;
+import org.flywaydb.core.api.resource.LoadableResource;
+import org.flywaydb.core.internal.resource.classpath.ClassPathResource;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Cheap pre-filter for class scanning that reads class files directly instead of loading them. A class is only
+ * rejected when its header proves that it can never be an instantiable implementation of the wanted type: it is
+ * abstract, an interface, an enum or an annotation, or none of its super types can reach the wanted type. Whenever
+ * a class file can't be found or parsed, the class is conservatively accepted and left to the class loader.
+ * <p>
+ * Scanned classes are read through their own resources, so only their super types are looked up on the class path.
+ */
+@CustomLog
+class SuperTypeFilter {
+    private static final int MAGIC = 0xCAFEBABE;
+
+    private static final int ACC_INTERFACE = 0x0200;
+    private static final int ACC_ABSTRACT = 0x0400;
+    private static final int ACC_ANNOTATION = 0x2000;
+    private static final int ACC_ENUM = 0x4000;
+    private static final int ACC_MODULE = 0x8000;
+    private static final int NOT_INSTANTIABLE = ACC_INTERFACE | ACC_ABSTRACT | ACC_ANNOTATION | ACC_ENUM | ACC_MODULE;
+
+    private static final int CONSTANT_UTF8 = 1;
+    private static final int CONSTANT_INTEGER = 3;
+    private static final int CONSTANT_FLOAT = 4;
+    private static final int CONSTANT_LONG = 5;
+    private static final int CONSTANT_DOUBLE = 6;
+    private static final int CONSTANT_CLASS = 7;
+    private static final int CONSTANT_STRING = 8;
+    private static final int CONSTANT_FIELDREF = 9;
+    private static final int CONSTANT_METHODREF = 10;
+    private static final int CONSTANT_INTERFACE_METHODREF = 11;
+    private static final int CONSTANT_NAME_AND_TYPE = 12;
+    private static final int CONSTANT_METHOD_HANDLE = 15;
+    private static final int CONSTANT_METHOD_TYPE = 16;
+    private static final int CONSTANT_DYNAMIC = 17;
+    private static final int CONSTANT_INVOKE_DYNAMIC = 18;
+    private static final int CONSTANT_MODULE = 19;
+    private static final int CONSTANT_PACKAGE = 20;
+
+    private final ClassLoader classLoader;
+    /**
+     * The internal name (eg. {@code org/flywaydb/core/api/migration/JavaMigration}) of the wanted type.
+     */
+    private final String wantedType;
+    /**
+     * Whether JDK types can be skipped when walking super types, which is only safe when the wanted type isn't one.
+     */
+    private final boolean skipJdkTypes;
+    /**
+     * Cache of whether the type with this internal name can reach the wanted type.
+     */
+    private final Map<String, Boolean> reachesWantedType = new HashMap<>();
+    private final Set<String> inProgress = new HashSet<>();
+
+    SuperTypeFilter(Class<?> wantedType, ClassLoader classLoader) {
+        this.classLoader = classLoader;
+        this.wantedType = wantedType.getName().replace('.', '/');
+        this.skipJdkTypes = !isJdkType(this.wantedType);
+    }
+
+    /**
+     * @param classResource The class file, such as {@code db/migration/V1__Init.class}.
+     * @return {@code false} if this class can definitely not be a concrete implementation of the wanted type.
+     */
+    boolean isCandidate(LoadableResource classResource) {
+        ClassHeader header = classResource instanceof final ClassPathResource classPathResource
+                ? readHeader(classResource.getAbsolutePath(), openStream(classPathResource))
+                : readHeader(classResource.getAbsolutePath());
+        if (header == null) {
+            return true;
+        }
+        if ((header.accessFlags & NOT_INSTANTIABLE) != 0) {
+            return false;
+        }
+        return anyReachesWantedType(header);
+    }
+
+    private boolean reachesWantedType(String internalName) {
+        if (wantedType.equals(internalName)) {
+            return true;
+        }
+        if (skipJdkTypes && isJdkType(internalName)) {
+            return false;
+        }
+        Boolean cached = reachesWantedType.get(internalName);
+        if (cached != null) {
+            return cached;
+        }
+        if (!inProgress.add(internalName)) {
+            // Circular hierarchy; the class loader will reject it anyway
+            return false;
+        }
+        try {
+            ClassHeader header = readHeader(internalName + ".class");
+            boolean result = header == null || anyReachesWantedType(header);
+            reachesWantedType.put(internalName, result);
+            return result;
+        } finally {
+            inProgress.remove(internalName);
+        }
+    }
+
+    private boolean anyReachesWantedType(ClassHeader header) {
+        if (header.superClass != null && reachesWantedType(header.superClass)) {
+            return true;
+        }
+        for (String anInterface : header.interfaces) {
+            if (reachesWantedType(anInterface)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isJdkType(String internalName) {
+        return internalName.startsWith("java/");
+    }
+
+    private static InputStream openStream(ClassPathResource classResource) {
+        try {
+            return classResource.openStream();
+        } catch (FlywayException e) {
+            LOG.debug(() -> "Unable to pre-filter " + classResource.getAbsolutePath() + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Looks up this class file on the class path and reads its access flags and direct super types.
+     *
+     * @return The header or {@code null} if the class file could not be found or parsed.
+     */
+    private ClassHeader readHeader(String classResourceName) {
+        return readHeader(classResourceName, classLoader.getResourceAsStream(classResourceName));
+    }
+
+    /**
+     * Reads the access flags and direct super types from this class file.
+     *
+     * @param inputStream The content of the class file, which is closed afterwards, or {@code null} if it wasn't found.
+     * @return The header or {@code null} if the class file could not be found or parsed.
+     */
+    private ClassHeader readHeader(String classResourceName, InputStream inputStream) {
+        if (inputStream == null) {
+            return null;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(inputStream))) {
+            if (in.readInt() != MAGIC) {
+                return null;
+            }
+            in.readUnsignedShort(); // minor version
+            in.readUnsignedShort(); // major version
+
+            int constantPoolCount = in.readUnsignedShort();
+            String[] utf8Entries = new String[constantPoolCount];
+            int[] classNameIndexes = new int[constantPoolCount];
+            for (int i = 1; i < constantPoolCount; i++) {
+                int tag = in.readUnsignedByte();
+                switch (tag) {
+                    case CONSTANT_UTF8:
+                        utf8Entries[i] = in.readUTF();
+                        break;
+                    case CONSTANT_CLASS:
+                        classNameIndexes[i] = in.readUnsignedShort();
+                        break;
+                    case CONSTANT_STRING:
+                    case CONSTANT_METHOD_TYPE:
+                    case CONSTANT_MODULE:
+                    case CONSTANT_PACKAGE:
+                        skipFully(in, 2);
+                        break;
+                    case CONSTANT_METHOD_HANDLE:
+                        skipFully(in, 3);
+                        break;
+                    case CONSTANT_INTEGER:
+                    case CONSTANT_FLOAT:
+                    case CONSTANT_FIELDREF:
+                    case CONSTANT_METHODREF:
+                    case CONSTANT_INTERFACE_METHODREF:
+                    case CONSTANT_NAME_AND_TYPE:
+                    case CONSTANT_DYNAMIC:
+                    case CONSTANT_INVOKE_DYNAMIC:
+                        skipFully(in, 4);
+                        break;
+                    case CONSTANT_LONG:
+                    case CONSTANT_DOUBLE:
+                        skipFully(in, 8);
+                        // 8-byte constants take up two entries
+                        i++;
+                        break;
+                    default:
+                        LOG.debug(() -> "Unable to pre-filter " + classResourceName + ": unknown constant pool tag " + tag);
+                        return null;
+                }
+            }
+
+            int accessFlags = in.readUnsignedShort();
+            in.readUnsignedShort(); // this class
+            String superClass = className(in.readUnsignedShort(), utf8Entries, classNameIndexes);
+            String[] interfaces = new String[in.readUnsignedShort()];
+            for (int i = 0; i < interfaces.length; i++) {
+                interfaces[i] = className(in.readUnsignedShort(), utf8Entries, classNameIndexes);
+            }
+            return new ClassHeader(accessFlags, superClass, interfaces);
+        } catch (IOException | RuntimeException e) {
+            LOG.debug(() -> "Unable to pre-filter " + classResourceName + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    private static String className(int classIndex, String[] utf8Entries, int[] classNameIndexes) {
+        if (classIndex == 0) {
+            // java/lang/Object and module-info have no super class
+            return null;
+        }
+        String name = utf8Entries[classNameIndexes[classIndex]];
+        if (name == null) {
+            throw new IllegalStateException("invalid class reference " + classIndex);
+        }
+        return name;
+    }
+
+    private static void skipFully(DataInputStream in, int bytes) throws IOException {
+        while (bytes > 0) {
+            int skipped = in.skipBytes(bytes);
+            if (skipped <= 0) {
+                // Throws at the end of the stream
+                in.readByte();
+                skipped = 1;
+            }
+            bytes -= skipped;
+        }
+    }
+
+    private static class ClassHeader {
+        private final int accessFlags;
+        private final String superClass;
+        private final String[] interfaces;
+
+        private ClassHeader(int accessFlags, String superClass, String[] interfaces) {
+            this.accessFlags = accessFlags;
+            this.superClass = superClass;
+            this.interfaces = interfaces;
+        }
+    }
+}
@@ -24,20 +24,33 @@ import org.flywaydb.core.api.FlywayException;
 import org.flywaydb.core.api.Location;
 import org.flywaydb.core.api.configuration.S3ClientFactory;
 import org.flywaydb.core.api.resource.LoadableResource;
+import org.flywaydb.core.internal.resource.s3.AwsS3ObjectCache;
 import org.flywaydb.core.internal.resource.s3.AwsS3Resource;
 import org.flywaydb.core.internal.scanner.cloud.CloudScanner;
 import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.CommonPrefix;
 import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
 import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
 import software.amazon.awssdk.services.s3.model.S3Object;
 
 import java.nio.charset.Charset;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Predicate;
 
 @CustomLog
 public class AwsS3Scanner extends CloudScanner {
+    private static final String DELIMITER = "/";
+    private static final int MAX_LISTING_THREADS = 8;
+
     private final boolean throwOnMissingLocations;
+    private final S3Client s3Client;
+    private final AwsS3ObjectCache objectCache;
+    private final Predicate<String> prefetchFilter;
 
     /**
      * Creates a new AWS S3 scanner.
@@ -46,13 +59,74 @@ public class AwsS3Scanner extends CloudScanner {
      * @param throwOnMissingLocations whether to throw on missing locations.
      */
     public AwsS3Scanner(Charset encoding, boolean throwOnMissingLocations) {
+        this(encoding, throwOnMissingLocations, S3ClientFactory.getClient());
+    }
+
+    /**
+     * Creates a new AWS S3 scanner which only prefetches the objects whose file names match this filter.
+     *
+     * @param encoding The encoding to use.
+     * @param throwOnMissingLocations whether to throw on missing locations.
+     * @param prefetchFilter Matches the file names of the objects which are going to be read, so are worth prefetching.
+     */
+    public AwsS3Scanner(Charset encoding, boolean throwOnMissingLocations, Predicate<String> prefetchFilter) {
+        this(encoding, throwOnMissingLocations, S3ClientFactory.getClient(), prefetchFilter);
+    }
+
+    /**
+     * Creates a new AWS S3 scanner using this client.
+     *
+     * @param encoding The encoding to use.
+     * @param throwOnMissingLocations whether to throw on missing locations.
+     * @param s3Client The client to list and download objects with.
+     */
+    public AwsS3Scanner(Charset encoding, boolean throwOnMissingLocations, S3Client s3Client) {
+        this(encoding, throwOnMissingLocations, s3Client, filename -> true);
+    }
+
+    private AwsS3Scanner(Charset encoding, boolean throwOnMissingLocations, S3Client s3Client, Predicate<String> prefetchFilter) {
+        this(encoding, throwOnMissingLocations, s3Client, new AwsS3ObjectCache(s3Client), prefetchFilter);
+    }
+
+    /**
+     * Creates a new AWS S3 scanner using this client and object cache.
+     *
+     * @param encoding The encoding to use.
+     * @param throwOnMissingLocations whether to throw on missing locations.
+     * @param s3Client The client to list objects with.
+     * @param objectCache The cache the bodies of the resources are downloaded into.
+     */
+    public AwsS3Scanner(Charset encoding, boolean throwOnMissingLocations, S3Client s3Client, AwsS3ObjectCache objectCache) {
+        this(encoding, throwOnMissingLocations, s3Client, objectCache, filename -> true);
+    }
+
+    /**
+     * Creates a new AWS S3 scanner using this client and object cache, which only prefetches the objects whose file
+     * names match this filter.
+     *
+     * @param encoding The encoding to use.
+     * @param throwOnMissingLocations whether to throw on missing locations.
+     * @param s3Client The client to list objects with.
+     * @param objectCache The cache the bodies of the resources are downloaded into.
+     * @param prefetchFilter Matches the file names of the objects which are going to be read, so are worth prefetching.
+     * The others are only downloaded if they are read after all.
+     */
+    public AwsS3Scanner(Charset encoding, boolean throwOnMissingLocations, S3Client s3Client, AwsS3ObjectCache objectCache,
+                        Predicate<String> prefetchFilter) {
         super(encoding);
         this.throwOnMissingLocations = throwOnMissingLocations;
+        this.s3Client = s3Client;
+        this.objectCache = objectCache;
+        this.prefetchFilter = prefetchFilter;
     }
 
     /**
      * Scans S3 for the resources. In AWS SDK v2, only the region that the client is configured with can be used.
      * The format of the path is expected to be {@code s3:{bucketName}/{optional prefix}}.
+     * <p>
+     * The top level of the location is listed first; the subdirectories it contains are then listed concurrently.
+     * All listings follow continuation tokens, and the bodies of the objects found whose file names match the
+     * prefetch filter are prefetched into the local object cache in the background.
      *
      * @param location The location in S3 to start searching. Subdirectories are also searched.
      * @return The resources that were found.
@@ -61,12 +135,12 @@ public class AwsS3Scanner extends CloudScanner {
     public Collection<LoadableResource> scanForResources(final Location location) {
         String bucketName = getBucketName(location);
         String prefix = getPrefix(bucketName, location.getPath());
-        S3Client s3Client = S3ClientFactory.getClient();
         try {
-            ListObjectsV2Request.Builder builder = ListObjectsV2Request.builder().bucket(bucketName).prefix(prefix);
-            ListObjectsV2Request request = builder.build();
-            ListObjectsV2Response listObjectResult = s3Client.listObjectsV2(request);
-            return getLoadableResources(bucketName, listObjectResult);
+            List<S3Object> objects = new ArrayList<>();
+            List<String> subPrefixes = new ArrayList<>();
+            listObjects(bucketName, prefix, true, objects, subPrefixes);
+            listSubPrefixes(bucketName, subPrefixes, objects);
+            return getLoadableResources(bucketName, objects);
         } catch (SdkClientException e) {
 
             if (throwOnMissingLocations) {
@@ -78,12 +152,84 @@ public class AwsS3Scanner extends CloudScanner {
         }
     }
 
-    private Collection<LoadableResource> getLoadableResources(String bucketName, final ListObjectsV2Response listObjectResult) {
-        List<S3Object> objectSummaries = listObjectResult.contents();
+    private void listSubPrefixes(String bucketName, List<String> subPrefixes, List<S3Object> objects) {
+        if (subPrefixes.isEmpty()) {
+            return;
+        }
+        if (subPrefixes.size() == 1) {
+            listObjects(bucketName, subPrefixes.get(0), false, objects, null);
+            return;
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(subPrefixes.size(), MAX_LISTING_THREADS), r -> {
+            Thread t = Executors.defaultThreadFactory().newThread(r);
+            t.setDaemon(true);
+            return t;
+        });
+        try {
+            List<Future<List<S3Object>>> listings = new ArrayList<>();
+            for (String subPrefix : subPrefixes) {
+                listings.add(executor.submit(() -> {
+                    List<S3Object> subObjects = new ArrayList<>();
+                    listObjects(bucketName, subPrefix, false, subObjects, null);
+                    return subObjects;
+                }));
+            }
+            for (Future<List<S3Object>> listing : listings) {
+                objects.addAll(listing.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FlywayException("Interrupted while listing s3 location: " + bucketName, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new FlywayException("Unable to list s3 location: " + bucketName, e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Lists all objects under this prefix, following continuation tokens, and starts prefetching the bodies of those
+     * matching the prefetch filter.
+     *
+     * @param delimited Whether to only list the top level, adding the common prefixes below it to {@code subPrefixes}.
+     */
+    private void listObjects(String bucketName, String prefix, boolean delimited, List<S3Object> objects, List<String> subPrefixes) {
+        String continuationToken = null;
+        do {
+            ListObjectsV2Request.Builder builder = ListObjectsV2Request.builder().bucket(bucketName).prefix(prefix);
+            if (delimited) {
+                builder.delimiter(DELIMITER);
+            }
+            if (continuationToken != null) {
+                builder.continuationToken(continuationToken);
+            }
+            ListObjectsV2Response response = s3Client.listObjectsV2(builder.build());
+
+            for (S3Object object : response.contents()) {
+                if (prefetchFilter.test(object.key().substring(object.key().lastIndexOf(DELIMITER) + 1))) {
+                    objectCache.prefetch(bucketName, object);
+                }
+                objects.add(object);
+            }
+            if (delimited) {
+                for (CommonPrefix commonPrefix : response.commonPrefixes()) {
+                    subPrefixes.add(commonPrefix.prefix());
+                }
+            }
+
+            continuationToken = Boolean.TRUE.equals(response.isTruncated()) ? response.nextContinuationToken() : null;
+        } while (continuationToken != null);
+    }
+
+    private Collection<LoadableResource> getLoadableResources(String bucketName, final List<S3Object> objectSummaries) {
         Set<LoadableResource> resources = new TreeSet<>();
         for (S3Object objectSummary : objectSummaries) {
-            LOG.debug("Found Amazon S3 resource: " + bucketName.concat("/").concat(objectSummary.key()));
-            resources.add(new AwsS3Resource(bucketName, objectSummary, encoding));
+            LOG.debug(() -> "Found Amazon S3 resource: " + bucketName.concat("/").concat(objectSummary.key()));
+            resources.add(new AwsS3Resource(bucketName, objectSummary, encoding, objectCache));
         }
         return resources;
     }
@@ -92,7 +92,9 @@ public class FileSystemScanner {
                 }
                 resources.add(new FileSystemResource(location, resourceName, encoding, detectEncodingForThisResource, stream));
 
-                LOG.debug("Found filesystem resource: " + resourceName + encodingBlurb);
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("Found filesystem resource: " + resourceName + encodingBlurb);
+                }
             }
         }
 
@@ -114,7 +116,7 @@ public class FileSystemScanner {
 
     private Set<String> findResourceNamesFromFileSystem(String scanRootLocation, File folder) {
         String path = folder.getPath();
-        LOG.debug("Scanning for resources in path: " + folder.getPath() + " (" + scanRootLocation + ")");
+        LOG.debug(() -> "Scanning for resources in path: " + folder.getPath() + " (" + scanRootLocation + ")");
 
         Set<String> resourceNames = new TreeSet<>();
 
@@ -134,7 +136,7 @@ public class FileSystemScanner {
                 if (file.isDirectory()) {
                     if (file.isHidden()) {
                         // #1807: Skip hidden directories to avoid issues with Kubernetes
-                        LOG.debug("Skipping hidden directory: " + file.getAbsolutePath());
+                        LOG.debug(() -> "Skipping hidden directory: " + file.getAbsolutePath());
                     } else {
                         resourceNames.addAll(findResourceNamesFromFileSystem(scanRootLocation, file));
                     }
@@ -36,6 +36,7 @@ import org.flywaydb.core.internal.exception.FlywaySqlException;
 import org.flywaydb.core.internal.jdbc.ExecutionTemplateFactory;
 import org.flywaydb.core.internal.jdbc.JdbcNullTypes;
 import org.flywaydb.core.internal.jdbc.JdbcTemplate;
+import org.flywaydb.core.internal.jdbc.RowMapper;
 import org.flywaydb.core.internal.sqlscript.SqlScriptExecutorFactory;
 import org.flywaydb.core.internal.sqlscript.SqlScriptFactory;
 
@@ -47,6 +48,7 @@ import java.time.LocalDateTime;
 import java.util.*;
 import java.util.concurrent.Callable;
 import org.flywaydb.core.internal.util.Pair;
+import org.flywaydb.core.internal.util.StringUtils;
 
 /**
  * Supports reading and writing to the schema history table.
@@ -121,6 +123,7 @@ class JdbcTableSchemaHistory extends SchemaHistory {
                             public Object call() {
                                 sqlScriptExecutorFactory.createSqlScriptExecutor(connection.getJdbcConnection(), false, false, true)
                                                         .execute(database.getCreateScript(sqlScriptFactory, table, baseline), database.getConfiguration());
+                                jdbcTemplate.closeReusableStatements();
                                 LOG.debug("Created Schema History table " + table + (baseline ? " with baseline" : ""));
                                 return null;
                             }
@@ -154,6 +157,7 @@ class JdbcTableSchemaHistory extends SchemaHistory {
             table.drop();
             return null;
         });
+        jdbcTemplate.closeReusableStatements();
         clearCache();
     }
 
@@ -168,17 +172,8 @@ class JdbcTableSchemaHistory extends SchemaHistory {
     protected void doAddAppliedMigration(int installedRank, MigrationVersion version, String description,
                                          MigrationType type, String script, Integer checksum,
                                          int executionTime, boolean success) {
-        boolean tableIsLocked = false;
         connection.restoreOriginalState();
 
-        // Lock again for databases with no clean DDL transactions like Oracle
-        // to prevent implicit commits from triggering deadlocks
-        // in highly concurrent environments
-        if (!database.supportsDdlTransactions()) {
-            table.lock();
-            tableIsLocked = true;
-        }
-
         try {
             String versionStr = version == null ? null : version.toString();
 
@@ -189,17 +184,38 @@ class JdbcTableSchemaHistory extends SchemaHistory {
             Object versionObj = versionStr == null ? JdbcNullTypes.StringNull : versionStr;
             Object checksumObj = checksum == null ? JdbcNullTypes.IntegerNull : checksum;
 
-            jdbcTemplate.update(database.getInsertStatement(table),
-                                installedRank, versionObj, description, type.name(), script, checksumObj, database.getInstalledBy(),
-                                executionTime, success);
+            Object[] params = { installedRank, versionObj, description, type.name(), script, checksumObj, database.getInstalledBy(),
+                    executionTime, success };
+
+            int roundTrips;
+            if (database.supportsDdlTransactions()) {
+                jdbcTemplate.updateReusingStatement(database.getInsertStatement(table), params);
+                roundTrips = 1;
+            } else {
+                // Lock again for databases with no clean DDL transactions like Oracle
+                // to prevent implicit commits from triggering deadlocks
+                // in highly concurrent environments
+                roundTrips = table.updateWhileLocked(database.getInsertStatement(table), params);
+            }
 
-            LOG.debug("Schema History table " + table + " successfully updated to reflect changes");
+            LOG.debug("Schema History table " + table + " successfully updated to reflect changes (" + roundTrips
+                              + " round trip" + StringUtils.pluralizeSuffix(roundTrips) + ")");
         } catch (SQLException e) {
             throw new FlywaySqlException("Unable to insert row for version '" + version + "' in Schema History table " + table, e);
-        } finally {
-            if (tableIsLocked) {
-                table.unlock();
-            }
+        }
+    }
+
+    @Override
+    public void removeAppliedMigrations(int installedRank) {
+        connection.restoreOriginalState();
+
+        clearCache();
+
+        try {
+            jdbcTemplate.execute("DELETE FROM " + table + " WHERE " + database.quote("installed_rank") + " >= ?", installedRank);
+        } catch (SQLException e) {
+            throw new FlywaySqlException("Unable to remove rows from installed rank " + installedRank
+                                                 + " on from Schema History table " + table, e);
         }
     }
 
@@ -219,44 +235,93 @@ class JdbcTableSchemaHistory extends SchemaHistory {
         String query = database.getSelectStatement(table);
 
         try {
-            cache.addAll(jdbcTemplate.query(query, rs -> {
-                // Construct a map of lower-cased column names to ordinals. This is useful for databases that
-                // upper-case them - e.g. Snowflake with QUOTED-IDENTIFIERS-IGNORE-CASE turned on
-                HashMap<String, Integer> columnOrdinalMap = constructColumnOrdinalMap(rs);
-
-                Integer checksum = null;
-                try {
-                    checksum = rs.getInt(columnOrdinalMap.get("checksum"));
-                } catch (NumberFormatException ignore) {
-                }
-                if (rs.wasNull()) {
-                    checksum = null;
-                }
-
-                int installedRank = rs.getInt(columnOrdinalMap.get("installed_rank"));
-                MigrationVersion version = rs.getString(columnOrdinalMap.get("version")) != null ? MigrationVersion.fromVersion(rs.getString(columnOrdinalMap.get("version"))) : null;
-                String description = rs.getString(columnOrdinalMap.get("description"));
-                String type = rs.getString(columnOrdinalMap.get("type"));
-                String script = rs.getString(columnOrdinalMap.get("script"));
-                String installedBy = rs.getString(columnOrdinalMap.get("installed_by"));
-                int executionTime = rs.getInt(columnOrdinalMap.get("execution_time"));
-                boolean success = rs.getBoolean(columnOrdinalMap.get("success"));
-                Timestamp installedOn = rs.getTimestamp(columnOrdinalMap.get("installed_on"));
-                if (installedOn == null) {
-                    installedOn = Timestamp.valueOf(rs.getString(columnOrdinalMap.get("installed_on")));
-                }
-
-                return configuration.getPluginRegister().getPlugins(AppliedMigration.class).stream()
-                                    .filter(am -> am.handlesType(type))
-                                    .findFirst()
-                                    .orElse(new BaseAppliedMigration())
-                                    .create(installedRank, version, description, type, script, checksum, installedOn, installedBy, executionTime, success);
-            }, maxCachedInstalledRank));
+            cache.addAll(jdbcTemplate.query(query, new AppliedMigrationRowMapper(), maxCachedInstalledRank));
         } catch (SQLException e) {
             throw new FlywaySqlException("Error while retrieving the list of applied migrations from Schema History table " + table, e);
         }
     }
 
+    /**
+     * Maps the rows of the Schema History table to applied migrations. Everything that does not depend on the row
+     * itself, such as the column ordinals and the applied migration factory for each type, is resolved only once per
+     * query.
+     */
+    private class AppliedMigrationRowMapper implements RowMapper<AppliedMigration> {
+        private final List<AppliedMigration> appliedMigrationFactories = configuration.getPluginRegister().getPlugins(AppliedMigration.class);
+        private final Map<String, AppliedMigration> appliedMigrationFactoriesByType = new HashMap<>();
+        private final Map<String, MigrationVersion> versions = new HashMap<>();
+
+        private int installedRankColumn;
+        private int versionColumn;
+        private int descriptionColumn;
+        private int typeColumn;
+        private int scriptColumn;
+        private int checksumColumn;
+        private int installedByColumn;
+        private int installedOnColumn;
+        private int executionTimeColumn;
+        private int successColumn;
+        private boolean columnsResolved;
+
+        @Override
+        public AppliedMigration mapRow(ResultSet rs) throws SQLException {
+            if (!columnsResolved) {
+                resolveColumns(rs);
+            }
+
+            Integer checksum = null;
+            try {
+                checksum = rs.getInt(checksumColumn);
+            } catch (NumberFormatException ignore) {
+            }
+            if (rs.wasNull()) {
+                checksum = null;
+            }
+
+            int installedRank = rs.getInt(installedRankColumn);
+            String versionStr = rs.getString(versionColumn);
+            MigrationVersion version = versionStr != null ? versions.computeIfAbsent(versionStr, MigrationVersion::fromVersion) : null;
+            String description = rs.getString(descriptionColumn);
+            String type = rs.getString(typeColumn);
+            String script = rs.getString(scriptColumn);
+            String installedBy = rs.getString(installedByColumn);
+            int executionTime = rs.getInt(executionTimeColumn);
+            boolean success = rs.getBoolean(successColumn);
+            Timestamp installedOn = rs.getTimestamp(installedOnColumn);
+            if (installedOn == null) {
+                installedOn = Timestamp.valueOf(rs.getString(installedOnColumn));
+            }
+
+            return appliedMigrationFactoriesByType.computeIfAbsent(type, this::findAppliedMigrationFactory)
+                                                  .create(installedRank, version, description, type, script, checksum, installedOn, installedBy, executionTime, success);
+        }
+
+        private AppliedMigration findAppliedMigrationFactory(String type) {
+            return appliedMigrationFactories.stream()
+                                            .filter(am -> am.handlesType(type))
+                                            .findFirst()
+                                            .orElse(new BaseAppliedMigration());
+        }
+
+        private void resolveColumns(ResultSet rs) throws SQLException {
+            // Construct a map of lower-cased column names to ordinals. This is useful for databases that
+            // upper-case them - e.g. Snowflake with QUOTED-IDENTIFIERS-IGNORE-CASE turned on
+            HashMap<String, Integer> columnOrdinalMap = constructColumnOrdinalMap(rs);
+
+            installedRankColumn = columnOrdinalMap.get("installed_rank");
+            versionColumn = columnOrdinalMap.get("version");
+            descriptionColumn = columnOrdinalMap.get("description");
+            typeColumn = columnOrdinalMap.get("type");
+            scriptColumn = columnOrdinalMap.get("script");
+            checksumColumn = columnOrdinalMap.get("checksum");
+            installedByColumn = columnOrdinalMap.get("installed_by");
+            installedOnColumn = columnOrdinalMap.get("installed_on");
+            executionTimeColumn = columnOrdinalMap.get("execution_time");
+            successColumn = columnOrdinalMap.get("success");
+            columnsResolved = true;
+        }
+    }
+
     private HashMap<String, Integer> constructColumnOrdinalMap(ResultSet rs) throws SQLException {
         HashMap<String, Integer> columnOrdinalMap = new HashMap<>();
         ResultSetMetaData metadata = rs.getMetaData();
@@ -197,8 +197,9 @@ public abstract class SchemaHistory {
      * @param checksum The checksum of the migration. (Optional)
      * @param executionTime The execution time (in millis) of this migration.
      * @param success Flag indicating whether the migration was successful or not.
+     * @return The installed rank of the migration.
      */
-    public final void addAppliedMigration(MigrationVersion version, String description, MigrationType type,
+    public final int addAppliedMigration(MigrationVersion version, String description, MigrationType type,
                                           String script, Integer checksum, int executionTime, boolean success) {
         int installedRank = calculateInstalledRank(type);
         doAddAppliedMigration(
@@ -210,8 +211,17 @@ public abstract class SchemaHistory {
                 checksum,
                 executionTime,
                 success);
+        return installedRank;
     }
 
+    /**
+     * Removes the migrations recorded from this installed rank on, as when the transaction which applied them was
+     * restarted and will record them again.
+     *
+     * @param installedRank The installed rank of the first migration to remove.
+     */
+    public abstract void removeAppliedMigrations(int installedRank);
+
     /**
      * Calculates the installed rank for the new migration to be inserted.
      *
@@ -27,6 +27,10 @@ import org.flywaydb.core.api.callback.Warning;
 import org.flywaydb.core.api.configuration.Configuration;
 import org.flywaydb.core.api.exception.FlywayBlockStatementExecutionException;
 import org.flywaydb.core.internal.callback.CallbackExecutor;
+import org.flywaydb.core.internal.configuration.extensions.PackStatementsConfigurationExtension;
+import org.flywaydb.core.internal.configuration.extensions.ResultRetentionConfigurationExtension;
+import org.flywaydb.core.internal.configuration.extensions.ResultRetentionConfigurationExtension.ResultRetention;
+import org.flywaydb.core.internal.exception.FlywaySqlException;
 import org.flywaydb.core.internal.jdbc.JdbcTemplate;
 import org.flywaydb.core.internal.jdbc.Result;
 import org.flywaydb.core.internal.jdbc.Results;
@@ -34,10 +38,13 @@ import org.flywaydb.core.internal.jdbc.StatementInterceptor;
 import org.flywaydb.core.internal.util.AsciiTable;
 import org.flywaydb.core.internal.util.StringUtils;
 
+import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
 
 @CustomLog
 public class DefaultSqlScriptExecutor implements SqlScriptExecutor {
@@ -65,6 +72,16 @@ public class DefaultSqlScriptExecutor implements SqlScriptExecutor {
      */
     private static final int MAX_BATCH_SIZE = 100;
 
+    /**
+     * The maximum number of statements to send in a single round trip when packing statements.
+     */
+    private static final int MAX_PACK_SIZE = 100;
+
+    /**
+     * Statements which produce results are never packed, so their results stay attributed to them.
+     */
+    private static final Pattern QUERY_PATTERN = Pattern.compile("^(SELECT|WITH|SHOW|VALUES|TABLE|EXPLAIN|CALL|EXEC|EXECUTE)\\b");
+
     /**
      * Whether to batch SQL statements.
      */
@@ -75,13 +92,31 @@ public class DefaultSqlScriptExecutor implements SqlScriptExecutor {
      */
     protected final boolean outputQueryResults;
 
+    /**
+     * The packer for sending consecutive statements in a single round trip, or {@code null} if not supported.
+     */
+    private final StatementPacker statementPacker;
+
+    /**
+     * Which results of the executed statements to keep.
+     */
+    private ResultRetention resultRetention = ResultRetention.ALL;
+
 
 
     public DefaultSqlScriptExecutor(JdbcTemplate jdbcTemplate,
                                     CallbackExecutor callbackExecutor, boolean undo, boolean batch, boolean outputQueryResults,
                                     StatementInterceptor statementInterceptor
                                    ) {
+        this(jdbcTemplate, callbackExecutor, undo, batch, outputQueryResults, statementInterceptor, null);
+    }
+
+    public DefaultSqlScriptExecutor(JdbcTemplate jdbcTemplate,
+                                    CallbackExecutor callbackExecutor, boolean undo, boolean batch, boolean outputQueryResults,
+                                    StatementInterceptor statementInterceptor, StatementPacker statementPacker
+                                   ) {
         this.jdbcTemplate = jdbcTemplate;
+        this.statementPacker = statementPacker;
 
 
 
@@ -101,7 +136,12 @@ public class DefaultSqlScriptExecutor implements SqlScriptExecutor {
 
 
         List<SqlStatement> batchStatements = new ArrayList<>();
+        List<SqlStatement> packedStatements = new ArrayList<>();
+        boolean pack = statementPacker != null && (statementPacker.isAlwaysEnabled() || isPackStatementsEnabled(config));
+        configureResultRetention(config);
 
+        // All statements of the script share a single JDBC statement
+        jdbcTemplate.beginStatementReuse();
         try (SqlStatementIterator sqlStatementIterator = sqlScript.getSqlStatements()) {
             SqlStatement sqlStatement;
             while ((sqlStatement = sqlStatementIterator.next()) != null) {
@@ -120,32 +160,217 @@ public class DefaultSqlScriptExecutor implements SqlScriptExecutor {
 
                 if (batch) {
                     if (sqlStatement.isBatchable()) {
+                        if (!packedStatements.isEmpty()) {
+                            // Execute the packed statements up to this point
+                            retainAll(results, executePack(jdbcTemplate, sqlScript, packedStatements, config));
+                            packedStatements = new ArrayList<>();
+                        }
                         logStatementExecution(sqlStatement);
                         batchStatements.add(sqlStatement);
                         if (batchStatements.size() >= MAX_BATCH_SIZE) {
-                            results.add(executeBatch(jdbcTemplate, sqlScript, batchStatements, config));
+                            retain(results, executeBatch(jdbcTemplate, sqlScript, batchStatements, config));
                             batchStatements = new ArrayList<>();
                         }
                     } else {
                         // Execute the batch up to this point
-                        results.add(executeBatch(jdbcTemplate, sqlScript, batchStatements, config));
+                        retain(results, executeBatch(jdbcTemplate, sqlScript, batchStatements, config));
                         batchStatements = new ArrayList<>();
                         // Now execute this non-batchable statement. We'll resume batching after this one.
-                        results.add(executeStatement(jdbcTemplate, sqlScript, sqlStatement, config));
+                        packedStatements = executeOrPack(jdbcTemplate, sqlScript, sqlStatement, pack, packedStatements, results, config);
                     }
                 } else {
-                    results.add(executeStatement(jdbcTemplate, sqlScript, sqlStatement, config));
+                    packedStatements = executeOrPack(jdbcTemplate, sqlScript, sqlStatement, pack, packedStatements, results, config);
                 }
             }
-        }
 
-        if (batch) {
-            // Execute any remaining batch statements that haven't yet been sent to the database
-            results.add(executeBatch(jdbcTemplate, sqlScript, batchStatements, config));
+            // Execute any remaining packed statements
+            retainAll(results, executePack(jdbcTemplate, sqlScript, packedStatements, config));
+
+            if (batch) {
+                // Execute any remaining batch statements that haven't yet been sent to the database
+                retain(results, executeBatch(jdbcTemplate, sqlScript, batchStatements, config));
+            }
+        } finally {
+            jdbcTemplate.endStatementReuse();
         }
         return results;
     }
 
+    private boolean isPackStatementsEnabled(Configuration config) {
+        PackStatementsConfigurationExtension extension = config.getPluginRegister().getPlugin(PackStatementsConfigurationExtension.class);
+        return extension != null && Boolean.TRUE.equals(extension.getPackStatements());
+    }
+
+    /**
+     * Adds this statement to the packed statements if it can be packed, or executes the packed statements followed by
+     * this one on its own.
+     *
+     * @return The packed statements still to be executed.
+     */
+    private List<SqlStatement> executeOrPack(JdbcTemplate jdbcTemplate, SqlScript sqlScript, SqlStatement sqlStatement, boolean pack,
+                                             List<SqlStatement> packedStatements, List<Results> results, Configuration config) {
+        if (pack && canPack(sqlStatement)) {
+            packedStatements.add(sqlStatement);
+            if (packedStatements.size() < MAX_PACK_SIZE) {
+                return packedStatements;
+            }
+            retainAll(results, executePack(jdbcTemplate, sqlScript, packedStatements, config));
+            return new ArrayList<>();
+        }
+
+        retainAll(results, executePack(jdbcTemplate, sqlScript, packedStatements, config));
+        retain(results, executeStatement(jdbcTemplate, sqlScript, sqlStatement, config));
+        return new ArrayList<>();
+    }
+
+    private void configureResultRetention(Configuration config) {
+        ResultRetentionConfigurationExtension extension = config.getPluginRegister().getPlugin(ResultRetentionConfigurationExtension.class);
+        if (extension == null) {
+            return;
+        }
+
+        try {
+            resultRetention = ResultRetention.valueOf(extension.getResultRetention().toUpperCase(Locale.ENGLISH));
+        } catch (IllegalArgumentException e) {
+            throw new FlywayException("Invalid value for " + ResultRetentionConfigurationExtension.RESULT_RETENTION + ": "
+                                              + extension.getResultRetention() + ". Valid values are ALL, WARNINGS_AND_ERRORS and DISCARD");
+        }
+
+        int rowLimit = extension.getResultRowLimit() == null ? -1 : extension.getResultRowLimit();
+        if (!outputQueryResults && resultRetention != ResultRetention.ALL) {
+            // Nothing will ever look at the rows, so don't even convert them
+            rowLimit = 0;
+        }
+        jdbcTemplate.setResultRowLimit(rowLimit);
+    }
+
+    /**
+     * Adds these results to the results of the script, as far as the result retention allows.
+     */
+    private void retain(List<Results> results, Results statementResults) {
+        switch (resultRetention) {
+            case DISCARD:
+                return;
+            case WARNINGS_AND_ERRORS:
+                if (statementResults == null
+                        || (statementResults.getWarnings().isEmpty() && statementResults.getErrors().isEmpty() && statementResults.getException() == null)) {
+                    return;
+                }
+                statementResults.getResults().clear();
+                break;
+            default:
+                break;
+        }
+        results.add(statementResults);
+    }
+
+    private void retainAll(List<Results> results, List<Results> statementResults) {
+        for (Results r : statementResults) {
+            retain(results, r);
+        }
+    }
+
+    private boolean canPack(SqlStatement sqlStatement) {
+        // Special statements like COPY FROM STDIN execute themselves and statements with a custom delimiter are blocks
+        // which may not be joined with others
+        return sqlStatement.getClass() == ParsedSqlStatement.class
+                && ";".equals(sqlStatement.getDelimiter())
+                && !QUERY_PATTERN.matcher(sqlStatement.getSql().trim().toUpperCase(Locale.ENGLISH)).find()
+                && statementPacker.canPack(sqlStatement);
+    }
+
+    private List<Results> executePack(JdbcTemplate jdbcTemplate, SqlScript sqlScript, List<SqlStatement> packedStatements, Configuration config) {
+        if (packedStatements.isEmpty()) {
+            return Collections.emptyList();
+        }
+        if (packedStatements.size() == 1) {
+            return Collections.singletonList(executeStatement(jdbcTemplate, sqlScript, packedStatements.get(0), config));
+        }
+
+        List<SqlStatement> sqlStatements = new ArrayList<>();
+        for (SqlStatement sqlStatement : packedStatements) {
+            logStatementExecution(sqlStatement);
+            try {
+                handleEachMigrateOrUndoStatementCallback(Event.BEFORE_EACH_UNDO_STATEMENT, Event.BEFORE_EACH_MIGRATE_STATEMENT, sqlStatement.getSql() + sqlStatement.getDelimiter(), null, null);
+            } catch (FlywayBlockStatementExecutionException e) {
+                LOG.debug("Statement on line " + sqlStatement.getLineNumber() + " + skipped due to " + e.getMessage());
+                continue;
+            }
+            sqlStatements.add(sqlStatement);
+        }
+        if (sqlStatements.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        boolean inTransaction;
+        try {
+            inTransaction = !jdbcTemplate.getConnection().getAutoCommit();
+        } catch (SQLException e) {
+            throw new FlywaySqlException("Unable to determine the transaction state of the connection", e);
+        }
+
+        LOG.debug(() -> "Sending " + sqlStatements.size() + " packed statements to database in a single round trip ...");
+        Results results = statementPacker.execute(jdbcTemplate, sqlStatements, inTransaction);
+
+        if (results.getException() == null && results.getWarnings().isEmpty() && results.getErrors().isEmpty()) {
+            completePack(jdbcTemplate, inTransaction);
+            for (SqlStatement sqlStatement : sqlStatements) {
+                handleEachMigrateOrUndoStatementCallback(Event.AFTER_EACH_UNDO_STATEMENT, Event.AFTER_EACH_MIGRATE_STATEMENT, sqlStatement.getSql() + sqlStatement.getDelimiter(), Collections.emptyList(), Collections.emptyList());
+            }
+            handleResults(results);
+            return Collections.singletonList(results);
+        }
+
+        boolean replay;
+        try {
+            replay = statementPacker.prepareReplay(jdbcTemplate, inTransaction);
+        } catch (SQLException e) {
+            throw new FlywaySqlException("Unable to recover from the failure of packed statements", e);
+        }
+
+        if (replay) {
+            // Nothing took effect, so execute the statements one by one to attribute the failure or the warnings to
+            // the statement which caused them
+            LOG.debug("Packed statements failed or reported warnings. Executing them one by one ...");
+            List<Results> replayedResults = new ArrayList<>();
+            for (SqlStatement sqlStatement : sqlStatements) {
+                replayedResults.add(executeStatementAndHandleResults(jdbcTemplate, sqlScript, sqlStatement, config));
+            }
+            return replayedResults;
+        }
+
+        if (results.getException() == null) {
+            // The warnings of a pack which can't be replayed can't be attributed to any of its statements
+            completePack(jdbcTemplate, inTransaction);
+            for (SqlStatement sqlStatement : sqlStatements) {
+                handleEachMigrateOrUndoStatementCallback(Event.AFTER_EACH_UNDO_STATEMENT, Event.AFTER_EACH_MIGRATE_STATEMENT, sqlStatement.getSql() + sqlStatement.getDelimiter(), Collections.emptyList(), Collections.emptyList());
+            }
+            printWarnings(results);
+            handleResults(results);
+            return Collections.singletonList(results);
+        }
+
+        // The statements before the failing one took effect, and each of them returned one result
+        int failedIndex = Math.min(results.getResults().size(), sqlStatements.size() - 1);
+        for (int i = 0; i < failedIndex; i++) {
+            SqlStatement sqlStatement = sqlStatements.get(i);
+            handleEachMigrateOrUndoStatementCallback(Event.AFTER_EACH_UNDO_STATEMENT, Event.AFTER_EACH_MIGRATE_STATEMENT, sqlStatement.getSql() + sqlStatement.getDelimiter(), Collections.emptyList(), Collections.emptyList());
+        }
+        SqlStatement failedStatement = sqlStatements.get(failedIndex);
+        handleEachMigrateOrUndoStatementCallback(Event.AFTER_EACH_UNDO_STATEMENT_ERROR, Event.AFTER_EACH_MIGRATE_STATEMENT_ERROR, failedStatement.getSql() + failedStatement.getDelimiter(), results.getWarnings(), results.getErrors());
+        printWarnings(results);
+        handleException(results, sqlScript, failedStatement, config);
+        return Collections.singletonList(results);
+    }
+
+    private void completePack(JdbcTemplate jdbcTemplate, boolean inTransaction) {
+        try {
+            statementPacker.complete(jdbcTemplate, inTransaction);
+        } catch (SQLException e) {
+            throw new FlywaySqlException("Unable to complete packed statements", e);
+        }
+    }
+
     protected void logStatementExecution(SqlStatement sqlStatement) {
         if (LOG.isDebugEnabled()) {
             LOG.debug("Executing "
@@ -159,7 +384,7 @@ public class DefaultSqlScriptExecutor implements SqlScriptExecutor {
             return null;
         }
 
-        LOG.debug("Sending batch of " + batchStatements.size() + " statements to database ...");
+        LOG.debug(() -> "Sending batch of " + batchStatements.size() + " statements to database ...");
         List<String> sqlBatch = new ArrayList<>();
         for (SqlStatement sqlStatement : batchStatements) {
             try {
@@ -209,6 +434,11 @@ public class DefaultSqlScriptExecutor implements SqlScriptExecutor {
             return null;
         }
 
+        return executeStatementAndHandleResults(jdbcTemplate, sqlScript, sqlStatement, config);
+    }
+
+    private Results executeStatementAndHandleResults(JdbcTemplate jdbcTemplate, SqlScript sqlScript, SqlStatement sqlStatement, Configuration config) {
+        String sql = sqlStatement.getSql() + sqlStatement.getDelimiter();
         Results results = sqlStatement.execute(jdbcTemplate, this, config);
 
         if (results.getException() != null) {
@@ -245,7 +475,7 @@ public class DefaultSqlScriptExecutor implements SqlScriptExecutor {
     }
 
     private void handleUpdateCount(long updateCount) {
-        LOG.debug(updateCount + " row" + StringUtils.pluralizeSuffix(updateCount) + " affected");
+        LOG.debug(() -> updateCount + " row" + StringUtils.pluralizeSuffix(updateCount) + " affected");
     }
 
     protected void handleException(Results results, SqlScript sqlScript, SqlStatement sqlStatement, Configuration config) {
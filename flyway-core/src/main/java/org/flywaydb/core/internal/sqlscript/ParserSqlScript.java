@@ -69,6 +69,11 @@ public class ParserSqlScript implements SqlScript {
     }
 
     protected void parse() {
+        // Start afresh in case an earlier attempt failed part way through
+        sqlStatements.clear();
+        sqlStatementCount = 0;
+        nonTransactionalStatementFound = false;
+
         try (SqlStatementIterator sqlStatementIterator = parser.parse(resource, metadata)) {
             boolean transactionalStatementFound = false;
             SqlStatement sqlStatement;
@@ -111,7 +116,8 @@ public class ParserSqlScript implements SqlScript {
     }
 
     @Override
-    public void validate() {
+    public synchronized void validate() {
+        // Synchronized as scripts may be parsed ahead of their execution on another thread
         if (!parsed) {
             parse();
         }
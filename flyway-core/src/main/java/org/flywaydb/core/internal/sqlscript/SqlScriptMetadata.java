@@ -103,7 +103,7 @@ public class SqlScriptMetadata {
 
     public static SqlScriptMetadata fromResource(LoadableResource resource, Parser parser, Configuration config) {
         if (resource != null) {
-            LOG.debug("Found script configuration: " + resource.getFilename());
+            LOG.debug(() -> "Found script configuration: " + resource.getFilename());
             var unmappedMetadata = ConfigUtils.loadConfigurationFromReader(resource.read(), true);
             if (parser == null) {
                 return new SqlScriptMetadata(unmappedMetadata, unmappedMetadata, config);
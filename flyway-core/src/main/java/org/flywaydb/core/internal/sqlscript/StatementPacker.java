@@ -0,0 +1,101 @@
+/*-
+ * ========================LICENSE_START=================================
+ * flyway-core
+ * ========================================================================
+ * Copyright (C) 2010 - 2025 Red Gate Software Ltd
+ * ========================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+package org.flywaydb.core.internal.sqlscript;
+
+import org.flywaydb.core.internal.jdbc.JdbcTemplate;
+import org.flywaydb.core.internal.jdbc.Results;
+
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Packs consecutive statements of a script into the sql of a single round trip, for databases whose driver can
+ * execute several statements at once.
+ */
+public interface StatementPacker {
+    /**
+     * Whether this packer is used even when {@code flyway.packStatements} is disabled, because its packs behave exactly
+     * like their statements executed one by one.
+     *
+     * @return {@code true} if it is always used, {@code false} if only when enabled.
+     */
+    default boolean isAlwaysEnabled() {
+        return false;
+    }
+
+    /**
+     * Whether this statement may be packed with its neighbours. Statements producing query results, special statements
+     * and statements with a custom delimiter are never packed.
+     *
+     * @param sqlStatement The statement.
+     * @return {@code true} if it may be packed, {@code false} if it must be executed on its own.
+     */
+    default boolean canPack(SqlStatement sqlStatement) {
+        // Non-transactional statements must run on their own
+        return sqlStatement.canExecuteInTransaction();
+    }
+
+    /**
+     * Packs these statements into a single sql string.
+     *
+     * @param sqlStatements The statements to pack, in script order.
+     * @param inTransaction Whether the statements are executed within a transaction.
+     * @return The sql executing all these statements in one round trip.
+     */
+    String pack(List<SqlStatement> sqlStatements, boolean inTransaction);
+
+    /**
+     * Executes these statements in one round trip. By default this sends the sql built by
+     * {@link #pack(List, boolean)}.
+     *
+     * @param jdbcTemplate The template to execute the statements with.
+     * @param sqlStatements The statements to execute, in script order.
+     * @param inTransaction Whether the statements are executed within a transaction.
+     * @return The results of the pack. When it failed, it holds the exception and one result for each statement
+     * which took effect before the failing one.
+     */
+    default Results execute(JdbcTemplate jdbcTemplate, List<SqlStatement> sqlStatements, boolean inTransaction) {
+        return jdbcTemplate.executeStatement(pack(sqlStatements, inTransaction));
+    }
+
+    /**
+     * Completes a pack which succeeded without warnings, such as by releasing the savepoint guarding it.
+     *
+     * @param jdbcTemplate The template the pack was executed with.
+     * @param inTransaction Whether the pack was executed within a transaction.
+     * @throws SQLException when the pack could not be completed.
+     */
+    default void complete(JdbcTemplate jdbcTemplate, boolean inTransaction) throws SQLException {
+    }
+
+    /**
+     * Prepares replaying the statements of a pack one by one, because it failed or reported warnings, so the failure
+     * and the warnings can be attributed to the statement which caused them.
+     *
+     * @param jdbcTemplate The template the pack was executed with.
+     * @param inTransaction Whether the pack was executed within a transaction.
+     * @return {@code true} if the pack no longer has any effect and its statements can be replayed, or {@code false}
+     * if its statements keep their effect. The results of such a packer must then hold exactly one result for each
+     * statement which took effect before a failure, and no warnings other than those of the failing statement, as
+     * they are attributed from that alone.
+     * @throws SQLException when the state before the pack could not be restored.
+     */
+    boolean prepareReplay(JdbcTemplate jdbcTemplate, boolean inTransaction) throws SQLException;
+}
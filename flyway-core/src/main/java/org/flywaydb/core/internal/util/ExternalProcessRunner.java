@@ -19,17 +19,44 @@
  */
 package org.flywaydb.core.internal.util;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.OutputStreamWriter;
+import java.io.Reader;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.util.Map;
 import java.util.Scanner;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.function.Consumer;
 import lombok.SneakyThrows;
+import org.flywaydb.core.api.FlywayException;
 
 public class ExternalProcessRunner {
+    /**
+     * The threads reading the output of the processes, shared by all runs so none has to set up its own pool.
+     */
+    private static final ExecutorService OUTPUT_READERS = Executors.newCachedThreadPool(r -> {
+        Thread t = Executors.defaultThreadFactory().newThread(r);
+        t.setName("flyway-process-output-" + t.getId());
+        t.setDaemon(true);
+        return t;
+    });
+    private static final int BUFFER_SIZE = 8192;
+    /**
+     * Longer lines are split, so output without line breaks is never held in memory as a whole.
+     */
+    private static final int MAX_LINE_LENGTH = 8192;
+    /**
+     * How long to wait for the output of a killed process to be drained.
+     */
+    private static final int KILL_GRACE_SECONDS = 5;
 
     @SneakyThrows
     public int run(final String[] command,
@@ -72,18 +99,17 @@ public class ExternalProcessRunner {
         }
         final var process = processBuilder.start();
 
-        final var executorService = Executors.newFixedThreadPool(2);
         try (final var outStream = new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8);
              final var errStream = new InputStreamReader(process.getErrorStream(), StandardCharsets.UTF_8);
              final var inputSteam = new OutputStreamWriter(process.getOutputStream(), StandardCharsets.UTF_8);
              final var stdOut = new Scanner(outStream);
              final var stdErr = new Scanner(errStream)) {
-            final var handleStdOut = executorService.submit(() -> {
+            final var handleStdOut = OUTPUT_READERS.submit(() -> {
                 while (stdOut.hasNextLine()) {
                     onStdOut.accept(stdOut.nextLine());
                 }
             });
-            final var handleStdErr = executorService.submit(() -> {
+            final var handleStdErr = OUTPUT_READERS.submit(() -> {
                 while (stdErr.hasNextLine()) {
                     onStdErr.accept(stdErr.nextLine());
                 }
@@ -96,8 +122,6 @@ public class ExternalProcessRunner {
 
             handleStdOut.get();
             handleStdErr.get();
-        } finally {
-            executorService.shutdown();
         }
 
         return process.waitFor();
@@ -125,4 +149,104 @@ public class ExternalProcessRunner {
 
         return process.waitFor();
     }
+
+    /**
+     * Runs this process and passes each line of its output to the consumer as soon as it has been read.
+     *
+     * @param processBuilder The process to run. Only its standard output is read, so redirect its error stream to
+     *                       include it.
+     * @param onOutput The consumer of the output lines.
+     * @param timeoutSeconds The number of seconds after which the process and its descendants are killed, or 0 for no
+     *                       limit.
+     * @return The exit code of the process.
+     * @throws FlywayException when the process was killed because it timed out.
+     */
+    @SneakyThrows
+    public int run(final ProcessBuilder processBuilder,
+                   final Consumer<? super String> onOutput,
+                   final int timeoutSeconds) {
+        final var process = processBuilder.start();
+        process.getOutputStream().close();
+
+        final var handleOutput = OUTPUT_READERS.submit(() -> {
+            readLines(process.getInputStream(), onOutput);
+            return null;
+        });
+
+        if (timeoutSeconds > 0) {
+            final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(timeoutSeconds);
+            try {
+                if (!process.waitFor(timeoutSeconds, TimeUnit.SECONDS)) {
+                    throw new TimeoutException();
+                }
+                // A descendant left running, such as a backgrounded child of a script, may still hold the output open
+                handleOutput.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                kill(process, handleOutput);
+                throw new FlywayException("Process " + process.pid() + " did not complete within " + timeoutSeconds
+                                                  + " seconds and was killed");
+            }
+        } else {
+            handleOutput.get();
+        }
+        return process.waitFor();
+    }
+
+    private static void kill(Process process, Future<?> handleOutput) throws InterruptedException, ExecutionException {
+        process.descendants().forEach(ProcessHandle::destroyForcibly);
+        process.destroyForcibly();
+        try {
+            handleOutput.get(KILL_GRACE_SECONDS, TimeUnit.SECONDS);
+        } catch (TimeoutException e) {
+            handleOutput.cancel(true);
+            try {
+                process.getInputStream().close();
+            } catch (IOException ignored) {
+                // Nothing more can be done about the output of a process that is being abandoned
+            }
+        }
+    }
+
+    private static void readLines(InputStream inputStream, Consumer<? super String> onLine) throws IOException {
+        try (Reader reader = new InputStreamReader(inputStream, StandardCharsets.UTF_8)) {
+            char[] buffer = new char[BUFFER_SIZE];
+            StringBuilder line = new StringBuilder();
+            int count;
+            while ((count = reader.read(buffer)) != -1) {
+                int start = 0;
+                for (int i = 0; i < count; i++) {
+                    if (buffer[i] == '\n') {
+                        append(line, buffer, start, i, onLine);
+                        onLine.accept(stripCarriageReturn(line));
+                        line.setLength(0);
+                        start = i + 1;
+                    }
+                }
+                append(line, buffer, start, count, onLine);
+            }
+            if (line.length() > 0) {
+                onLine.accept(stripCarriageReturn(line));
+            }
+        }
+    }
+
+    private static void append(StringBuilder line, char[] buffer, int start, int end, Consumer<? super String> onLine) {
+        while (start < end) {
+            if (line.length() == MAX_LINE_LENGTH) {
+                onLine.accept(line.toString());
+                line.setLength(0);
+            }
+            int length = Math.min(end - start, MAX_LINE_LENGTH - line.length());
+            line.append(buffer, start, length);
+            start += length;
+        }
+    }
+
+    private static String stripCarriageReturn(StringBuilder line) {
+        int length = line.length();
+        if (length > 0 && line.charAt(length - 1) == '\r') {
+            length--;
+        }
+        return line.substring(0, length);
+    }
 }
@@ -30,10 +30,16 @@ import org.flywaydb.core.api.FlywayException;
 import java.io.*;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.AccessDeniedException;
+import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.Files;
+import java.nio.file.LinkOption;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
 import java.util.Locale;
+import java.util.Set;
 
 /**
  * Utility class for copying files and their contents. Inspired by Spring's own.
@@ -41,6 +47,8 @@ import java.util.Locale;
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 @ExtensionMethod(StringUtils.class)
 public class FileUtils {
+    private static final Set<PosixFilePermission> PRIVATE_DIRECTORY_PERMISSIONS = PosixFilePermissions.fromString("rwx------");
+
     public static String getFilename(String path) {
         if (StringUtils.hasText(path)) {
             return path.substring(path.replace("/", "\\").lastIndexOf("\\") + 1);
@@ -191,6 +199,58 @@ public class FileUtils {
         }
     }
 
+    /**
+     * Creates this directory, if needed, so that only the current user can access it, and checks that it is private
+     * to the current user: owned by them, not a symbolic link, and, where the file system supports POSIX permissions,
+     * inaccessible to anyone else. Group and other permissions on a directory owned by the current user are revoked.
+     *
+     * @param directory The directory.
+     * @return {@code true} if the directory is private to the current user, {@code false} if it must not be trusted.
+     * @throws IOException when the directory could not be created or inspected.
+     */
+    public static boolean createPrivateDirectory(Path directory) throws IOException {
+        boolean posix = directory.getFileSystem().supportedFileAttributeViews().contains("posix");
+        if (!Files.exists(directory, LinkOption.NOFOLLOW_LINKS)) {
+            Path parent = directory.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            try {
+                if (posix) {
+                    Files.createDirectory(directory, PosixFilePermissions.asFileAttribute(PRIVATE_DIRECTORY_PERMISSIONS));
+                } else {
+                    Files.createDirectory(directory);
+                }
+            } catch (FileAlreadyExistsException e) {
+                // Created concurrently, which the checks below cover
+            }
+        }
+
+        if (!Files.isDirectory(directory, LinkOption.NOFOLLOW_LINKS)) {
+            return false;
+        }
+
+        // A file we create ourselves is owned by the current user, whichever way the platform names users
+        Path probe;
+        try {
+            probe = Files.createTempFile(directory, "owner", ".tmp");
+        } catch (AccessDeniedException e) {
+            return false;
+        }
+        try {
+            if (!Files.getOwner(directory, LinkOption.NOFOLLOW_LINKS).equals(Files.getOwner(probe))) {
+                return false;
+            }
+        } finally {
+            Files.deleteIfExists(probe);
+        }
+
+        if (posix && !PRIVATE_DIRECTORY_PERMISSIONS.equals(Files.getPosixFilePermissions(directory, LinkOption.NOFOLLOW_LINKS))) {
+            Files.setPosixFilePermissions(directory, PRIVATE_DIRECTORY_PERMISSIONS);
+        }
+        return true;
+    }
+
     public static File getAppDataLocation() {
         boolean isWindows = System.getProperty("os.name").toLowerCase(Locale.ENGLISH).contains("win");
         return isWindows ? new File(System.getenv("APPDATA"), "Redgate") : new File(System.getProperty("user.home"), ".config/Redgate");
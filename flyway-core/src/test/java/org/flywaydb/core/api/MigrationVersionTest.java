@@ -0,0 +1,148 @@
+/*-
+ * ========================LICENSE_START=================================
+ * flyway-core
+ * ========================================================================
+ * Copyright (C) 2010 - 2025 Red Gate Software Ltd
+ * ========================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+package org.flywaydb.core.api;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Checks on randomly generated versions that interned versions behave exactly like freshly parsed ones, and that both
+ * order like a plain comparison of their parts as BigIntegers.
+ */
+class MigrationVersionTest {
+    private static final int VERSIONS = 2000;
+
+    @Test
+    void internedVersionsMatchFreshlyParsedOnes() {
+        List<String> versions = randomVersions(new Random(42));
+        for (String version : versions) {
+            MigrationVersion interned = MigrationVersion.fromVersion(version);
+            MigrationVersion fresh = MigrationVersion.parse(version);
+
+            assertSame(interned, MigrationVersion.fromVersion(version), version);
+            assertEquals(fresh, interned, version);
+            assertEquals(interned, fresh, version);
+            assertEquals(fresh.hashCode(), interned.hashCode(), version);
+            assertEquals(0, interned.compareTo(fresh), version);
+            assertEquals(fresh.toString(), interned.toString(), version);
+            assertEquals(fresh.getVersion(), interned.getVersion(), version);
+        }
+    }
+
+    @Test
+    void equalsHashCodeAndCompareToAreConsistent() {
+        List<String> versions = randomVersions(new Random(4242));
+        for (int i = 0; i < versions.size(); i++) {
+            String version1 = versions.get(i);
+            String version2 = versions.get((i * 31 + 7) % versions.size());
+            MigrationVersion interned1 = MigrationVersion.fromVersion(version1);
+            MigrationVersion interned2 = MigrationVersion.fromVersion(version2);
+            MigrationVersion fresh1 = MigrationVersion.parse(version1);
+            MigrationVersion fresh2 = MigrationVersion.parse(version2);
+            String pair = version1 + " <> " + version2;
+
+            int expected = Integer.signum(compareParts(version1, version2));
+            assertEquals(expected, Integer.signum(interned1.compareTo(interned2)), pair);
+            assertEquals(expected, Integer.signum(fresh1.compareTo(fresh2)), pair);
+            assertEquals(expected, Integer.signum(interned1.compareTo(fresh2)), pair);
+            assertEquals(-expected, Integer.signum(fresh2.compareTo(interned1)), pair);
+
+            assertEquals(expected == 0, interned1.equals(fresh2), pair);
+            assertEquals(expected == 0, fresh1.equals(interned2), pair);
+            if (expected == 0) {
+                assertEquals(interned1.hashCode(), fresh2.hashCode(), pair);
+            }
+        }
+    }
+
+    @Test
+    void spellingsOfTheSameVersionAreEqual() {
+        assertEquals(MigrationVersion.fromVersion("1.2"), MigrationVersion.fromVersion("1_2"));
+        assertEquals(MigrationVersion.fromVersion("1.2"), MigrationVersion.fromVersion("1.2.0.0"));
+        assertEquals(MigrationVersion.fromVersion("1.2").hashCode(), MigrationVersion.fromVersion("001.02.0").hashCode());
+        assertEquals(MigrationVersion.fromVersion("99999999999999999999.0"), MigrationVersion.parse("99999999999999999999"));
+    }
+
+    /**
+     * Generates versions of one to five parts, mixing small numbers, leading and trailing zeros, both separators and
+     * parts which don't fit in a long, with plenty of duplicates and equal spellings.
+     */
+    private static List<String> randomVersions(Random random) {
+        List<String> versions = new ArrayList<>();
+        for (int i = 0; i < VERSIONS; i++) {
+            StringBuilder version = new StringBuilder();
+            int parts = 1 + random.nextInt(5);
+            for (int part = 0; part < parts; part++) {
+                if (part > 0) {
+                    version.append(random.nextInt(4) == 0 ? '_' : '.');
+                }
+                switch (random.nextInt(6)) {
+                    case 0:
+                        version.append('0');
+                        break;
+                    case 1:
+                        version.append("00").append(random.nextInt(10));
+                        break;
+                    case 2:
+                        // Long.MAX_VALUE itself is the version string of LATEST
+                        version.append(Long.MAX_VALUE - 1 - random.nextInt(3));
+                        break;
+                    case 3:
+                        version.append(new BigInteger(80, random));
+                        break;
+                    default:
+                        version.append(random.nextInt(4));
+                        break;
+                }
+            }
+            versions.add(version.toString());
+        }
+        return versions;
+    }
+
+    private static int compareParts(String version1, String version2) {
+        List<BigInteger> parts1 = parts(version1);
+        List<BigInteger> parts2 = parts(version2);
+        for (int i = 0; i < Math.max(parts1.size(), parts2.size()); i++) {
+            BigInteger part1 = i < parts1.size() ? parts1.get(i) : BigInteger.ZERO;
+            BigInteger part2 = i < parts2.size() ? parts2.get(i) : BigInteger.ZERO;
+            int compared = part1.compareTo(part2);
+            if (compared != 0) {
+                return compared;
+            }
+        }
+        return 0;
+    }
+
+    private static List<BigInteger> parts(String version) {
+        List<BigInteger> parts = new ArrayList<>();
+        for (String part : version.split("[._]")) {
+            parts.add(new BigInteger(part));
+        }
+        return parts;
+    }
+}
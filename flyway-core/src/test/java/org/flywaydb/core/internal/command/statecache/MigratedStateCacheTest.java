@@ -0,0 +1,187 @@
+/*-
+ * ========================LICENSE_START=================================
+ * flyway-core
+ * ========================================================================
+ * Copyright (C) 2010 - 2025 Red Gate Software Ltd
+ * ========================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+package org.flywaydb.core.internal.command.statecache;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.output.MigrateResult;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs clean and migrate repeatedly against embedded databases. The migrations record a random marker, so a restored
+ * snapshot can be told apart from migrations executed again: only a restored snapshot brings back the same marker.
+ */
+class MigratedStateCacheTest {
+    @TempDir
+    Path tempDir;
+
+    @ParameterizedTest
+    @ValueSource(strings = {"h2", "sqlite"})
+    void restoresTheSnapshotOfTheMigratedState(String database) throws Exception {
+        Path migrations = writeMigrations(database);
+        Flyway flyway = flyway(database, migrations, Map.of());
+
+        MigrateResult first = flyway.migrate();
+        String marker = readMarker(flyway);
+        assertEquals(2, first.migrationsExecuted);
+        assertEquals(1, snapshots().size());
+
+        flyway.clean();
+        MigrateResult restored = flyway.migrate();
+
+        assertTrue(restored.success);
+        assertEquals(2, restored.migrationsExecuted);
+        assertEquals("2", restored.targetSchemaVersion);
+        assertEquals(marker, readMarker(flyway));
+        assertEquals(2, flyway.info().applied().length);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"h2", "sqlite"})
+    void doesNotReuseTheSnapshotWhenTheConfigurationChanges(String database) throws Exception {
+        Path migrations = writeMigrations(database);
+        Flyway flyway = flyway(database, migrations, Map.of());
+        flyway.migrate();
+        String marker = readMarker(flyway);
+        flyway.clean();
+
+        Flyway reconfigured = flyway(database, migrations, Map.of("flyway.installedBy", "someone else"));
+        reconfigured.migrate();
+
+        assertNotEquals(marker, readMarker(reconfigured));
+        assertEquals(2, snapshots().size());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"h2", "sqlite"})
+    void doesNotReuseTheSnapshotWhenTheCallbacksChange(String database) throws Exception {
+        Path migrations = writeMigrations(database);
+        Flyway flyway = flyway(database, migrations, Map.of());
+        flyway.migrate();
+        String marker = readMarker(flyway);
+        flyway.clean();
+
+        Files.writeString(migrations.resolve("afterEachMigrate.sql"), "CREATE TABLE IF NOT EXISTS callback_marker (id INT);\n");
+        Flyway withCallback = flyway(database, migrations, Map.of());
+        withCallback.migrate();
+
+        assertNotEquals(marker, readMarker(withCallback));
+        assertEquals(2, snapshots().size());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"h2", "sqlite"})
+    void doesNotCacheWhenCallbacksRunBeforeTheMigrations(String database) throws Exception {
+        Path migrations = writeMigrations(database);
+        Files.writeString(migrations.resolve("beforeMigrate.sql"), "CREATE TABLE IF NOT EXISTS callback_marker (id INT);\n");
+        Flyway flyway = flyway(database, migrations, Map.of());
+
+        flyway.migrate();
+
+        assertEquals(0, snapshots().size());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"h2", "sqlite"})
+    void discardsACorruptedSnapshot(String database) throws Exception {
+        Path migrations = writeMigrations(database);
+        Flyway flyway = flyway(database, migrations, Map.of());
+        flyway.migrate();
+        String marker = readMarker(flyway);
+        flyway.clean();
+
+        Path snapshot = snapshots().get(0);
+        Files.write(snapshot, "-- tampered\n".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+        MigrateResult result = flyway.migrate();
+
+        assertTrue(result.success);
+        assertEquals(2, result.migrationsExecuted);
+        String executedMarker = readMarker(flyway);
+        assertNotEquals(marker, executedMarker);
+
+        // The corrupted snapshot was replaced by one of the state just migrated
+        flyway.clean();
+        flyway.migrate();
+        assertEquals(executedMarker, readMarker(flyway));
+    }
+
+    private Path writeMigrations(String database) throws IOException {
+        Path migrations = Files.createDirectories(tempDir.resolve("migrations"));
+        String random = "h2".equals(database) ? "CAST(RANDOM_UUID() AS VARCHAR(64))" : "lower(hex(randomblob(16)))";
+        Files.writeString(migrations.resolve("V1__create_marker.sql"), "CREATE TABLE marker (id VARCHAR(64));\n");
+        Files.writeString(migrations.resolve("V2__insert_marker.sql"), "INSERT INTO marker (id) VALUES (" + random + ");\n");
+        return migrations;
+    }
+
+    private Flyway flyway(String database, Path migrations, Map<String, String> properties) {
+        String url = "h2".equals(database)
+                ? "jdbc:h2:mem:state_cache_" + tempDir.getFileName() + ";DB_CLOSE_DELAY=-1"
+                : "jdbc:sqlite:" + tempDir.resolve("state_cache.db");
+        Map<String, String> configuration = new HashMap<>(properties);
+        configuration.put("flyway.stateCache.enabled", "true");
+        configuration.put("flyway.stateCache.directory", tempDir.resolve("cache").toString());
+        return Flyway.configure()
+                .configuration(configuration)
+                .dataSource(url, "", "")
+                .locations("filesystem:" + migrations)
+                .cleanDisabled(false)
+                .load();
+    }
+
+    private String readMarker(Flyway flyway) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(flyway.getConfiguration().getUrl(), "", "");
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT id FROM marker")) {
+            assertTrue(resultSet.next());
+            return resultSet.getString(1);
+        }
+    }
+
+    private List<Path> snapshots() throws IOException {
+        Path cache = tempDir.resolve("cache");
+        if (!Files.isDirectory(cache)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(cache)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(".snapshot")).collect(Collectors.toList());
+        }
+    }
+}
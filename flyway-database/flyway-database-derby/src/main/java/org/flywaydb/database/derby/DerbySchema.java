@@ -20,6 +20,7 @@
 package org.flywaydb.database.derby;
 
 import org.flywaydb.core.internal.jdbc.JdbcTemplate;
+import org.flywaydb.core.internal.jdbc.Row;
 import org.flywaydb.core.internal.database.base.Schema;
 import org.flywaydb.core.internal.database.base.Table;
 import org.flywaydb.core.internal.util.StringUtils;
@@ -27,7 +28,6 @@ import org.flywaydb.core.internal.util.StringUtils;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 
 /**
  * Derby implementation of Schema.
@@ -98,15 +98,15 @@ public class DerbySchema extends Schema<DerbyDatabase, DerbyTable> {
      * @throws SQLException when the statements could not be generated.
      */
     private List<String> generateDropStatementsForConstraints() throws SQLException {
-        List<Map<String, String>> results = jdbcTemplate.queryForList("SELECT c.constraintname, t.tablename FROM sys.sysconstraints c" +
+        List<Row> results = jdbcTemplate.queryForRows("SELECT c.constraintname, t.tablename FROM sys.sysconstraints c" +
                                                                               " INNER JOIN sys.systables t ON c.tableid = t.tableid" +
                                                                               " INNER JOIN sys.sysschemas s ON c.schemaid = s.schemaid" +
                                                                               " WHERE c.type = 'F' AND s.schemaname = ?", name);
 
         List<String> statements = new ArrayList<>();
-        for (Map<String, String> result : results) {
-            String dropStatement = "ALTER TABLE " + database.quote(name, result.get("TABLENAME"))
-                    + " DROP CONSTRAINT " + database.quote(result.get("CONSTRAINTNAME"));
+        for (Row result : results) {
+            String dropStatement = "ALTER TABLE " + database.quote(name, result.get(1))
+                    + " DROP CONSTRAINT " + database.quote(result.get(0));
 
             statements.add(dropStatement);
         }
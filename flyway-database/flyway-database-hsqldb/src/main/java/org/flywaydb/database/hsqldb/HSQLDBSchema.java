@@ -63,6 +63,27 @@ public class HSQLDBSchema extends Schema<HSQLDBDatabase, HSQLDBTable> {
         jdbcTemplate.execute("DROP SCHEMA " + database.quote(name) + " CASCADE");
     }
 
+    @Override
+    protected List<String> getRecreateStatements() throws SQLException {
+        // The default schema is emptied rather than dropped, and the system schemas can't be dropped at all
+        if ("PUBLIC".equals(name) || "INFORMATION_SCHEMA".equals(name) || name.startsWith("SYSTEM_")) {
+            return null;
+        }
+
+        String owner = jdbcTemplate.queryForString(
+                "SELECT SCHEMA_OWNER FROM INFORMATION_SCHEMA.SCHEMATA WHERE SCHEMA_NAME = ?", name);
+        if (owner == null) {
+            return null;
+        }
+
+        List<String> statements = new ArrayList<>();
+        statements.add("CREATE SCHEMA " + database.quote(name) + " AUTHORIZATION " + database.quote(owner));
+        if (name.equals(jdbcTemplate.getConnection().getSchema())) {
+            statements.add("SET SCHEMA " + database.quote(name));
+        }
+        return statements;
+    }
+
     @Override
     protected void doClean() throws SQLException {
         for (Table table : allTables()) {
@@ -76,6 +76,12 @@ public class MongoDBJdbcTemplate extends JdbcTemplate {
         return connection.prepareStatement(statementString);
     }
 
+    @Override
+    public void updateReusingStatement(String sql, Object... params) throws SQLException {
+        // The parameters are inlined into the statement itself, so it can't be reused
+        update(sql, params);
+    }
+
     @Override
     public <T> List<T> query(String sql, RowMapper<T> rowMapper, Object... params) throws SQLException {
         PreparedStatement statement = null;
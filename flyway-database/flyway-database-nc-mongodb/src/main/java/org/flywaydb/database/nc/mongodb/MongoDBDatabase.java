@@ -28,8 +28,6 @@ import com.mongodb.client.MongoClients;
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoDatabase;
 import com.mongodb.client.model.Updates;
-import java.io.InputStreamReader;
-import java.nio.charset.StandardCharsets;
 import java.sql.Timestamp;
 import java.time.Instant;
 import java.time.LocalDateTime;
@@ -41,7 +39,6 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Objects;
 import java.util.function.BiFunction;
-import java.util.concurrent.TimeUnit;
 import org.bson.BsonDocument;
 import org.bson.Document;
 import org.bson.conversions.Bson;
@@ -60,15 +57,16 @@ import org.flywaydb.core.internal.parser.Parser;
 import org.flywaydb.core.internal.parser.ParsingContext;
 import org.flywaydb.core.internal.util.AsciiTable;
 import org.flywaydb.core.internal.util.DockerUtils;
-import org.flywaydb.core.internal.util.FileUtils;
 import org.flywaydb.core.internal.util.FlywayDbWebsiteLinks;
 import org.flywaydb.nc.executors.NonJdbcExecutorExecutionUnit;
 
 public class MongoDBDatabase extends AbstractExperimentalDatabase <NonJdbcExecutorExecutionUnit> {
+    private static final String MONGOSH_EXECUTABLE = "mongosh";
     private MongoClient mongoClient;
     private MongoDatabase mongoDatabase;
     private String schemaHistoryTableName = null;
     private MongoshCredential mongoshCredential = null;
+    private MongoshSession mongoshSession = null;
     private ClientSession clientSession;
     private Boolean doesSchemaHistoryTableExist;
 
@@ -281,7 +279,10 @@ public class MongoDBDatabase extends AbstractExperimentalDatabase <NonJdbcExecut
 
     @Override
     public void close() throws Exception {
-
+        if (mongoshSession != null) {
+            mongoshSession.close();
+            mongoshSession = null;
+        }
     }
 
     @Override
@@ -405,43 +406,23 @@ public class MongoDBDatabase extends AbstractExperimentalDatabase <NonJdbcExecut
     }
 
     private void doExecuteWithMongosh(final String executionUnit, final boolean outputQueryResults) {
-        final List<String> commands = new ArrayList<>(List.of("mongosh", mongoshCredential.url()));
-        if (mongoshCredential.username() != null) {
-            commands.addAll(List.of("--username", mongoshCredential.username()));
-        }
-        if (mongoshCredential.password() != null) {
-            commands.addAll(List.of("--password", mongoshCredential.password()));
-        }
-        commands.addAll(List.of("--eval", executionUnit));
-
-        final var processBuilder = new ProcessBuilder(commands);
-        /* Required to stop system-stubs throwing Exception */
-        processBuilder.environment();
-
-        try {
-            LOG.debug("Executing mongosh");
-            final Process process = processBuilder.start();
-            final boolean exited = process.waitFor(5, TimeUnit.MINUTES);
-            if (!exited) {
-                throw new FlywayException("Mongosh execution timeout. Consider using smaller migrations");
-            }
-            final int exitCode = process.exitValue();
-
-            if (exitCode != 0) {
-                final String stdErr = FileUtils.copyToString(new InputStreamReader(process.getErrorStream(),
-                    StandardCharsets.UTF_8)).strip();
-                throw new FlywayException(stdErr + " (ExitCode: " + exitCode + ")");
+        if (!MongoshSession.canIsolate(executionUnit)) {
+            // Shell commands like use change the state of the whole session, so the script gets a process of its own
+            LOG.debug("Executing mongosh in a separate process");
+            try (final MongoshSession session = new MongoshSession(MONGOSH_EXECUTABLE, mongoshCredential)) {
+                session.execute(executionUnit, outputQueryResults);
             }
-        } catch (Exception e) {
-            if (e.getMessage().contains("The filename or extension is too long")) {
-                throw new FlywayException("Mongosh execution failed. Consider using smaller migrations");
-            }
-            throw new FlywayException(e);
+            return;
+        }
+        if (mongoshSession == null || !mongoshSession.isAlive()) {
+            mongoshSession = new MongoshSession(MONGOSH_EXECUTABLE, mongoshCredential);
         }
+        LOG.debug("Executing mongosh");
+        mongoshSession.execute(executionUnit, outputQueryResults);
     }
 
     private void checkMongoshInstalled() {
-        List<String> commands = Arrays.asList("mongosh", "--version");
+        List<String> commands = Arrays.asList(MONGOSH_EXECUTABLE, "--version");
         LOG.debug("Executing " + String.join(" ", commands));
         final ProcessBuilder processBuilder = new ProcessBuilder(commands);
         processBuilder.environment();
@@ -0,0 +1,317 @@
+/*-
+ * ========================LICENSE_START=================================
+ * flyway-database-nc-mongodb
+ * ========================================================================
+ * Copyright (C) 2010 - 2025 Red Gate Software Ltd
+ * ========================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+package org.flywaydb.database.nc.mongodb;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+import lombok.CustomLog;
+import org.flywaydb.core.api.FlywayException;
+
+/**
+ * A long-lived mongosh process which executes all scripts of a run, saving the process start-up for every migration.
+ * <p>
+ * The protocol is line based: for each script a single command is written to the process' stdin, which loads the
+ * script and then prints a completion marker to stdout, followed by either {@code OK} or {@code ERROR} and the error
+ * message. Everything the script prints before the marker is its own output. stderr is captured in the background and
+ * reported when a script fails.
+ * <p>
+ * Scripts are handed over as temporary files loaded with {@code load()}, as this keeps mongosh's handling of
+ * multi-line and asynchronous code identical to a standalone script run and isn't subject to command-line length
+ * limits.
+ * <p>
+ * Each script runs as if it had a process of its own: {@code db} is reset to the database the session was started
+ * with, the script is wrapped in a block so its top-level {@code let}, {@code const} and {@code class} declarations
+ * stay local to it, and globals it added or overwrote are removed or restored once it completes. Scripts using shell
+ * commands such as {@code use}, whose effect can't be undone this way, must be run in a session of their own, see
+ * {@link #canIsolate(String)}.
+ */
+@CustomLog
+class MongoshSession implements AutoCloseable {
+    private static final long SCRIPT_TIMEOUT_MINUTES = 5;
+    private static final long EXIT_TIMEOUT_SECONDS = 10;
+    private static final int MAX_STDERR_LENGTH = 64 * 1024;
+    /**
+     * Queued once stdout is closed. Compared by identity, so it can't be confused with an actual line.
+     */
+    private static final String END_OF_OUTPUT = new String("<< End of Output >>");
+    /**
+     * Shell commands which change the state of the session rather than being JavaScript.
+     */
+    private static final Pattern SHELL_COMMAND = Pattern.compile("^\\s*(use|show)\\s+[\\w$.-]+\\s*;?\\s*$",
+        Pattern.MULTILINE);
+    /**
+     * Restores the globals recorded in {@code __flyway_globals} before the script ran: globals it added are removed
+     * (or cleared if they can't be deleted, like those declared with {@code var}) and writable ones it overwrote get
+     * their previous value back.
+     */
+    private static final String RESTORE_GLOBALS = "for (const n of Object.getOwnPropertyNames(globalThis)) { "
+        + "const d = __flyway_globals.get(n); "
+        + "if (d === undefined) { if (!delete globalThis[n]) { globalThis[n] = undefined; } } "
+        + "else if ('value' in d && d.writable && globalThis[n] !== d.value) { globalThis[n] = d.value; } }";
+
+    private final Process process;
+    private final BufferedWriter stdin;
+    private final BlockingQueue<String> stdout = new LinkedBlockingQueue<>();
+    private final StringBuilder stderr = new StringBuilder();
+    private final String markerPrefix = "__flyway_";
+    private final String markerSuffix = UUID.randomUUID().toString().replace("-", "") + "__";
+    private final String marker = markerPrefix + markerSuffix;
+    private boolean alive = true;
+
+    /**
+     * @param executable The mongosh executable to start.
+     * @param mongoshCredential The connection details.
+     */
+    MongoshSession(final String executable, final MongoshCredential mongoshCredential) {
+        final List<String> commands = new ArrayList<>(List.of(executable, mongoshCredential.url(), "--quiet"));
+        if (mongoshCredential.username() != null) {
+            commands.addAll(List.of("--username", mongoshCredential.username()));
+        }
+        if (mongoshCredential.password() != null) {
+            commands.addAll(List.of("--password", mongoshCredential.password()));
+        }
+
+        final var processBuilder = new ProcessBuilder(commands);
+        /* Required to stop system-stubs throwing Exception */
+        processBuilder.environment();
+
+        try {
+            LOG.debug("Starting mongosh session");
+            process = processBuilder.start();
+        } catch (final IOException e) {
+            throw new FlywayException("Unable to start mongosh: " + e.getMessage(), e);
+        }
+        stdin = new BufferedWriter(new OutputStreamWriter(process.getOutputStream(), StandardCharsets.UTF_8));
+
+        startReader("mongosh-stdout", process.getInputStream(), stdout::add, () -> stdout.add(END_OF_OUTPUT));
+        startReader("mongosh-stderr", process.getErrorStream(), this::appendStderr, () -> {});
+    }
+
+    /**
+     * Whether this script can run in a session shared with other scripts without affecting them.
+     *
+     * @param script The script.
+     * @return {@code true} if it can be isolated, {@code false} if it must run in a session of its own.
+     */
+    static boolean canIsolate(final String script) {
+        return !SHELL_COMMAND.matcher(script).find();
+    }
+
+    boolean isAlive() {
+        return alive && process.isAlive();
+    }
+
+    /**
+     * Executes this script and waits for it to complete.
+     *
+     * @param script The script to execute.
+     * @param outputQueryResults Whether the output of the script should be logged at info rather than debug level.
+     */
+    void execute(final String script, final boolean outputQueryResults) {
+        Path scriptFile = null;
+        try {
+            final boolean isolate = canIsolate(script);
+            scriptFile = Files.createTempFile("flyway-mongosh-", ".js");
+            // The line breaks keep a trailing line comment from swallowing the closing brace
+            Files.writeString(scriptFile, isolate ? "{\n" + script + "\n}\n" : script, StandardCharsets.UTF_8);
+
+            clearStderr();
+            // The marker is split so that an echo of the command itself can never be mistaken for it
+            final String printMarker = "print(" + toJsString(markerPrefix) + " + " + toJsString(markerSuffix);
+            final String load = "load(" + toJsString(scriptFile.toAbsolutePath().toString()) + ");";
+            send("try { "
+                + (isolate ? "const __flyway_session = globalThis.__flyway_session ??= { database: db.getName() }; "
+                    + "db = db.getSiblingDB(__flyway_session.database); "
+                    + "const __flyway_globals = new Map(Object.getOwnPropertyNames(globalThis)"
+                    + ".map(n => [n, Object.getOwnPropertyDescriptor(globalThis, n)])); "
+                    + "try { " + load + " } finally { " + RESTORE_GLOBALS + " } "
+                    : load + " ")
+                + printMarker + " + \" OK\"); } catch (e) { "
+                + printMarker + " + \" ERROR \" + e); }");
+
+            awaitCompletion(outputQueryResults);
+        } catch (final IOException e) {
+            alive = false;
+            throw new FlywayException("Mongosh execution failed: " + e.getMessage() + getStderrSuffix(), e);
+        } finally {
+            if (scriptFile != null) {
+                try {
+                    Files.deleteIfExists(scriptFile);
+                } catch (final IOException e) {
+                    LOG.debug("Unable to delete temporary mongosh script " + scriptFile + ": " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    private void awaitCompletion(final boolean outputQueryResults) {
+        final long deadline = System.nanoTime() + TimeUnit.MINUTES.toNanos(SCRIPT_TIMEOUT_MINUTES);
+        while (true) {
+            final String line;
+            try {
+                line = stdout.poll(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                close();
+                throw new FlywayException("Interrupted while waiting for mongosh", e);
+            }
+
+            if (line == null) {
+                close();
+                throw new FlywayException("Mongosh execution timeout. Consider using smaller migrations");
+            }
+
+            if (line == END_OF_OUTPUT) {
+                alive = false;
+                throw new FlywayException(getStderr() + " (ExitCode: " + waitForExitCode() + ")");
+            }
+
+            final int markerIndex = line.indexOf(marker);
+            if (markerIndex >= 0) {
+                final String status = line.substring(markerIndex + marker.length()).strip();
+                if ("OK".equals(status)) {
+                    return;
+                }
+                final String error = status.startsWith("ERROR") ? status.substring("ERROR".length()).strip() : status;
+                throw new FlywayException((getStderr() + "\n" + error).strip());
+            }
+
+            if (outputQueryResults) {
+                LOG.info(line);
+            } else {
+                LOG.debug(line);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        if (!alive) {
+            return;
+        }
+        alive = false;
+        try {
+            send("exit");
+            stdin.close();
+        } catch (final IOException ignored) {
+            // The process has already gone away
+        }
+        try {
+            if (!process.waitFor(EXIT_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            process.destroyForcibly();
+        }
+    }
+
+    private void send(final String command) throws IOException {
+        stdin.write(command);
+        stdin.newLine();
+        stdin.flush();
+    }
+
+    private int waitForExitCode() {
+        try {
+            if (process.waitFor(EXIT_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                return process.exitValue();
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        process.destroyForcibly();
+        return -1;
+    }
+
+    private void appendStderr(final String line) {
+        synchronized (stderr) {
+            if (stderr.length() + line.length() < MAX_STDERR_LENGTH) {
+                stderr.append(line).append('\n');
+            }
+        }
+    }
+
+    private void clearStderr() {
+        synchronized (stderr) {
+            stderr.setLength(0);
+        }
+    }
+
+    private String getStderr() {
+        synchronized (stderr) {
+            return stderr.toString().strip();
+        }
+    }
+
+    private String getStderrSuffix() {
+        final String error = getStderr();
+        return error.isEmpty() ? "" : "\n" + error;
+    }
+
+    private static void startReader(final String name, final InputStream inputStream, final Consumer<String> lineConsumer,
+        final Runnable onEnd) {
+        final Thread thread = new Thread(() -> {
+            try (final BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream,
+                StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    lineConsumer.accept(line);
+                }
+            } catch (final IOException e) {
+                LOG.debug("Stopped reading " + name + ": " + e.getMessage());
+            } finally {
+                onEnd.run();
+            }
+        }, name);
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private static String toJsString(final String value) {
+        final StringBuilder result = new StringBuilder(value.length() + 2).append('"');
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                result.append('\\').append(c);
+            } else if (c < 0x20 || c == '\u2028' || c == '\u2029') {
+                result.append(String.format("\\u%04x", (int) c));
+            } else {
+                result.append(c);
+            }
+        }
+        return result.append('"').toString();
+    }
+}
@@ -0,0 +1,147 @@
+/*-
+ * ========================LICENSE_START=================================
+ * flyway-database-nc-mongodb
+ * ========================================================================
+ * Copyright (C) 2010 - 2025 Red Gate Software Ltd
+ * ========================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+package org.flywaydb.database.nc.mongodb;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.List;
+import org.flywaydb.core.api.FlywayException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Runs sessions against a stub executable speaking mongosh's side of the protocol. The stub takes the path of a log
+ * file in place of the connection url, logs each start of the process and the {@code name:} of each script it loads,
+ * prints its {@code out:} lines, fails with the message of its {@code fail:} line and exits with the code of its
+ * {@code quit:} line.
+ */
+@DisabledOnOs(OS.WINDOWS)
+class MongoshSessionTest {
+    private static final String STUB = String.join("\n",
+        "#!/bin/sh",
+        "log=\"$1\"",
+        "echo start >> \"$log\"",
+        "while IFS= read -r command; do",
+        "  if [ \"$command\" = exit ]; then exit 0; fi",
+        "  file=$(printf '%s\\n' \"$command\" | sed -n 's/.*load(\"\\([^\"]*\\)\").*/\\1/p')",
+        "  marker=$(printf '%s\\n' \"$command\" | sed -n 's/.*print(\"\\(__flyway_\\)\" + \"\\([0-9a-f]*__\\)\".*/\\1\\2/p')",
+        "  case \"$command\" in *getSiblingDB*) mode=isolated ;; *) mode=plain ;; esac",
+        "  error=",
+        "  while IFS= read -r line; do",
+        "    case \"$line\" in",
+        "      name:*) echo \"$mode ${line#name:}\" >> \"$log\" ;;",
+        "      out:*) echo \"${line#out:}\" ;;",
+        "      fail:*) error=\"${line#fail:}\" ;;",
+        "      quit:*) exit \"${line#quit:}\" ;;",
+        "    esac",
+        "  done < \"$file\"",
+        "  if [ -n \"$error\" ]; then echo \"$marker ERROR Error: $error\"; else echo \"$marker OK\"; fi",
+        "done",
+        "");
+
+    @TempDir
+    Path tempDir;
+
+    private String executable;
+    private Path log;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        final Path stub = tempDir.resolve("mongosh-stub");
+        Files.writeString(stub, STUB, StandardCharsets.UTF_8);
+        Files.setPosixFilePermissions(stub, PosixFilePermissions.fromString("rwx------"));
+        executable = stub.toString();
+        log = tempDir.resolve("mongosh.log");
+    }
+
+    @Test
+    void executesScriptsInOrderInASingleProcess() throws IOException {
+        try (final MongoshSession session = start()) {
+            session.execute("name:V1\nout:first\n", false);
+            session.execute("name:V2\nout:__flyway_ but not the marker\n", false);
+            session.execute("name:V3\n", true);
+            assertTrue(session.isAlive());
+        }
+
+        assertEquals(List.of("start", "isolated V1", "isolated V2", "isolated V3"), readLog());
+    }
+
+    @Test
+    void reportsFailuresAndKeepsTheSession() throws IOException {
+        try (final MongoshSession session = start()) {
+            session.execute("name:V1\n", false);
+            final FlywayException e = assertThrows(FlywayException.class,
+                () -> session.execute("name:V2\nfail:boom\n", false));
+            assertTrue(e.getMessage().contains("Error: boom"), e.getMessage());
+
+            assertTrue(session.isAlive());
+            session.execute("name:V3\n", false);
+        }
+
+        assertEquals(List.of("start", "isolated V1", "isolated V2", "isolated V3"), readLog());
+    }
+
+    @Test
+    void reportsTheExitOfTheProcess() {
+        try (final MongoshSession session = start()) {
+            final FlywayException e = assertThrows(FlywayException.class,
+                () -> session.execute("name:V1\nquit:3\n", false));
+            assertTrue(e.getMessage().contains("(ExitCode: 3)"), e.getMessage());
+            assertFalse(session.isAlive());
+        }
+    }
+
+    @Test
+    void loadsScriptsWithShellCommandsWithoutIsolation() throws IOException {
+        try (final MongoshSession session = start()) {
+            session.execute("name:V1\nuse other\n", false);
+        }
+
+        assertEquals(List.of("start", "plain V1"), readLog());
+    }
+
+    @Test
+    void detectsShellCommands() {
+        assertFalse(MongoshSession.canIsolate("use other"));
+        assertFalse(MongoshSession.canIsolate("db.a.drop();\n  show collections;\n"));
+        assertTrue(MongoshSession.canIsolate("db.getSiblingDB('other').a.drop();"));
+        assertTrue(MongoshSession.canIsolate("const use = 1;\nlet show = use + 1;"));
+        assertTrue(MongoshSession.canIsolate("'use strict';"));
+    }
+
+    private MongoshSession start() {
+        return new MongoshSession(executable, new MongoshCredential(log.toString(), null, null));
+    }
+
+    private List<String> readLog() throws IOException {
+        return Files.readAllLines(log, StandardCharsets.UTF_8);
+    }
+}
@@ -30,12 +30,14 @@ public class OracleConfigurationExtension implements ConfigurationExtension {
     private static final String ORACLE_SQLPLUS_CONNECTION_IDENTIFIER = "flyway.oracle.sqlplusConnectionIdentifier";
     private static final String ORACLE_KERBEROS_CACHE_FILE = "flyway.oracle.kerberosCacheFile";
     private static final String ORACLE_WALLET_LOCATION = "flyway.oracle.walletLocation";
+    private static final String ORACLE_CLEAN_BULK_DROP = "flyway.oracle.cleanBulkDrop";
 
     private Boolean sqlplus = false;
     private Boolean sqlplusWarn = false;
     private String kerberosCacheFile;
     private String walletLocation;
     private String sqlplusConnectionIdentifier;
+    private Boolean cleanBulkDrop = false;
 
 
     @Override
@@ -56,6 +58,8 @@ public class OracleConfigurationExtension implements ConfigurationExtension {
                 return ORACLE_WALLET_LOCATION;
             case "FLYWAY_ORACLE_SQLPLUS_CONNECTION_IDENTIFIER":
                 return ORACLE_SQLPLUS_CONNECTION_IDENTIFIER;
+            case "FLYWAY_ORACLE_CLEAN_BULK_DROP":
+                return ORACLE_CLEAN_BULK_DROP;
             default:
                 return null;
         }
@@ -248,6 +248,17 @@ public class OracleDatabase extends Database<OracleConnection> {
         return isDataDictViewAccessible("MDSYS", "ALL_SDO_GEOM_METADATA");
     }
 
+    /**
+     * Checks whether clean should drop the objects of each type through a single server-side PL/SQL block instead of
+     * one statement per object.
+     *
+     * @return {@code true} if bulk drop is enabled, {@code false} if not.
+     */
+    boolean isCleanBulkDropEnabled() {
+        OracleConfigurationExtension configurationExtension = configuration.getPluginRegister().getPlugin(OracleConfigurationExtension.class);
+        return configurationExtension != null && Boolean.TRUE.equals(configurationExtension.getCleanBulkDrop());
+    }
+
     /**
      * Returns the list of schemas that were created and are maintained by Oracle-supplied scripts and must not be
      * changed in any other way. The list is composed of default schemas mentioned in the official documentation for
@@ -335,7 +335,7 @@ public class OracleSchema extends Schema<OracleDatabase, OracleTable> {
         // Tables, including XML tables, except for nested tables, IOT overflow tables and other secondary objects.
         TABLE("TABLE", "CASCADE CONSTRAINTS PURGE") {
             @Override
-            public List<String> getObjectNames(JdbcTemplate jdbcTemplate, OracleDatabase database, OracleSchema schema) throws SQLException {
+            public String getObjectNamesQuery(JdbcTemplate jdbcTemplate, OracleDatabase database, OracleSchema schema) throws SQLException {
                 boolean referencePartitionedTablesExist = database.queryReturnsRows(
                         "SELECT * FROM ALL_PART_TABLES WHERE OWNER = ? AND PARTITIONING_TYPE = 'REFERENCE'",
                         schema.getName());
@@ -386,22 +386,15 @@ public class OracleSchema extends Schema<OracleDatabase, OracleTable> {
                                                "ORDER BY LEVEL DESC");
                 }
 
-                int n = 1 + (xmlDbAvailable ? 1 : 0);
-                String[] params = new String[n];
-                Arrays.fill(params, schema.getName());
-
-                return jdbcTemplate.queryForStringList(tablesQuery.toString(), params);
+                return tablesQuery.toString();
             }
         },
 
         // Queue tables, have related objects and should be dropped separately prior to other types.
         QUEUE_TABLE("QUEUE TABLE") {
             @Override
-            public List<String> getObjectNames(JdbcTemplate jdbcTemplate, OracleDatabase database, OracleSchema schema) throws SQLException {
-                return jdbcTemplate.queryForStringList(
-                        "SELECT QUEUE_TABLE FROM ALL_QUEUE_TABLES WHERE OWNER = ?",
-                        schema.getName()
-                                                      );
+            public String getObjectNamesQuery(JdbcTemplate jdbcTemplate, OracleDatabase database, OracleSchema schema) throws SQLException {
+                return "SELECT QUEUE_TABLE FROM ALL_QUEUE_TABLES WHERE OWNER = ?";
             }
 
             @Override
@@ -413,11 +406,8 @@ public class OracleSchema extends Schema<OracleDatabase, OracleTable> {
         // Materialized view logs.
         MATERIALIZED_VIEW_LOG("MATERIALIZED VIEW LOG") {
             @Override
-            public List<String> getObjectNames(JdbcTemplate jdbcTemplate, OracleDatabase database, OracleSchema schema) throws SQLException {
-                return jdbcTemplate.queryForStringList(
-                        "SELECT MASTER FROM ALL_MVIEW_LOGS WHERE LOG_OWNER = ?",
-                        schema.getName()
-                                                      );
+            public String getObjectNamesQuery(JdbcTemplate jdbcTemplate, OracleDatabase database, OracleSchema schema) throws SQLException {
+                return "SELECT MASTER FROM ALL_MVIEW_LOGS WHERE LOG_OWNER = ?";
             }
 
             @Override
@@ -429,24 +419,18 @@ public class OracleSchema extends Schema<OracleDatabase, OracleTable> {
         // All indexes, except for domain indexes, should be dropped after tables (if any left).
         INDEX("INDEX") {
             @Override
-            public List<String> getObjectNames(JdbcTemplate jdbcTemplate, OracleDatabase database, OracleSchema schema) throws SQLException {
-                return jdbcTemplate.queryForStringList(
-                        "SELECT INDEX_NAME FROM ALL_INDEXES WHERE OWNER = ?" +
-                                //" AND INDEX_NAME NOT LIKE 'SYS_C%'"+
-                                " AND INDEX_TYPE NOT LIKE '%DOMAIN%'",
-                        schema.getName()
-                                                      );
+            public String getObjectNamesQuery(JdbcTemplate jdbcTemplate, OracleDatabase database, OracleSchema schema) throws SQLException {
+                return "SELECT INDEX_NAME FROM ALL_INDEXES WHERE OWNER = ?" +
+                        //" AND INDEX_NAME NOT LIKE 'SYS_C%'"+
+                        " AND INDEX_TYPE NOT LIKE '%DOMAIN%'";
             }
         },
 
         // Domain indexes, have related objects and should be dropped separately prior to tables.
         DOMAIN_INDEX("INDEX", "FORCE") {
             @Override
-            public List<String> getObjectNames(JdbcTemplate jdbcTemplate, OracleDatabase database, OracleSchema schema) throws SQLException {
-                return jdbcTemplate.queryForStringList(
-                        "SELECT INDEX_NAME FROM ALL_INDEXES WHERE OWNER = ? AND INDEX_TYPE LIKE '%DOMAIN%'",
-                        schema.getName()
-                                                      );
+            public String getObjectNamesQuery(JdbcTemplate jdbcTemplate, OracleDatabase database, OracleSchema schema) throws SQLException {
+                return "SELECT INDEX_NAME FROM ALL_INDEXES WHERE OWNER = ? AND INDEX_TYPE LIKE '%DOMAIN%'";
             }
         },
 
@@ -468,11 +452,8 @@ public class OracleSchema extends Schema<OracleDatabase, OracleTable> {
         // Dimensions.
         DIMENSION("DIMENSION") {
             @Override
-            public List<String> getObjectNames(JdbcTemplate jdbcTemplate, OracleDatabase database, OracleSchema schema) throws SQLException {
-                return jdbcTemplate.queryForStringList(
-                        "SELECT DIMENSION_NAME FROM ALL_DIMENSIONS WHERE OWNER = ?",
-                        schema.getName()
-                                                      );
+            public String getObjectNamesQuery(JdbcTemplate jdbcTemplate, OracleDatabase database, OracleSchema schema) throws SQLException {
+                return "SELECT DIMENSION_NAME FROM ALL_DIMENSIONS WHERE OWNER = ?";
             }
         },
 
@@ -491,11 +472,8 @@ public class OracleSchema extends Schema<OracleDatabase, OracleTable> {
         // Contexts, seen in DBA_CONTEXT view, may remain if DBA_CONTEXT is not accessible.
         CONTEXT("CONTEXT") {
             @Override
-            public List<String> getObjectNames(JdbcTemplate jdbcTemplate, OracleDatabase database, OracleSchema schema) throws SQLException {
-                return jdbcTemplate.queryForStringList(
-                        "SELECT NAMESPACE FROM " + database.dbaOrAll("CONTEXT") + " WHERE SCHEMA = ?",
-                        schema.getName()
-                                                      );
+            public String getObjectNamesQuery(JdbcTemplate jdbcTemplate, OracleDatabase database, OracleSchema schema) throws SQLException {
+                return "SELECT NAMESPACE FROM " + database.dbaOrAll("CONTEXT") + " WHERE SCHEMA = ?";
             }
 
             @Override
@@ -521,14 +499,11 @@ public class OracleSchema extends Schema<OracleDatabase, OracleTable> {
         // XML schemas.
         XML_SCHEMA("XML SCHEMA") {
             @Override
-            public List<String> getObjectNames(JdbcTemplate jdbcTemplate, OracleDatabase database, OracleSchema schema) throws SQLException {
+            public String getObjectNamesQuery(JdbcTemplate jdbcTemplate, OracleDatabase database, OracleSchema schema) throws SQLException {
                 if (!database.isXmlDbAvailable()) {
-                    return Collections.emptyList();
+                    return null;
                 }
-                return jdbcTemplate.queryForStringList(
-                        "SELECT QUAL_SCHEMA_URL FROM " + database.dbaOrAll("XML_SCHEMAS") + " WHERE OWNER = ?",
-                        schema.getName()
-                                                      );
+                return "SELECT QUAL_SCHEMA_URL FROM " + database.dbaOrAll("XML_SCHEMAS") + " WHERE OWNER = ?";
             }
 
             @Override
@@ -557,14 +532,14 @@ public class OracleSchema extends Schema<OracleDatabase, OracleTable> {
         // In Oracle 10g only user-owned models can be dropped.
         MINING_MODEL("MINING MODEL") {
             @Override
-            public List<String> getObjectNames(JdbcTemplate jdbcTemplate, OracleDatabase database, OracleSchema schema) throws SQLException {
+            public String getObjectNamesQuery(JdbcTemplate jdbcTemplate, OracleDatabase database, OracleSchema schema) throws SQLException {
                 if (database.getVersion().isAtLeast("11")) {
-                    return super.getObjectNames(jdbcTemplate, database, schema);
+                    return super.getObjectNamesQuery(jdbcTemplate, database, schema);
                 }
                 if (schema.isDefaultSchemaForUser() && database.isDataMiningAvailable()) {
-                    return jdbcTemplate.queryForStringList("SELECT NAME FROM DM_USER_MODELS");
+                    return "SELECT NAME FROM DM_USER_MODELS";
                 }
-                return Collections.emptyList();
+                return null;
             }
 
             @Override
@@ -646,11 +621,8 @@ public class OracleSchema extends Schema<OracleDatabase, OracleTable> {
             }
 
             @Override
-            public List<String> getObjectNames(JdbcTemplate jdbcTemplate, OracleDatabase database, OracleSchema schema) throws SQLException {
-                return jdbcTemplate.queryForStringList(
-                        "SELECT DB_LINK FROM " + database.dbaOrAll("DB_LINKS") + " WHERE OWNER = ?",
-                        schema.getName()
-                                                      );
+            public String getObjectNamesQuery(JdbcTemplate jdbcTemplate, OracleDatabase database, OracleSchema schema) throws SQLException {
+                return "SELECT DB_LINK FROM " + database.dbaOrAll("DB_LINKS") + " WHERE OWNER = ?";
             }
 
             @Override
@@ -746,6 +718,11 @@ public class OracleSchema extends Schema<OracleDatabase, OracleTable> {
         AGENT_DESTINATION("DESTINATION"),
         UNIFIED_AUDIT_POLICY("UNIFIED AUDIT POLICY");
 
+        /**
+         * Stands in for the object name when turning a drop statement into a server-side PL/SQL loop.
+         */
+        private static final String OBJECT_NAME_MARKER = "#FLYWAY_OBJECT_NAME#";
+
         /**
          * The name of the type as it mentioned in the Data Dictionary and the DROP statement.
          */
@@ -774,16 +751,28 @@ public class OracleSchema extends Schema<OracleDatabase, OracleTable> {
             return super.toString().replace('_', ' ');
         }
 
+        /**
+         * Returns the query selecting the object names of this type. Every parameter of the query is bound to the
+         * schema name.
+         *
+         * @return the query, or {@code null} if objects of this type cannot be retrieved for the schema.
+         * @throws SQLException if building the query failed.
+         */
+        public String getObjectNamesQuery(JdbcTemplate jdbcTemplate, OracleDatabase database, OracleSchema schema) throws SQLException {
+            return "SELECT DISTINCT OBJECT_NAME FROM ALL_OBJECTS WHERE OWNER = ? AND OBJECT_TYPE = '" + this.getName() + "'";
+        }
+
         /**
          * Returns the list of object names of this type.
          *
          * @throws SQLException if retrieving of objects failed.
          */
         public List<String> getObjectNames(JdbcTemplate jdbcTemplate, OracleDatabase database, OracleSchema schema) throws SQLException {
-            return jdbcTemplate.queryForStringList(
-                    "SELECT DISTINCT OBJECT_NAME FROM ALL_OBJECTS WHERE OWNER = ? AND OBJECT_TYPE = ?",
-                    schema.getName(), this.getName()
-                                                  );
+            String query = getObjectNamesQuery(jdbcTemplate, database, schema);
+            if (query == null) {
+                return Collections.emptyList();
+            }
+            return jdbcTemplate.queryForStringList(query, getObjectNamesQueryParams(query, schema));
         }
 
         /**
@@ -800,11 +789,65 @@ public class OracleSchema extends Schema<OracleDatabase, OracleTable> {
          * @throws SQLException if cleaning failed.
          */
         public void dropObjects(JdbcTemplate jdbcTemplate, OracleDatabase database, OracleSchema schema) throws SQLException {
+            if (database.isCleanBulkDropEnabled() && dropObjectsInBulk(jdbcTemplate, database, schema)) {
+                return;
+            }
             for (String objectName : getObjectNames(jdbcTemplate, database, schema)) {
                 jdbcTemplate.execute(generateDropStatement(jdbcTemplate, database, schema, objectName));
             }
         }
 
+        /**
+         * Drops all objects of this type in the specified schema with a single anonymous PL/SQL block which loops over
+         * the object names on the server and executes the same drop statement as {@link #generateDropStatement} for
+         * each of them, in the same order.
+         *
+         * @return {@code true} if the objects were dropped, {@code false} if the caller should fall back to dropping
+         * them one by one.
+         * @throws SQLException if building the block failed.
+         */
+        private boolean dropObjectsInBulk(JdbcTemplate jdbcTemplate, OracleDatabase database, OracleSchema schema) throws SQLException {
+            String query = getObjectNamesQuery(jdbcTemplate, database, schema);
+            if (query == null) {
+                return true;
+            }
+
+            String dropStatement = generateDropStatement(jdbcTemplate, database, schema, OBJECT_NAME_MARKER);
+            int markerIndex = dropStatement.indexOf(OBJECT_NAME_MARKER);
+            if (markerIndex < 0 || dropStatement.indexOf(OBJECT_NAME_MARKER, markerIndex + 1) >= 0) {
+                return false;
+            }
+            String dropPrefix = dropStatement.substring(0, markerIndex);
+            String dropSuffix = dropStatement.substring(markerIndex + OBJECT_NAME_MARKER.length());
+
+            String block = "DECLARE\n" +
+                    "  CURSOR c IS " + query + ";\n" +
+                    "  n VARCHAR2(4000);\n" +
+                    "BEGIN\n" +
+                    "  OPEN c;\n" +
+                    "  LOOP\n" +
+                    "    FETCH c INTO n;\n" +
+                    "    EXIT WHEN c%NOTFOUND;\n" +
+                    "    EXECUTE IMMEDIATE '" + dropPrefix.replace("'", "''") + "' || n || '" + dropSuffix.replace("'", "''") + "';\n" +
+                    "  END LOOP;\n" +
+                    "  CLOSE c;\n" +
+                    "END;";
+
+            try {
+                jdbcTemplate.execute(block, (Object[]) getObjectNamesQueryParams(query, schema));
+                return true;
+            } catch (SQLException e) {
+                LOG.debug("Unable to drop objects of type " + this + " in bulk, dropping them one by one: " + e.getMessage());
+                return false;
+            }
+        }
+
+        private static String[] getObjectNamesQueryParams(String query, OracleSchema schema) {
+            String[] params = new String[StringUtils.countOccurrencesOf(query, '?')];
+            Arrays.fill(params, schema.getName());
+            return params;
+        }
+
         private void warnUnsupported(String schemaName, String typeDesc) {
             LOG.warn("Unable to clean " + typeDesc + " for schema " + schemaName + ": unsupported operation");
         }
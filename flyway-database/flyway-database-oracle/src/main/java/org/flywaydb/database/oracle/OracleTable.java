@@ -54,4 +54,12 @@ public class OracleTable extends Table<OracleDatabase, OracleSchema> {
     protected void doLock() throws SQLException {
         jdbcTemplate.execute("LOCK TABLE " + this + " IN EXCLUSIVE MODE");
     }
+
+    @Override
+    protected String getLockAndUpdateStatement(String sql) {
+        return "BEGIN\n" +
+                "  LOCK TABLE " + this + " IN EXCLUSIVE MODE;\n" +
+                "  " + sql + ";\n" +
+                "END;";
+    }
 }
@@ -109,7 +109,7 @@ public class CockroachDBDatabaseType extends BaseDatabaseType {
     }
 
     @Override
-    public ExecutionTemplate createTransactionalExecutionTemplate(Connection connection, boolean rollbackOnException) {
+    public ExecutionTemplate createRestartableTransactionalExecutionTemplate(Connection connection, boolean rollbackOnException) {
         return new CockroachRetryingTransactionalExecutionTemplate(connection, rollbackOnException);
     }
 
@@ -24,6 +24,7 @@ import org.flywaydb.core.internal.database.DatabaseExecutionStrategy;
 import org.flywaydb.core.internal.util.SqlCallable;
 
 import java.sql.SQLException;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * CockroachDB recommend the use of retries should we see a SQL error code 40001, which represents a lock wait timeout.
@@ -33,6 +34,8 @@ import java.sql.SQLException;
 public class CockroachDBRetryingStrategy implements DatabaseExecutionStrategy {
     private static final String DEADLOCK_OR_TIMEOUT_ERROR_CODE = "40001";
     private static final int MAX_RETRIES = 50;
+    private static final long INITIAL_BACKOFF_MILLIS = 10;
+    private static final long MAX_BACKOFF_MILLIS = 5000;
 
     public <T> T execute(final SqlCallable<T> callable) throws SQLException {
         int retryCount = 0;
@@ -42,6 +45,7 @@ public class CockroachDBRetryingStrategy implements DatabaseExecutionStrategy {
             } catch (SQLException e) {
                 checkRetryOrThrow(e, retryCount);
                 retryCount++;
+                backOff(retryCount);
             }
         }
     }
@@ -49,8 +53,41 @@ public class CockroachDBRetryingStrategy implements DatabaseExecutionStrategy {
     void checkRetryOrThrow(SQLException e, int retryCount) throws SQLException {
         if (DEADLOCK_OR_TIMEOUT_ERROR_CODE.equals(e.getSQLState()) && retryCount < MAX_RETRIES) {
             LOG.info("Retrying because of deadlock or timeout: " + e.getMessage());
+            return;
         }
         // Exception is non-retryable
         throw e;
     }
+
+    /**
+     * @return Whether this exception, or one of its causes, is a retryable CockroachDB error.
+     */
+    static boolean isRetryable(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException && DEADLOCK_OR_TIMEOUT_ERROR_CODE.equals(((SQLException) cause).getSQLState())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static boolean canRetry(int retryCount) {
+        return retryCount < MAX_RETRIES;
+    }
+
+    /**
+     * Waits before the next attempt, exponentially longer after each retry up to a cap. The wait is randomized so that
+     * the conflicting transactions don't collide again right away.
+     *
+     * @param retryCount The number of the retry about to be made, starting at 1.
+     */
+    static void backOff(int retryCount) {
+        long ceiling = Math.min(MAX_BACKOFF_MILLIS, INITIAL_BACKOFF_MILLIS << Math.min(retryCount - 1, 20));
+        long millis = ceiling / 2 + ThreadLocalRandom.current().nextLong(ceiling / 2 + 1);
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
 }
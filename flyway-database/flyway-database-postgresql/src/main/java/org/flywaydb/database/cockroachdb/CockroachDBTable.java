@@ -101,6 +101,11 @@ public class CockroachDBTable extends Table<CockroachDBDatabase, CockroachDBSche
         }
     }
 
+    @Override
+    protected boolean hasExplicitUnlock() {
+        return true;
+    }
+
     @Override
     protected void doUnlock() throws SQLException {
         if (lockDepth == 1) {
@@ -20,21 +20,28 @@
 package org.flywaydb.database.cockroachdb;
 
 import lombok.CustomLog;
-import org.flywaydb.core.api.FlywayException;
+import org.flywaydb.core.internal.exception.FlywaySqlException;
 import org.flywaydb.core.internal.jdbc.TransactionalExecutionTemplate;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.concurrent.Callable;
 
 /**
  * Spring-like template for executing transactions. Cockroach always operates with transaction isolation
- * level SERIALIZABLE and needs a retrying pattern.
+ * level SERIALIZABLE and needs a retrying pattern. This follows the client-side retry protocol of CockroachDB: the
+ * transaction is restarted by rolling back to the {@code cockroach_restart} savepoint rather than by starting a new
+ * one, so it keeps its priority over the transactions it conflicted with. It is only used to apply groups of
+ * migrations, which undo what a restarted attempt recorded outside the transaction before applying the group again.
  */
 @CustomLog
 public class CockroachRetryingTransactionalExecutionTemplate extends TransactionalExecutionTemplate {
-    private static final String DEADLOCK_OR_TIMEOUT_ERROR_CODE = "40001";
-    private static final int MAX_RETRIES = 50;
+    private static final String RESTART_SAVEPOINT = "cockroach_restart";
+
+    private final Connection connection;
+
+    private int retryCount;
 
     /**
      * Creates a new transaction template for this connection.
@@ -44,6 +51,7 @@ public class CockroachRetryingTransactionalExecutionTemplate extends Transaction
      */
     CockroachRetryingTransactionalExecutionTemplate(Connection connection, boolean rollbackOnException) {
         super(connection, rollbackOnException);
+        this.connection = connection;
     }
 
     /**
@@ -54,22 +62,47 @@ public class CockroachRetryingTransactionalExecutionTemplate extends Transaction
      */
     @Override
     public <T> T execute(Callable<T> transactionCallback) {
-        // Similar in approach to the CockroachDBRetryingStrategy pattern
-        int retryCount = 0;
+        boolean startsTransaction;
+        try {
+            startsTransaction = connection.getAutoCommit();
+        } catch (SQLException e) {
+            throw new FlywaySqlException("Unable to determine the transaction state of the connection", e);
+        }
+        if (!startsTransaction) {
+            // The restart savepoint must open the transaction, so restarts are left to the template which started it
+            return super.execute(transactionCallback);
+        }
+        return super.execute(() -> executeWithRestarts(transactionCallback));
+    }
+
+    @Override
+    public int getRetryCount() {
+        return retryCount;
+    }
+
+    private <T> T executeWithRestarts(Callable<T> transactionCallback) throws Exception {
+        executeStatement("SAVEPOINT " + RESTART_SAVEPOINT);
         while (true) {
             try {
-                return transactionCallback.call();
-            } catch (SQLException e) {
-                if (!DEADLOCK_OR_TIMEOUT_ERROR_CODE.equals(e.getSQLState()) || retryCount >= MAX_RETRIES) {
-                    LOG.info("error: " + e);
-                    throw new FlywayException(e);
-                }
-            } catch (RuntimeException e) {
-                throw e;
+                T result = transactionCallback.call();
+                // Releasing the savepoint commits the transaction, so it may also fail with a retryable error
+                executeStatement("RELEASE SAVEPOINT " + RESTART_SAVEPOINT);
+                return result;
             } catch (Exception e) {
-                throw new FlywayException(e);
+                if (!CockroachDBRetryingStrategy.isRetryable(e) || !CockroachDBRetryingStrategy.canRetry(retryCount)) {
+                    throw e;
+                }
+                retryCount++;
+                LOG.info("Restarting transaction (retry " + retryCount + ") because of a conflict with another transaction: " + e.getMessage());
+                executeStatement("ROLLBACK TO SAVEPOINT " + RESTART_SAVEPOINT);
+                CockroachDBRetryingStrategy.backOff(retryCount);
             }
-            retryCount++;
+        }
+    }
+
+    private void executeStatement(String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
         }
     }
 }
@@ -32,6 +32,7 @@ import org.flywaydb.core.internal.jdbc.StatementInterceptor;
 import org.flywaydb.core.internal.license.FlywayEditionUpgradeRequiredException;
 import org.flywaydb.core.internal.parser.Parser;
 import org.flywaydb.core.internal.parser.ParsingContext;
+import org.flywaydb.core.internal.sqlscript.StatementPacker;
 import org.flywaydb.core.internal.util.StringUtils;
 import lombok.CustomLog;
 
@@ -101,6 +102,11 @@ public class PostgreSQLDatabaseType extends BaseDatabaseType {
         return new PostgreSQLParser(configuration, parsingContext);
     }
 
+    @Override
+    public StatementPacker createStatementPacker(JdbcConnectionFactory jdbcConnectionFactory) {
+        return new PostgreSQLStatementPacker();
+    }
+
     @Override
     public void setDefaultConnectionProps(String url, Properties props, ClassLoader classLoader) {
         props.put("applicationName", BaseDatabaseType.APPLICATION_NAME);
@@ -25,13 +25,13 @@ import org.flywaydb.core.internal.database.base.Schema;
 import org.flywaydb.core.internal.database.base.Table;
 import org.flywaydb.core.internal.database.base.Type;
 import org.flywaydb.core.internal.jdbc.JdbcTemplate;
+import org.flywaydb.core.internal.jdbc.Row;
 
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Locale;
-import java.util.Map;
 
 /**
  * PostgreSQL implementation of Schema.
@@ -83,6 +83,39 @@ public class PostgreSQLSchema extends Schema<PostgreSQLDatabase, PostgreSQLTable
         jdbcTemplate.execute("DROP SCHEMA " + database.quote(name) + " CASCADE");
     }
 
+    @Override
+    protected List<String> getRecreateStatements() throws SQLException {
+        if (!database.getVersion().isAtLeast("9.1")) {
+            return null;
+        }
+
+        List<String> statements = new ArrayList<>();
+        statements.add("CREATE SCHEMA " + database.quote(name));
+        statements.addAll(jdbcTemplate.queryForStringList(
+                "SELECT stmt FROM (\n" +
+                        "    SELECT 1 AS ord, format('ALTER SCHEMA %I OWNER TO %I', n.nspname, pg_get_userbyid(n.nspowner)) AS stmt\n" +
+                        "    FROM pg_namespace n WHERE n.nspname = ?\n" +
+                        "  UNION ALL\n" +
+                        "    SELECT 2, format('GRANT %s ON SCHEMA %I TO %s%s', a.privilege_type, n.nspname,\n" +
+                        "        CASE WHEN a.grantee = 0 THEN 'PUBLIC' ELSE quote_ident(pg_get_userbyid(a.grantee)) END,\n" +
+                        "        CASE WHEN a.is_grantable THEN ' WITH GRANT OPTION' ELSE '' END)\n" +
+                        "    FROM pg_namespace n, aclexplode(n.nspacl) a WHERE n.nspname = ? AND a.grantee <> n.nspowner\n" +
+                        "  UNION ALL\n" +
+                        "    SELECT 3, format('ALTER DEFAULT PRIVILEGES FOR ROLE %I IN SCHEMA %I GRANT %s ON %s TO %s%s',\n" +
+                        "        pg_get_userbyid(d.defaclrole), n.nspname, a.privilege_type,\n" +
+                        "        CASE d.defaclobjtype WHEN 'r' THEN 'TABLES' WHEN 'S' THEN 'SEQUENCES' WHEN 'f' THEN 'FUNCTIONS' ELSE 'TYPES' END,\n" +
+                        "        CASE WHEN a.grantee = 0 THEN 'PUBLIC' ELSE quote_ident(pg_get_userbyid(a.grantee)) END,\n" +
+                        "        CASE WHEN a.is_grantable THEN ' WITH GRANT OPTION' ELSE '' END)\n" +
+                        "    FROM pg_default_acl d JOIN pg_namespace n ON n.oid = d.defaclnamespace, aclexplode(d.defaclacl) a\n" +
+                        "    WHERE n.nspname = ? AND d.defaclobjtype IN ('r', 'S', 'f', 'T')\n" +
+                        "  UNION ALL\n" +
+                        "    SELECT 4, format('COMMENT ON SCHEMA %I IS %L', n.nspname, d.description)\n" +
+                        "    FROM pg_namespace n JOIN pg_description d ON d.objoid = n.oid AND d.classoid = 'pg_namespace'::regclass\n" +
+                        "    WHERE n.nspname = ?\n" +
+                        ") s ORDER BY ord", name, name, name, name));
+        return statements;
+    }
+
     @Override
     protected void doClean() throws SQLException {
         if (database.getVersion().isAtLeast("9.3")) {
@@ -195,8 +228,8 @@ public class PostgreSQLSchema extends Schema<PostgreSQLDatabase, PostgreSQLTable
      * @throws SQLException when the clean statements could not be generated.
      */
     private List<String> generateDropStatementsForBaseTypes(boolean recreate) throws SQLException {
-        List<Map<String, String>> rows =
-                jdbcTemplate.queryForList(
+        List<Row> rows =
+                jdbcTemplate.queryForRows(
                         "select typname, typcategory from pg_catalog.pg_type t "
                                 + "left join pg_depend dep on dep.objid = t.oid and dep.deptype = 'e' "
                                 + "where (t.typrelid = 0 OR (SELECT c.relkind = 'c' FROM pg_catalog.pg_class c WHERE c.oid = t.typrelid)) "
@@ -207,15 +240,15 @@ public class PostgreSQLSchema extends Schema<PostgreSQLDatabase, PostgreSQLTable
                         name);
 
         List<String> statements = new ArrayList<>();
-        for (Map<String, String> row : rows) {
-            statements.add("DROP TYPE IF EXISTS " + database.quote(name, row.get("typname")) + " CASCADE");
+        for (Row row : rows) {
+            statements.add("DROP TYPE IF EXISTS " + database.quote(name, row.get(0)) + " CASCADE");
         }
 
         if (recreate) {
-            for (Map<String, String> row : rows) {
+            for (Row row : rows) {
                 // Only recreate Pseudo-types (P) and User-defined types (U)
-                if (Arrays.asList("P", "U").contains(row.get("typcategory"))) {
-                    statements.add("CREATE TYPE " + database.quote(name, row.get("typname")));
+                if (Arrays.asList("P", "U").contains(row.get(1))) {
+                    statements.add("CREATE TYPE " + database.quote(name, row.get(0)));
                 }
             }
         }
@@ -235,8 +268,8 @@ public class PostgreSQLSchema extends Schema<PostgreSQLDatabase, PostgreSQLTable
         // PROCEDURE is only available from PostgreSQL 11
         String isProcedure = database.getVersion().isAtLeast("11") ? "pg_proc.prokind = 'p'" : "FALSE";
 
-        List<Map<String, String>> rows =
-                jdbcTemplate.queryForList(
+        List<Row> rows =
+                jdbcTemplate.queryForRows(
                         // Search for all functions
                         "SELECT proname, oidvectortypes(proargtypes) AS args, " + isAggregate + " as agg, " + isProcedure + " as proc "
                                 + "FROM pg_proc INNER JOIN pg_namespace ns ON (pg_proc.pronamespace = ns.oid) "
@@ -247,15 +280,15 @@ public class PostgreSQLSchema extends Schema<PostgreSQLDatabase, PostgreSQLTable
                                          );
 
         List<String> statements = new ArrayList<>();
-        for (Map<String, String> row : rows) {
+        for (Row row : rows) {
             String type = "FUNCTION";
-            if (isTrue(row.get("agg"))) {
+            if (isTrue(row.get(2))) {
                 type = "AGGREGATE";
-            } else if (isTrue(row.get("proc"))) {
+            } else if (isTrue(row.get(3))) {
                 type = "PROCEDURE";
             }
             statements.add("DROP " + type + " IF EXISTS "
-                                   + database.quote(name, row.get("proname")) + "(" + row.get("args") + ") CASCADE");
+                                   + database.quote(name, row.get(0)) + "(" + row.get(1) + ") CASCADE");
         }
         return statements;
     }
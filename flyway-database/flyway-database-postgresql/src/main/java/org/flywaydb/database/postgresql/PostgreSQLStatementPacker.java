@@ -0,0 +1,62 @@
+/*-
+ * ========================LICENSE_START=================================
+ * flyway-database-postgresql
+ * ========================================================================
+ * Copyright (C) 2010 - 2025 Red Gate Software Ltd
+ * ========================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+package org.flywaydb.database.postgresql;
+
+import org.flywaydb.core.internal.jdbc.JdbcTemplate;
+import org.flywaydb.core.internal.sqlscript.SqlStatement;
+import org.flywaydb.core.internal.sqlscript.StatementPacker;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Packs statements into a single round trip, guarded by a savepoint inside a transaction and by an explicit
+ * transaction otherwise. The savepoint or transaction is only completed once the pack succeeded without notices, so
+ * that a pack which failed or reported notices can always be undone and replayed one statement at a time.
+ */
+public class PostgreSQLStatementPacker implements StatementPacker {
+    private static final String SAVEPOINT = "flyway_packed_statements";
+
+    @Override
+    public String pack(List<SqlStatement> sqlStatements, boolean inTransaction) {
+        String sql = sqlStatements.stream().map(SqlStatement::getSql).collect(Collectors.joining(";\n"));
+        if (inTransaction) {
+            return "SAVEPOINT " + SAVEPOINT + ";\n" + sql;
+        }
+        return "BEGIN;\n" + sql;
+    }
+
+    @Override
+    public void complete(JdbcTemplate jdbcTemplate, boolean inTransaction) throws SQLException {
+        jdbcTemplate.execute(inTransaction ? "RELEASE SAVEPOINT " + SAVEPOINT : "COMMIT");
+    }
+
+    @Override
+    public boolean prepareReplay(JdbcTemplate jdbcTemplate, boolean inTransaction) throws SQLException {
+        if (inTransaction) {
+            jdbcTemplate.execute("ROLLBACK TO SAVEPOINT " + SAVEPOINT);
+            jdbcTemplate.execute("RELEASE SAVEPOINT " + SAVEPOINT);
+        } else {
+            jdbcTemplate.execute("ROLLBACK");
+        }
+        return true;
+    }
+}
@@ -0,0 +1,212 @@
+/*-
+ * ========================LICENSE_START=================================
+ * flyway-database-postgresql
+ * ========================================================================
+ * Copyright (C) 2010 - 2025 Red Gate Software Ltd
+ * ========================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+package org.flywaydb.database.cockroachdb;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import javax.sql.DataSource;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.flywaydb.core.api.output.MigrateResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Migrates an in-memory H2 database through a fake connection, which fails chosen statements with the 40001
+ * serialization failure CockroachDB reports when a transaction must be restarted. As on CockroachDB, the schema
+ * history is written on a connection of its own, which the restart doesn't roll back.
+ */
+class CockroachRetryingTransactionalExecutionTemplateTest {
+    private static final String RELEASE = "RELEASE SAVEPOINT cockroach_restart";
+    private static final String INSERT_V1 = "INSERT INTO applied (name) VALUES ('V1')";
+    private static final String INSERT_V2 = "INSERT INTO applied (name) VALUES ('V2')";
+
+    /**
+     * How many more times each statement fails with 40001.
+     */
+    private final Map<String, Integer> conflicts = new HashMap<>();
+    private String url;
+    private Connection connection;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        url = "jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1";
+        connection = DriverManager.getConnection(url);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE applied (name VARCHAR(10))");
+        }
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("SHUTDOWN");
+        }
+        connection.close();
+    }
+
+    @Test
+    void restartAtCommitRecordsGroupOnce() throws SQLException {
+        conflicts.put(RELEASE, 1);
+
+        MigrateResult result = migrate(true);
+
+        assertEquals(1, result.transactionRetries);
+        assertEquals(2, result.migrationsExecuted);
+        assertEquals(2, result.migrations.size());
+        assertEquals(List.of("1", "2"), query("SELECT \"version\" FROM \"flyway_schema_history\" ORDER BY \"installed_rank\""));
+        assertEquals(List.of("V1", "V2"), query("SELECT name FROM applied ORDER BY name"));
+    }
+
+    @Test
+    void restartAfterAppliedMigrationOfGroupRecordsGroupOnce() throws SQLException {
+        conflicts.put(INSERT_V2, 2);
+
+        MigrateResult result = migrate(true);
+
+        assertEquals(2, result.transactionRetries);
+        assertEquals(2, result.migrations.size());
+        assertEquals(List.of("1", "2"), query("SELECT \"version\" FROM \"flyway_schema_history\" ORDER BY \"installed_rank\""));
+        assertEquals(List.of("V1", "V2"), query("SELECT name FROM applied ORDER BY name"));
+    }
+
+    @Test
+    void restartReplaysOnlyTheMigrationItInterrupted() throws SQLException {
+        conflicts.put(INSERT_V2, 1);
+        conflicts.put(RELEASE, 1);
+
+        MigrateResult result = migrate(false);
+
+        // The release of V1 fails once, then the insert of V2 fails once
+        assertEquals(2, result.transactionRetries);
+        assertEquals(2, result.migrationsExecuted);
+        assertEquals(List.of("1", "2"), query("SELECT \"version\" FROM \"flyway_schema_history\" ORDER BY \"installed_rank\""));
+        assertEquals(List.of("V1", "V2"), query("SELECT name FROM applied ORDER BY name"));
+    }
+
+    private MigrateResult migrate(boolean group) {
+        return Flyway.configure()
+            .dataSource(dataSource())
+            .javaMigrations(new V1__First(), new V2__Second())
+            .group(group)
+            .load()
+            .migrate();
+    }
+
+    private List<String> query(String sql) throws SQLException {
+        List<String> values = new ArrayList<>();
+        try (Statement statement = connection.createStatement(); ResultSet resultSet = statement.executeQuery(sql)) {
+            while (resultSet.next()) {
+                values.add(resultSet.getString(1));
+            }
+        }
+        return values;
+    }
+
+    private DataSource dataSource() {
+        return (DataSource) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { DataSource.class },
+            (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "getConnection":
+                        return fakeConnection(DriverManager.getConnection(url));
+                    case "equals":
+                        return proxy == args[0];
+                    case "hashCode":
+                        return System.identityHashCode(proxy);
+                    case "toString":
+                        return url;
+                    case "isWrapperFor":
+                        return false;
+                    default:
+                        return method.getReturnType() == int.class ? 0 : null;
+                }
+            });
+    }
+
+    private Connection fakeConnection(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { Connection.class },
+            (proxy, method, args) -> {
+                if ("createStatement".equals(method.getName()) && args == null) {
+                    return fakeStatement(connection.createStatement());
+                }
+                return invoke(connection, method, args);
+            });
+    }
+
+    private Statement fakeStatement(Statement statement) {
+        return (Statement) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { Statement.class },
+            (proxy, method, args) -> {
+                if ("execute".equals(method.getName()) && args.length == 1) {
+                    String sql = (String) args[0];
+                    int remaining = conflicts.getOrDefault(sql, 0);
+                    if (remaining > 0) {
+                        conflicts.put(sql, remaining - 1);
+                        throw new SQLException("restart transaction: TransactionRetryWithProtoRefreshError", "40001");
+                    }
+                    if (RELEASE.equals(sql)) {
+                        // H2 has no RELEASE SAVEPOINT, and the transaction is committed by the template anyway
+                        return false;
+                    }
+                }
+                return invoke(statement, method, args);
+            });
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    public static class V1__First extends BaseJavaMigration {
+        @Override
+        public void migrate(Context context) throws Exception {
+            try (Statement statement = context.getConnection().createStatement()) {
+                statement.execute(INSERT_V1);
+            }
+        }
+    }
+
+    public static class V2__Second extends BaseJavaMigration {
+        @Override
+        public void migrate(Context context) throws Exception {
+            try (Statement statement = context.getConnection().createStatement()) {
+                statement.execute(INSERT_V2);
+            }
+        }
+    }
+}
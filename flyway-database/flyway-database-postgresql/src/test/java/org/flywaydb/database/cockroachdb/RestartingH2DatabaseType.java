@@ -0,0 +1,40 @@
+/*-
+ * ========================LICENSE_START=================================
+ * flyway-database-postgresql
+ * ========================================================================
+ * Copyright (C) 2010 - 2025 Red Gate Software Ltd
+ * ========================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+package org.flywaydb.database.cockroachdb;
+
+import java.sql.Connection;
+import org.flywaydb.core.internal.database.h2.H2DatabaseType;
+import org.flywaydb.core.internal.jdbc.ExecutionTemplate;
+
+/**
+ * H2 applying groups of migrations through the CockroachDB restart protocol, so restarts can be tested without a
+ * CockroachDB cluster. It takes precedence over the regular H2 support in the tests of this module.
+ */
+public class RestartingH2DatabaseType extends H2DatabaseType {
+    @Override
+    public int getPriority() {
+        return 1;
+    }
+
+    @Override
+    public ExecutionTemplate createRestartableTransactionalExecutionTemplate(Connection connection, boolean rollbackOnException) {
+        return new CockroachRetryingTransactionalExecutionTemplate(connection, rollbackOnException);
+    }
+}
@@ -20,6 +20,7 @@
 package org.flywaydb.database.redshift;
 
 import org.flywaydb.core.internal.jdbc.JdbcTemplate;
+import org.flywaydb.core.internal.jdbc.Row;
 import org.flywaydb.core.internal.database.base.Schema;
 import org.flywaydb.core.internal.database.base.Table;
 import org.flywaydb.core.internal.database.base.Type;
@@ -27,7 +28,6 @@ import org.flywaydb.core.internal.database.base.Type;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 
 /**
  * PostgreSQL implementation of Schema.
@@ -98,8 +98,8 @@ public class RedshiftSchema extends Schema<RedshiftDatabase, RedshiftTable> {
      * @cascade CASCADE if required, blank if not.
      */
     private List<String> generateDropStatementsForRoutines(char kind, String objType, String cascade) throws SQLException {
-        List<Map<String, String>> rows =
-                jdbcTemplate.queryForList(
+        List<Row> rows =
+                jdbcTemplate.queryForRows(
                         // Search for all functions
                         "SELECT proname, oidvectortypes(proargtypes) AS args "
                                 + "FROM pg_proc_info INNER JOIN pg_namespace ns ON (pg_proc_info.pronamespace = ns.oid) "
@@ -111,8 +111,8 @@ public class RedshiftSchema extends Schema<RedshiftDatabase, RedshiftTable> {
                                          );
 
         List<String> statements = new ArrayList<>();
-        for (Map<String, String> row : rows) {
-            statements.add("DROP " + objType + database.quote(name, row.get("proname")) + "(" + row.get("args") + ") " + cascade);
+        for (Row row : rows) {
+            statements.add("DROP " + objType + database.quote(name, row.get(0)) + "(" + row.get(1) + ") " + cascade);
         }
         return statements;
     }
@@ -28,7 +28,9 @@ import org.flywaydb.core.internal.util.Pair;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 @CustomLog
 public class SnowflakeSchema extends Schema<SnowflakeDatabase, SnowflakeTable> {
@@ -71,6 +73,74 @@ public class SnowflakeSchema extends Schema<SnowflakeDatabase, SnowflakeTable> {
         jdbcTemplate.execute("DROP SCHEMA " + database.quote(name));
     }
 
+    @Override
+    protected List<String> getRecreateStatements() throws SQLException {
+        Map<String, String> schema = null;
+        for (Map<String, String> row : jdbcTemplate.queryForList("SHOW SCHEMAS LIKE '" + name + "'")) {
+            if (name.equals(row.get("name"))) {
+                schema = row;
+            }
+        }
+        if (schema == null) {
+            return null;
+        }
+
+        String quotedName = database.quote(name);
+        String options = schema.get("options") == null ? "" : schema.get("options");
+        List<String> statements = new ArrayList<>();
+        statements.add("CREATE " + (options.contains("TRANSIENT") ? "TRANSIENT " : "") + "SCHEMA " + quotedName
+                               + (options.contains("MANAGED ACCESS") ? " WITH MANAGED ACCESS" : ""));
+        String comment = schema.get("comment");
+        if (comment != null && !comment.isEmpty()) {
+            statements.add("COMMENT ON SCHEMA " + quotedName + " IS '" + comment.replace("'", "''") + "'");
+        }
+
+        String ownership = null;
+        for (Map<String, String> grant : jdbcTemplate.queryForList("SHOW GRANTS ON SCHEMA " + quotedName)) {
+            String grantee = getGrantee(grant.get("granted_to"), grant.get("grantee_name"));
+            if (grantee == null) {
+                return null;
+            }
+            String privilege = grant.get("privilege");
+            if ("OWNERSHIP".equals(privilege)) {
+                ownership = "GRANT OWNERSHIP ON SCHEMA " + quotedName + " TO " + grantee + " COPY CURRENT GRANTS";
+            } else {
+                statements.add("GRANT " + privilege + " ON SCHEMA " + quotedName + " TO " + grantee
+                                       + ("true".equalsIgnoreCase(grant.get("grant_option")) ? " WITH GRANT OPTION" : ""));
+            }
+        }
+
+        for (Map<String, String> grant : jdbcTemplate.queryForList("SHOW FUTURE GRANTS IN SCHEMA " + quotedName)) {
+            String grantee = getGrantee(grant.get("grant_to"), grant.get("grantee_name"));
+            if (grantee == null) {
+                return null;
+            }
+            String objectType = grant.get("grant_on").replace('_', ' ');
+            String objectTypes = objectType.endsWith("Y")
+                    ? objectType.substring(0, objectType.length() - 1) + "IES"
+                    : objectType + "S";
+            statements.add("GRANT " + grant.get("privilege") + " ON FUTURE " + objectTypes + " IN SCHEMA " + quotedName
+                                   + " TO " + grantee
+                                   + ("true".equalsIgnoreCase(grant.get("grant_option")) ? " WITH GRANT OPTION" : ""));
+        }
+
+        // Ownership is transferred last as the current role may lose the right to grant anything else afterwards
+        if (ownership != null) {
+            statements.add(ownership);
+        }
+        return statements;
+    }
+
+    private String getGrantee(String granteeType, String granteeName) {
+        if ("ROLE".equals(granteeType)) {
+            return "ROLE " + database.quote(granteeName);
+        }
+        if ("DATABASE_ROLE".equals(granteeType)) {
+            return "DATABASE ROLE " + granteeName;
+        }
+        return null;
+    }
+
     @Override
     protected void doClean() throws SQLException {
         for (String dropStatement : generateDropStatements("VIEW")) {
@@ -38,8 +38,7 @@ public class BigQueryJdbcTemplate extends JdbcTemplate {
     }
 
     @Override
-    protected PreparedStatement prepareStatement(String sql, Object[] params) throws SQLException {
-        PreparedStatement statement = connection.prepareStatement(sql);
+    protected void setParameters(PreparedStatement statement, Object[] params) throws SQLException {
         // Spanner requires specific types for NULL according to the column.
         // This is unlike other databases which have a single "null type".
         for (int i = 0; i < params.length; i++) {
@@ -62,7 +61,5 @@ public class BigQueryJdbcTemplate extends JdbcTemplate {
                 throw new FlywayException("Unhandled object of type '" + params[i].getClass().getName() + "'. ");
             }
         }
-
-        return statement;
     }
 }
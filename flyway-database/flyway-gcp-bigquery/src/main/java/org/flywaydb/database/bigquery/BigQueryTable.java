@@ -60,6 +60,11 @@ public class BigQueryTable extends Table<BigQueryDatabase, BigQuerySchema> {
         }
     }
 
+    @Override
+    protected boolean hasExplicitUnlock() {
+        return true;
+    }
+
     @Override
     protected void doUnlock() throws SQLException {
         if (lockDepth == 1) {
@@ -29,6 +29,7 @@ import org.flywaydb.core.internal.jdbc.JdbcConnectionFactory;
 import org.flywaydb.core.internal.jdbc.StatementInterceptor;
 import org.flywaydb.core.internal.parser.Parser;
 import org.flywaydb.core.internal.parser.ParsingContext;
+import org.flywaydb.core.internal.sqlscript.StatementPacker;
 import org.flywaydb.core.internal.util.FlywayDbWebsiteLinks;
 
 
@@ -95,6 +96,11 @@ public class SpannerDatabaseType extends BaseDatabaseType {
         return new SpannerParser(configuration, parsingContext);
     }
 
+    @Override
+    public StatementPacker createStatementPacker(JdbcConnectionFactory jdbcConnectionFactory) {
+        return new SpannerStatementPacker();
+    }
+
     @Override
     public boolean detectUserRequiredByUrl(String url) {
         return !url.contains("credentials=");
@@ -35,6 +35,11 @@ import java.util.List;
 public class SpannerParser extends Parser {
 
     private boolean previousStatementStartedBatch = false;
+    /**
+     * Whether the tokens of the current statement include START, tracked as they are read so that the statement does
+     * not have to be scanned again for each of its keywords.
+     */
+    private boolean statementContainsStart = false;
 
     public SpannerParser(Configuration configuration, ParsingContext parsingContext) {
         super(configuration, parsingContext, 3);
@@ -58,6 +63,13 @@ public class SpannerParser extends Parser {
 
     @Override
     protected boolean shouldAdjustBlockDepth(ParserContext context, List<Token> tokens, Token token) {
+        // Every token of a statement passes through here before being added to its tokens
+        if (tokens.isEmpty()) {
+            statementContainsStart = false;
+        }
+        if ("START".equals(token.getText())) {
+            statementContainsStart = true;
+        }
         return previousStatementStartedBatch || super.shouldAdjustBlockDepth(context, tokens, token) || token.getType() == TokenType.DELIMITER;
     }
 
@@ -68,7 +80,7 @@ public class SpannerParser extends Parser {
             context.increaseBlockDepth("");
             previousStatementStartedBatch = false;
         }
-        if (tokens.stream().anyMatch(t -> "START".equals(t.getText())) && keyword.getType() == TokenType.DELIMITER) {
+        if (statementContainsStart && keyword.getType() == TokenType.DELIMITER) {
             previousStatementStartedBatch = true;
         }
         if ("RUN".equals(keywordText) && context.getBlockDepth() > 0) {
@@ -0,0 +1,119 @@
+/*-
+ * ========================LICENSE_START=================================
+ * flyway-gcp-spanner
+ * ========================================================================
+ * Copyright (C) 2010 - 2025 Red Gate Software Ltd
+ * ========================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+package org.flywaydb.database.spanner;
+
+import org.flywaydb.core.internal.jdbc.JdbcTemplate;
+import org.flywaydb.core.internal.jdbc.Result;
+import org.flywaydb.core.internal.jdbc.Results;
+import org.flywaydb.core.internal.sqlscript.SqlStatement;
+import org.flywaydb.core.internal.sqlscript.StatementPacker;
+
+import java.sql.BatchUpdateException;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Sends consecutive DDL statements as a single DDL batch, so Spanner applies them in one schema update operation
+ * instead of one long-running operation per statement. Spanner applies the statements of a batch in order and stops
+ * at the first failing one, keeping the ones before it, just like when executing them one by one. This packer is
+ * therefore always used.
+ */
+public class SpannerStatementPacker implements StatementPacker {
+    private static final Pattern DDL_PATTERN = Pattern.compile("^(CREATE|ALTER|DROP|GRANT|REVOKE|RENAME|ANALYZE)\\b");
+
+    @Override
+    public boolean isAlwaysEnabled() {
+        return true;
+    }
+
+    @Override
+    public boolean canPack(SqlStatement sqlStatement) {
+        // Explicit START BATCH ... RUN BATCH blocks are left as written
+        return DDL_PATTERN.matcher(sqlStatement.getSql().trim().toUpperCase(Locale.ENGLISH)).find();
+    }
+
+    @Override
+    public String pack(List<SqlStatement> sqlStatements, boolean inTransaction) {
+        return "START BATCH DDL;\n"
+                + sqlStatements.stream().map(SqlStatement::getSql).collect(Collectors.joining(";\n"))
+                + ";\nRUN BATCH";
+    }
+
+    @Override
+    public Results execute(JdbcTemplate jdbcTemplate, List<SqlStatement> sqlStatements, boolean inTransaction) {
+        Results results = new Results();
+        try (Statement statement = jdbcTemplate.getConnection().createStatement()) {
+            if (inTransaction) {
+                // DDL batches can't be started inside a transaction
+                for (SqlStatement sqlStatement : sqlStatements) {
+                    statement.execute(sqlStatement.getSql());
+                    results.addResult(new Result(-1, null, null, sqlStatement.getSql()));
+                }
+                return results;
+            }
+
+            statement.execute("START BATCH DDL");
+            for (int i = 0; i < sqlStatements.size(); i++) {
+                try {
+                    statement.execute(sqlStatements.get(i).getSql());
+                } catch (SQLException e) {
+                    // The driver refused to buffer this statement and nothing has been sent yet. Apply the statements
+                    // before it, as executing them one by one would have.
+                    statement.execute("ABORT BATCH");
+                    if (i > 0) {
+                        results = execute(jdbcTemplate, sqlStatements.subList(0, i), false);
+                        if (results.getException() != null) {
+                            return results;
+                        }
+                    }
+                    results.setException(e);
+                    return results;
+                }
+            }
+
+            try {
+                statement.execute("RUN BATCH");
+                addResults(results, sqlStatements, sqlStatements.size());
+            } catch (BatchUpdateException e) {
+                // The update counts cover the statements applied before the failing one
+                addResults(results, sqlStatements, Math.min(e.getUpdateCounts().length, sqlStatements.size()));
+                results.setException(e);
+            }
+        } catch (SQLException e) {
+            results.setException(e);
+        }
+        return results;
+    }
+
+    private void addResults(Results results, List<SqlStatement> sqlStatements, int count) {
+        for (int i = 0; i < count; i++) {
+            results.addResult(new Result(-1, null, null, sqlStatements.get(i).getSql()));
+        }
+    }
+
+    @Override
+    public boolean prepareReplay(JdbcTemplate jdbcTemplate, boolean inTransaction) {
+        return false;
+    }
+}
@@ -61,6 +61,11 @@ public class SpannerTable extends Table<SpannerDatabase, SpannerSchema> {
         }
     }
 
+    @Override
+    protected boolean hasExplicitUnlock() {
+        return true;
+    }
+
     @Override
     protected void doUnlock() throws SQLException {
         if (lockDepth == 1) {
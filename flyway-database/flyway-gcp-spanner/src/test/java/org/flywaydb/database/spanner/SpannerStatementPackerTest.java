@@ -0,0 +1,169 @@
+/*-
+ * ========================LICENSE_START=================================
+ * flyway-gcp-spanner
+ * ========================================================================
+ * Copyright (C) 2010 - 2025 Red Gate Software Ltd
+ * ========================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+package org.flywaydb.database.spanner;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.lang.reflect.Proxy;
+import java.sql.BatchUpdateException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.configuration.Configuration;
+import org.flywaydb.core.internal.callback.NoopCallbackExecutor;
+import org.flywaydb.core.internal.jdbc.JdbcTemplate;
+import org.flywaydb.core.internal.parser.ParsingContext;
+import org.flywaydb.core.internal.resource.StringResource;
+import org.flywaydb.core.internal.sqlscript.DefaultSqlScriptExecutor;
+import org.flywaydb.core.internal.sqlscript.FlywaySqlScriptException;
+import org.flywaydb.core.internal.sqlscript.ParserSqlScript;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Executes scripts through the Spanner executor against a recording fake connection, which logs every statement
+ * sent to the driver in order and fails the ones it was told to.
+ */
+class SpannerStatementPackerTest {
+    private static final String CREATE_TABLE = "CREATE TABLE a (id INT64) PRIMARY KEY (id)";
+    private static final String CREATE_INDEX = "CREATE INDEX a_id ON a (id)";
+    private static final String INSERT = "INSERT INTO a (id) VALUES (1)";
+    private static final String ADD_COLUMN = "ALTER TABLE a ADD COLUMN name STRING(10)";
+    private static final String DROP_INDEX = "DROP INDEX a_id";
+
+    private final Configuration configuration = Flyway.configure();
+    private final List<String> executed = new ArrayList<>();
+    private final Map<String, SQLException> failures = new HashMap<>();
+    private boolean autoCommit = true;
+
+    @Test
+    void consecutiveDdlStatementsAreSentAsOneBatch() {
+        execute(CREATE_TABLE, CREATE_INDEX, INSERT, ADD_COLUMN, DROP_INDEX);
+
+        assertEquals(List.of(
+            "START BATCH DDL", CREATE_TABLE, CREATE_INDEX, "RUN BATCH",
+            INSERT,
+            "START BATCH DDL", ADD_COLUMN, DROP_INDEX, "RUN BATCH"), executed);
+    }
+
+    @Test
+    void singleDdlStatementIsNotBatched() {
+        execute(INSERT, CREATE_TABLE, INSERT);
+
+        assertEquals(List.of(INSERT, CREATE_TABLE, INSERT), executed);
+    }
+
+    @Test
+    void failureOfBatchIsAttributedToFailingStatement() {
+        // Spanner reports the statements applied before the failing one
+        failures.put("RUN BATCH", new BatchUpdateException("Duplicate name in schema: a_id", new int[] { -1 }));
+
+        FlywaySqlScriptException e = assertThrows(FlywaySqlScriptException.class,
+            () -> execute(CREATE_TABLE, CREATE_INDEX, ADD_COLUMN, INSERT));
+
+        assertEquals(CREATE_INDEX, e.getStatement());
+        assertEquals(2, e.getLineNumber());
+        assertEquals(List.of("START BATCH DDL", CREATE_TABLE, CREATE_INDEX, ADD_COLUMN, "RUN BATCH"), executed);
+    }
+
+    @Test
+    void refusedStatementAbortsBatchAndAppliesStatementsBeforeIt() {
+        failures.put(ADD_COLUMN, new SQLException("Statement is not supported in a DDL batch"));
+
+        FlywaySqlScriptException e = assertThrows(FlywaySqlScriptException.class,
+            () -> execute(CREATE_TABLE, CREATE_INDEX, ADD_COLUMN, DROP_INDEX));
+
+        assertEquals(ADD_COLUMN, e.getStatement());
+        assertEquals(3, e.getLineNumber());
+        assertEquals(List.of(
+            "START BATCH DDL", CREATE_TABLE, CREATE_INDEX, ADD_COLUMN, "ABORT BATCH",
+            "START BATCH DDL", CREATE_TABLE, CREATE_INDEX, "RUN BATCH"), executed);
+    }
+
+    @Test
+    void ddlStatementsInTransactionAreNotBatched() {
+        autoCommit = false;
+
+        execute(CREATE_TABLE, CREATE_INDEX);
+
+        assertEquals(List.of(CREATE_TABLE, CREATE_INDEX), executed);
+    }
+
+    /**
+     * Executes a script made of these statements, one per line.
+     */
+    private void execute(String... statements) {
+        String script = String.join(";\n", statements) + ";\n";
+        ParserSqlScript sqlScript = new ParserSqlScript(new SpannerParser(configuration, new ParsingContext()),
+            new StringResource(script), null, true);
+        new DefaultSqlScriptExecutor(new JdbcTemplate(recordingConnection(), new SpannerDatabaseType()),
+            NoopCallbackExecutor.INSTANCE, false, false, false, null, new SpannerStatementPacker())
+            .execute(sqlScript, configuration);
+    }
+
+    private Connection recordingConnection() {
+        Statement statement = (Statement) Proxy.newProxyInstance(getClass().getClassLoader(),
+            new Class<?>[] { Statement.class }, (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "execute":
+                        String sql = (String) args[0];
+                        executed.add(sql);
+                        SQLException failure = failures.remove(sql);
+                        if (failure != null) {
+                            throw failure;
+                        }
+                        return false;
+                    case "getUpdateCount":
+                        return -1;
+                    default:
+                        return defaultValue(method.getReturnType());
+                }
+            });
+        return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(),
+            new Class<?>[] { Connection.class }, (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "createStatement":
+                        return statement;
+                    case "getAutoCommit":
+                        return autoCommit;
+                    default:
+                        return defaultValue(method.getReturnType());
+                }
+            });
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        if (type == boolean.class) {
+            return false;
+        }
+        if (type == int.class) {
+            return 0;
+        }
+        if (type == long.class) {
+            return 0L;
+        }
+        return null;
+    }
+}
@@ -22,11 +22,11 @@ package org.flywaydb.database.singlestore;
 import org.flywaydb.core.internal.database.base.Schema;
 import org.flywaydb.core.internal.database.base.Table;
 import org.flywaydb.core.internal.jdbc.JdbcTemplate;
+import org.flywaydb.core.internal.jdbc.Row;
 
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 
 public class SingleStoreSchema extends Schema<SingleStoreDatabase, SingleStoreTable> {
 
@@ -74,12 +74,12 @@ public class SingleStoreSchema extends Schema<SingleStoreDatabase, SingleStoreTa
     }
 
     private List<String> cleanRoutines() throws SQLException {
-        List<Map<String, String>> routineNames = jdbcTemplate.queryForList("SELECT routine_name as 'N', routine_type as 'T' FROM information_schema.routines WHERE routine_schema=?", name);
+        List<Row> routineNames = jdbcTemplate.queryForRows("SELECT routine_name as 'N', routine_type as 'T' FROM information_schema.routines WHERE routine_schema=?", name);
 
         List<String> statements = new ArrayList<>();
-        for (Map<String, String> row : routineNames) {
-            String routineName = row.get("N");
-            String routineType = row.get("T");
+        for (Row row : routineNames) {
+            String routineName = row.get(0);
+            String routineType = row.get(1);
             statements.add("DROP " + routineType + " " + database.quote(name, routineName));
         }
         return statements;
@@ -32,6 +32,7 @@ import org.flywaydb.core.internal.database.base.Database;
 import org.flywaydb.core.internal.database.base.Schema;
 import org.flywaydb.core.internal.database.base.Table;
 import org.flywaydb.core.internal.jdbc.JdbcConnectionFactory;
+import org.flywaydb.core.internal.jdbc.Row;
 import org.flywaydb.core.internal.jdbc.StatementInterceptor;
 import org.flywaydb.core.internal.sqlscript.Delimiter;
 import org.flywaydb.core.internal.util.StringUtils;
@@ -41,7 +42,6 @@ import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
 import java.util.stream.Collectors;
 
 public class SQLServerDatabase extends Database<SQLServerConnection> {
@@ -300,12 +300,12 @@ public class SQLServerDatabase extends Database<SQLServerConnection> {
         if (schemaList.isEmpty()) {
             schemaList = "''";
         }
-        List<Map<String, String>> typesAndSchemas = jdbcTemplate.queryForList("" +
+        List<Row> typesAndSchemas = jdbcTemplate.queryForRows("" +
                                                                                       "SELECT t.name as type_name, s.name as schema_name " +
                                                                                       "FROM sys.types t INNER JOIN sys.schemas s ON t.schema_id = s.schema_id " +
                                                                                       "WHERE t.is_user_defined = 1 AND s.name IN (" + schemaList + ")");
-        for (Map<String, String> typeAndSchema : typesAndSchemas) {
-            statements.add("DROP TYPE " + quote(typeAndSchema.get("schema_name"), typeAndSchema.get("type_name")));
+        for (Row typeAndSchema : typesAndSchemas) {
+            statements.add("DROP TYPE " + quote(typeAndSchema.get(1), typeAndSchema.get(0)));
         }
         return statements;
     }
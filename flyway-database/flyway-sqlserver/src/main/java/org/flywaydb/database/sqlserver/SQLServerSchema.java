@@ -19,19 +19,24 @@
  */
 package org.flywaydb.database.sqlserver;
 
-import java.util.Map;
 import lombok.CustomLog;
 import org.flywaydb.core.internal.database.base.Schema;
 import org.flywaydb.core.internal.database.base.Table;
 import org.flywaydb.core.internal.jdbc.JdbcTemplate;
+import org.flywaydb.core.internal.jdbc.Results;
+import org.flywaydb.core.internal.jdbc.Row;
 
 import java.sql.SQLException;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.*;
 import java.util.stream.Collectors;
 
 @CustomLog
 public class SQLServerSchema extends Schema<SQLServerDatabase, SQLServerTable> {
+    /**
+     * The maximum number of clean statements sent to the server in a single batch.
+     */
+    private static final int CLEAN_BATCH_SIZE = 500;
+
     protected final String databaseName;
 
     /**
@@ -186,39 +191,27 @@ public class SQLServerSchema extends Schema<SQLServerDatabase, SQLServerTable> {
 
     @Override
     protected void doClean() throws SQLException {
-        for (String statement : getCleanStatementsBeforeFirstTableDrop(queryDBObjects(ObjectType.USER_TABLE))) {
-            executeIgnoringDependencyErrors(statement);
-        }
+        executeIgnoringDependencyErrors(getCleanStatementsBeforeFirstTableDrop(new TableModel()));
         dropTablesIgnoringErrors(allTables());
-        for (String statement : getCleanStatementsBeforeSecondTableDrop(queryDBObjects(ObjectType.USER_TABLE))) {
-            executeIgnoringDependencyErrors(statement);
-        }
+        executeIgnoringDependencyErrors(getCleanStatementsBeforeSecondTableDrop(new TableModel()));
         dropTablesIgnoringErrors(allTables());
-        for (String statement : getCleanStatementsAfterLastTableDrop(queryDBObjects(ObjectType.USER_TABLE))) {
-            executeIgnoringDependencyErrors(statement);
-        }
+        executeIgnoringDependencyErrors(getCleanStatementsAfterLastTableDrop(new TableModel()));
 
-        for (String statement : getCleanStatementsBeforeFirstTableDrop(queryDBObjects(ObjectType.USER_TABLE))) {
-            jdbcTemplate.execute(statement);
-        }
+        executeInBatches(getCleanStatementsBeforeFirstTableDrop(new TableModel()));
         dropTablesIgnoringErrors(allTables());
-        for (String statement : getCleanStatementsBeforeSecondTableDrop(queryDBObjects(ObjectType.USER_TABLE))) {
-            jdbcTemplate.execute(statement);
-        }
+        executeInBatches(getCleanStatementsBeforeSecondTableDrop(new TableModel()));
         dropTables(allTables());
-        for (String statement : getCleanStatementsAfterLastTableDrop(queryDBObjects(ObjectType.USER_TABLE))) {
-            jdbcTemplate.execute(statement);
-        }
+        executeInBatches(getCleanStatementsAfterLastTableDrop(new TableModel()));
     }
 
-    private List<String> getCleanStatementsBeforeFirstTableDrop(List<DBObject> tables) throws SQLException {
+    private List<String> getCleanStatementsBeforeFirstTableDrop(TableModel tables) throws SQLException {
         List<String> statements = new ArrayList<>();
         statements.addAll(cleanTriggers());
         statements.addAll(cleanForeignKeys(tables));
         return statements;
     }
 
-    private List<String> getCleanStatementsBeforeSecondTableDrop(List<DBObject> tables) throws SQLException {
+    private List<String> getCleanStatementsBeforeSecondTableDrop(TableModel tables) throws SQLException {
         List<String> statements = new ArrayList<>();
 
         statements.addAll(cleanForeignKeys(tables));
@@ -238,7 +231,7 @@ public class SQLServerSchema extends Schema<SQLServerDatabase, SQLServerTable> {
         return statements;
     }
 
-    private List<String> getCleanStatementsAfterLastTableDrop(List<DBObject> tables) throws SQLException {
+    private List<String> getCleanStatementsAfterLastTableDrop(TableModel tables) throws SQLException {
         List<String> statements = new ArrayList<>();
 
         statements.addAll(cleanIndexes(tables));
@@ -262,26 +255,77 @@ public class SQLServerSchema extends Schema<SQLServerDatabase, SQLServerTable> {
     }
 
     private void dropTables(SQLServerTable[] allTables) throws SQLException {
-        for (SQLServerTable table : allTables) {
-            table.dropSystemVersioningIfPresent();
-        }
-        for (SQLServerTable table : allTables) {
-            table.drop();
-        }
+        executeInBatches(getDropTableStatements(allTables));
     }
 
     private void dropTablesIgnoringErrors(SQLServerTable[] allTables) {
         try {
-            dropTables(allTables);
+            executeIgnoringDependencyErrors(getDropTableStatements(allTables));
         } catch (Exception ignored) {
         }
     }
 
-    private void executeIgnoringDependencyErrors(String statement) {
-        try {
-            jdbcTemplate.execute(statement);
-        } catch (SQLException e) {
-            LOG.debug("Ignoring dependency-related error: " + e.getMessage());
+    /**
+     * @return The statements turning off system versioning for all temporal tables, followed by the drop statements
+     * of all tables.
+     */
+    private List<String> getDropTableStatements(SQLServerTable[] allTables) throws SQLException {
+        List<String> statements = new ArrayList<>();
+        if (allTables.length == 0) {
+            return statements;
+        }
+
+        /* Column temporal_type only exists in SQL Server 2016+, so the query below won't run in other versions */
+        if (database.supportsTemporalTables()) {
+            Set<String> temporalTables = new HashSet<>(jdbcTemplate.queryForStringList(
+                    "SELECT name FROM sys.tables WHERE schema_id = SCHEMA_ID(?) AND temporal_type = 2", name));
+            for (SQLServerTable table : allTables) {
+                if (temporalTables.contains(table.getName())) {
+                    statements.add("ALTER TABLE " + table + " SET (SYSTEM_VERSIONING = OFF)");
+                }
+            }
+        }
+        for (SQLServerTable table : allTables) {
+            statements.add("DROP TABLE " + table);
+        }
+        return statements;
+    }
+
+    /**
+     * Executes these statements in as few batches as possible, ignoring the failure of any individual statement.
+     */
+    private void executeIgnoringDependencyErrors(List<String> statements) {
+        for (int from = 0; from < statements.size(); from += CLEAN_BATCH_SIZE) {
+            StringBuilder batch = new StringBuilder();
+            for (String statement : statements.subList(from, Math.min(from + CLEAN_BATCH_SIZE, statements.size()))) {
+                batch.append("BEGIN TRY ").append(statement).append(" END TRY BEGIN CATCH END CATCH\n");
+            }
+            try {
+                jdbcTemplate.execute(batch.toString());
+            } catch (SQLException e) {
+                LOG.debug("Ignoring dependency-related error: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Executes these statements in as few batches as possible, failing if any of them fails. As with executing them
+     * one by one, a failing statement stops the ones after it, and the error names the statement that failed.
+     */
+    private void executeInBatches(List<String> statements) throws SQLException {
+        for (int from = 0; from < statements.size(); from += CLEAN_BATCH_SIZE) {
+            StringBuilder batch = new StringBuilder("DECLARE @flyway_error NVARCHAR(2048)\n");
+            for (String statement : statements.subList(from, Math.min(from + CLEAN_BATCH_SIZE, statements.size()))) {
+                batch.append("BEGIN TRY ").append(statement).append(" END TRY BEGIN CATCH")
+                        .append(" SET @flyway_error = ERROR_MESSAGE()")
+                        .append(" RAISERROR(N'Unable to execute %s: %s', 16, 1, N'").append(statement.replace("'", "''"))
+                        .append("', @flyway_error) RETURN END CATCH\n");
+            }
+            // Reads all results of the batch, as the driver only reports an error once its result is reached
+            Results results = jdbcTemplate.executeStatement(batch.toString());
+            if (results.getException() != null) {
+                throw results.getException();
+            }
         }
     }
 
@@ -293,19 +337,19 @@ public class SQLServerSchema extends Schema<SQLServerDatabase, SQLServerTable> {
      * @throws SQLException when the retrieval failed.
      */
     protected List<DBObject> queryDBObjects(ObjectType... types) throws SQLException {
-        return queryDBObjectsWithParent(null, types);
+        return jdbcTemplate.query(buildDBObjectsQuery("obj.object_id, obj.name", types),
+                                  rs -> new DBObject(rs.getLong("object_id"), rs.getString("name")));
     }
 
     /**
-     * Query objects with any of the given types and parent (if non-null).
+     * Builds the query for user-defined objects in this schema with any of the given types, newest first.
      *
-     * @param parent The parent object or {@code null} if unspecified.
+     * @param columns The columns to select from {@code sys.objects AS obj}.
      * @param types The object types to be queried.
-     * @return The found objects.
-     * @throws SQLException when the retrieval failed.
+     * @return The query.
      */
-    private List<DBObject> queryDBObjectsWithParent(DBObject parent, ObjectType... types) throws SQLException {
-        StringBuilder query = new StringBuilder("SELECT obj.object_id, obj.name FROM sys.objects AS obj WITH (NOLOCK)" +
+    private String buildDBObjectsQuery(String columns, ObjectType... types) {
+        StringBuilder query = new StringBuilder("SELECT " + columns + " FROM sys.objects AS obj WITH (NOLOCK)" +
                                                         "LEFT JOIN sys.extended_properties AS eps WITH (NOLOCK)" +
                                                         "ON obj.object_id = eps.major_id " +
                                                         "AND eps.class = 1 " +    // Class 1 = objects and columns (we are only interested in objects).
@@ -328,34 +372,136 @@ public class SQLServerSchema extends Schema<SQLServerDatabase, SQLServerTable> {
         }
         query.append(")");
 
-        // Apply the parent selection if one was given.
-        if (parent != null) {
-            query.append(" AND obj.parent_object_id = ").append(parent.objectId);
-        }
-
         query.append(" order by create_date desc, object_id desc");
 
-        return jdbcTemplate.query(query.toString(), rs -> new DBObject(rs.getLong("object_id"), rs.getString("name")));
+        return query.toString();
     }
 
-    private List<String> cleanPrimaryKeys(List<DBObject> tables) throws SQLException {
-        List<String> statements = new ArrayList<>();
-        for (DBObject table : tables) {
-            for (DBObject pk : queryDBObjectsWithParent(table, ObjectType.PRIMARY_KEY)) {
-                statements.add("ALTER TABLE " + database.quote(name, table.name) + " DROP CONSTRAINT " + database.quote(pk.name));
+    /**
+     * Snapshot of the user tables of this schema and of the constraints, indexes and computed columns belonging to
+     * them. Every kind of child object is read for all tables at once with a single catalog query and grouped by its
+     * parent table in memory, so the number of queries doesn't grow with the number of tables.
+     */
+    private class TableModel {
+        private final List<DBObject> tables;
+        private List<ChildObject> constraints;
+        private Map<Long, List<String>> indexes;
+        private Map<Long, List<String>> uniqueConstraints;
+        private Map<Long, List<String>> computedColumns;
+
+        private TableModel() throws SQLException {
+            tables = queryDBObjects(ObjectType.USER_TABLE);
+        }
+
+        /**
+         * @return The drop statements for the child objects of each table, in table order.
+         */
+        private List<String> getStatements(Map<Long, List<String>> childrenByTable, String template) {
+            List<String> statements = new ArrayList<>();
+            for (DBObject table : tables) {
+                String tableName = database.quote(name, table.name);
+                for (String child : childrenByTable.getOrDefault(table.objectId, Collections.emptyList())) {
+                    statements.add(String.format(template, tableName, database.quote(child)));
+                }
             }
+            return statements;
         }
-        return statements;
-    }
 
-    private List<String> cleanForeignKeys(List<DBObject> tables) throws SQLException {
-        List<String> statements = new ArrayList<>();
-        for (DBObject table : tables) {
-            for (DBObject fk : queryDBObjectsWithParent(table, ObjectType.FOREIGN_KEY, ObjectType.CHECK_CONSTRAINT)) {
-                statements.add("ALTER TABLE " + database.quote(name, table.name) + " DROP CONSTRAINT " + database.quote(fk.name));
+        /**
+         * @return The {@code ALTER TABLE ... DROP CONSTRAINT} statements for the constraints of these types.
+         */
+        private List<String> getDropConstraintStatements(ObjectType... types) throws SQLException {
+            if (constraints == null) {
+                constraints = jdbcTemplate.query(buildDBObjectsQuery("obj.parent_object_id, obj.type, obj.name",
+                                                                     ObjectType.FOREIGN_KEY, ObjectType.CHECK_CONSTRAINT,
+                                                                     ObjectType.PRIMARY_KEY, ObjectType.DEFAULT_CONSTRAINT),
+                                                 rs -> new ChildObject(rs.getLong("parent_object_id"), rs.getString("type").trim(), rs.getString("name")));
+            }
+
+            Set<String> codes = new HashSet<>();
+            for (ObjectType type : types) {
+                codes.add(type.code);
             }
+            Map<Long, List<String>> matching = new HashMap<>();
+            for (ChildObject constraint : constraints) {
+                if (codes.contains(constraint.type)) {
+                    matching.computeIfAbsent(constraint.parentId, k -> new ArrayList<>()).add(constraint.name);
+                }
+            }
+            return getStatements(matching, "ALTER TABLE %s DROP CONSTRAINT %s");
+        }
+
+        private List<String> getDropIndexStatements() throws SQLException {
+            if (indexes == null) {
+                indexes = queryByTable("SELECT i.object_id, i.name FROM sys.indexes i " +
+                                               "JOIN sys.objects o ON o.object_id = i.object_id " +
+                                               "WHERE o.schema_id = SCHEMA_ID(?) " +
+                                               "AND i.is_primary_key = 0 AND i.is_unique_constraint = 0 AND i.name IS NOT NULL " +
+                                               "ORDER BY i.object_id, i.index_id");
+            }
+            return getStatements(indexes, "DROP INDEX %2$s ON %1$s");
+        }
+
+        private List<String> getDropUniqueConstraintStatements() throws SQLException {
+            if (uniqueConstraints == null) {
+                uniqueConstraints = queryByTable("SELECT i.object_id, i.name FROM sys.indexes i " +
+                                                         "JOIN sys.objects o ON o.object_id = i.object_id " +
+                                                         "JOIN sys.index_columns ic ON i.object_id = ic.object_id AND i.index_id = ic.index_id " +
+                                                         "JOIN sys.columns c ON ic.column_id = c.column_id AND i.object_id = c.object_id " +
+                                                         "WHERE o.schema_id = SCHEMA_ID(?) " +
+                                                         "AND i.is_primary_key = 0 AND i.is_unique_constraint = 1 AND i.name IS NOT NULL " +
+                                                         "GROUP BY i.object_id, i.name " +
+                                                         // We can't delete the unique ROWGUIDCOL constraint from a table which has a FILESTREAM column.
+                                                         // It will auto-delete when the table is dropped.
+                                                         "HAVING MAX(CAST(c.is_rowguidcol AS INT)) = 0 OR MAX(CAST(c.is_filestream AS INT)) = 0");
+            }
+            return getStatements(uniqueConstraints, "ALTER TABLE %s DROP CONSTRAINT %s");
+        }
+
+        private List<String> getDropComputedColumnStatements() throws SQLException {
+            if (computedColumns == null) {
+                computedColumns = queryByTable("SELECT cc.object_id, cc.name FROM sys.computed_columns cc " +
+                                                       "JOIN sys.objects o ON o.object_id = cc.object_id " +
+                                                       "WHERE o.schema_id = SCHEMA_ID(?) " +
+                                                       "ORDER BY cc.object_id, cc.column_id");
+            }
+            return getStatements(computedColumns, "ALTER TABLE %s DROP COLUMN %s");
+        }
+
+        /**
+         * Runs this query, which selects the object_id of the parent table and the name of the child object, and
+         * groups the names by parent table.
+         */
+        private Map<Long, List<String>> queryByTable(String query) throws SQLException {
+            Map<Long, List<String>> childrenByTable = new HashMap<>();
+            for (ChildObject child : jdbcTemplate.query(query, rs -> new ChildObject(rs.getLong(1), null, rs.getString(2)), name)) {
+                childrenByTable.computeIfAbsent(child.parentId, k -> new ArrayList<>()).add(child.name);
+            }
+            return childrenByTable;
         }
-        return statements;
+    }
+
+    /**
+     * An object belonging to a table, such as a constraint, index or column.
+     */
+    private static class ChildObject {
+        private final long parentId;
+        private final String type;
+        private final String name;
+
+        private ChildObject(long parentId, String type, String name) {
+            this.parentId = parentId;
+            this.type = type;
+            this.name = name;
+        }
+    }
+
+    private List<String> cleanPrimaryKeys(TableModel tables) throws SQLException {
+        return tables.getDropConstraintStatements(ObjectType.PRIMARY_KEY);
+    }
+
+    private List<String> cleanForeignKeys(TableModel tables) throws SQLException {
+        return tables.getDropConstraintStatements(ObjectType.FOREIGN_KEY, ObjectType.CHECK_CONSTRAINT);
     }
 
     /**
@@ -363,19 +509,8 @@ public class SQLServerSchema extends Schema<SQLServerDatabase, SQLServerTable> {
      * @return The drop statements.
      * @throws SQLException when the clean statements could not be generated.
      */
-    private List<String> cleanComputedColumns(List<DBObject> tables) throws SQLException {
-        List<String> statements = new ArrayList<>();
-        for (DBObject table : tables) {
-            String tableName = database.quote(name, table.name);
-            List<String> columns = jdbcTemplate.queryForStringList("" +
-                                                                           "SELECT name " +
-                                                                           "FROM sys.computed_columns " +
-                                                                           "WHERE object_id=OBJECT_ID(N'" + tableName + "')");
-            for (String column : columns) {
-                statements.add("ALTER TABLE " + tableName + " DROP COLUMN " + database.quote(column));
-            }
-        }
-        return statements;
+    private List<String> cleanComputedColumns(TableModel tables) throws SQLException {
+        return tables.getDropComputedColumnStatements();
     }
 
     /**
@@ -383,19 +518,8 @@ public class SQLServerSchema extends Schema<SQLServerDatabase, SQLServerTable> {
      * @return The drop statements.
      * @throws SQLException when the clean statements could not be generated.
      */
-    private List<String> cleanIndexes(List<DBObject> tables) throws SQLException {
-        List<String> statements = new ArrayList<>();
-        for (DBObject table : tables) {
-            String tableName = database.quote(name, table.name);
-            List<String> indexes = jdbcTemplate.queryForStringList("" +
-                                                                           "SELECT name FROM sys.indexes " +
-                                                                           "WHERE object_id=OBJECT_ID(N'" + tableName + "') " +
-                                                                           "AND is_primary_key = 0 AND is_unique_constraint = 0 AND name IS NOT NULL");
-            for (String index : indexes) {
-                statements.add("DROP INDEX " + database.quote(index) + " ON " + tableName);
-            }
-        }
-        return statements;
+    private List<String> cleanIndexes(TableModel tables) throws SQLException {
+        return tables.getDropIndexStatements();
     }
 
     /**
@@ -403,25 +527,8 @@ public class SQLServerSchema extends Schema<SQLServerDatabase, SQLServerTable> {
      * @return The drop statements.
      * @throws SQLException when the clean statements could not be generated.
      */
-    private List<String> cleanDefaultConstraints(List<DBObject> tables) throws SQLException {
-        List<String> statements = new ArrayList<>();
-        for (DBObject table : tables) {
-            String tableName = database.quote(name, table.name);
-            List<String> indexes = jdbcTemplate.queryForStringList("" +
-                                                                           "SELECT i.name FROM sys.indexes i " +
-                                                                           "JOIN sys.index_columns ic on i.index_id = ic.index_id " +
-                                                                           "JOIN sys.columns c ON ic.column_id = c.column_id AND i.object_id = c.object_id " +
-                                                                           "WHERE i.object_id=OBJECT_ID(N'" + tableName + "') " +
-                                                                           "AND is_primary_key = 0 AND is_unique_constraint = 1 AND i.name IS NOT NULL " +
-                                                                           "GROUP BY i.name " +
-                                                                           // We can't delete the unique ROWGUIDCOL constraint from a table which has a FILESTREAM column.
-                                                                           // It will auto-delete when the table is dropped.
-                                                                           "HAVING MAX(CAST(is_rowguidcol AS INT)) = 0 OR MAX(CAST(is_filestream AS INT)) = 0");
-            for (String index : indexes) {
-                statements.add("ALTER TABLE " + tableName + " DROP CONSTRAINT " + database.quote(index));
-            }
-        }
-        return statements;
+    private List<String> cleanDefaultConstraints(TableModel tables) throws SQLException {
+        return tables.getDropUniqueConstraintStatements();
     }
 
     /**
@@ -429,14 +536,8 @@ public class SQLServerSchema extends Schema<SQLServerDatabase, SQLServerTable> {
      * @return The drop statements.
      * @throws SQLException when the clean statements could not be generated.
      */
-    private List<String> cleanUniqueConstraints(List<DBObject> tables) throws SQLException {
-        List<String> statements = new ArrayList<>();
-        for (DBObject table : tables) {
-            for (DBObject df : queryDBObjectsWithParent(table, ObjectType.DEFAULT_CONSTRAINT)) {
-                statements.add("ALTER TABLE " + database.quote(name, table.name) + " DROP CONSTRAINT " + database.quote(df.name));
-            }
-        }
-        return statements;
+    private List<String> cleanUniqueConstraints(TableModel tables) throws SQLException {
+        return tables.getDropConstraintStatements(ObjectType.DEFAULT_CONSTRAINT);
     }
 
     /**
@@ -488,19 +589,19 @@ public class SQLServerSchema extends Schema<SQLServerDatabase, SQLServerTable> {
 
     private List<String> cleanServiceBrokers() throws SQLException {
         List<String> statements = new ArrayList<>();
-        List<Map<String, String>> queues = jdbcTemplate.queryForList("" +
+        List<Row> queues = jdbcTemplate.queryForRows("" +
             "SELECT name AS queue_name, object_id AS queue_id FROM sys.service_queues " +
             "WHERE schema_id = schema_id('" + name + "') AND is_ms_shipped = 0;");
         if (queues.isEmpty()) {
             return statements;
         }
-        String queueIds = queues.stream().map(queueAndSchema -> queueAndSchema.get("queue_id")).collect(Collectors.joining(","));
+        String queueIds = queues.stream().map(queueAndSchema -> queueAndSchema.get(1)).collect(Collectors.joining(","));
         List<String> services = jdbcTemplate.queryForStringList("SELECT name FROM sys.services WHERE service_queue_id IN (" + queueIds + ")");
         for (String service : services) {
             statements.add("DROP SERVICE " + database.quote(service));
         }
-        for (Map<String, String> queueAndSchema : queues) {
-            statements.add("DROP QUEUE " + database.quote(name, queueAndSchema.get("queue_name")));
+        for (Row queueAndSchema : queues) {
+            statements.add("DROP QUEUE " + database.quote(name, queueAndSchema.get(0)));
         }
         return statements;
     }
@@ -67,18 +67,6 @@ public class SQLServerTable extends Table<SQLServerDatabase, SQLServerSchema> {
         jdbcTemplate.execute("select * from " + this + " WITH (TABLOCKX)");
     }
 
-    /**
-     * Drops system versioning for this table if it is active.
-     */
-    void dropSystemVersioningIfPresent() throws SQLException {
-        /* Column temporal_type only exists in SQL Server 2016+, so the query below won't run in other versions */
-        if (database.supportsTemporalTables()) {
-            if (jdbcTemplate.queryForInt("SELECT temporal_type FROM sys.tables WHERE object_id = OBJECT_ID('" + this + "', 'U')") == 2) {
-                jdbcTemplate.execute("ALTER TABLE " + this + " SET (SYSTEM_VERSIONING = OFF)");
-            }
-        }
-    }
-
     @Override
     public String toString() {
         return database.quote(databaseName, schema.getName(), name);
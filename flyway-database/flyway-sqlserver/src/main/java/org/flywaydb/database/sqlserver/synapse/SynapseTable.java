@@ -51,6 +51,11 @@ public class SynapseTable extends SQLServerTable {
         }
     }
 
+    @Override
+    protected boolean hasExplicitUnlock() {
+        return true;
+    }
+
     @Override
     protected void doUnlock() throws SQLException {
         if (lockDepth == 1) {
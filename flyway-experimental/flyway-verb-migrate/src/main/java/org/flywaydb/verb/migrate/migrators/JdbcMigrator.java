@@ -24,7 +24,9 @@ import static org.flywaydb.nc.VerbUtils.toMigrationText;
 import java.nio.file.Paths;
 import java.sql.SQLException;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Stream;
 import lombok.CustomLog;
@@ -61,6 +63,12 @@ import org.flywaydb.nc.readers.ReaderFactory;
 @CustomLog
 public class JdbcMigrator extends Migrator {
 
+    /**
+     * The parsed statements of each pending migration, so that every script is only parsed once from grouping through
+     * execution. Entries are released once their migration has been executed.
+     */
+    private final Map<MigrationInfo, MigrationAnalysis> migrationAnalyses = new HashMap<>();
+
     @Override
     public List<MigrationExecutionGroup> createGroups(final MigrationInfo[] allPendingMigrations,
         final Configuration configuration,
@@ -113,12 +121,8 @@ public class JdbcMigrator extends Migrator {
             .toList();
         for (final Pair<MigrationInfo, Boolean> pair : migrationContainsNonTransactionalStatements) {
             final MigrationInfo migrationInfo = pair.getLeft();
-            if (migrationInfo instanceof final LoadableMigrationInfo loadableMigrationInfo) {
-                final boolean containsNonTransactionalStatements = containsNonTransactionalStatements(configuration,
-                    experimentalDatabase,
-                    loadableMigrationInfo,
-                    parsingContext);
-                if (containsNonTransactionalStatements) {
+            if (migrationInfo instanceof LoadableMigrationInfo) {
+                if (pair.getRight()) {
                     if (configuration.isMixed()) {
                         return Arrays.stream(allPendingMigrations)
                             .map(x -> new MigrationExecutionGroup(List.of(x), pair.getRight()))
@@ -168,6 +172,7 @@ public class JdbcMigrator extends Migrator {
                 rank,
                 executeInTransaction,
                 progress);
+            migrationAnalyses.remove(migrationInfo);
             rank++;
         }
         if (executeInTransaction) {
@@ -219,11 +224,14 @@ public class JdbcMigrator extends Migrator {
                 }
 
                 if (migrationInfo instanceof final LoadableMigrationInfo loadableMigrationInfo) {
-                    final Stream<SqlStatement> executionUnits = reader.read(configuration,
-                        experimentalDatabase,
-                        parsingContext,
-                        loadableMigrationInfo.getLoadableResource(),
-                        loadableMigrationInfo.getSqlScriptMetadata());
+                    final MigrationAnalysis migrationAnalysis = migrationAnalyses.get(migrationInfo);
+                    final Stream<SqlStatement> executionUnits = migrationAnalysis != null
+                        ? migrationAnalysis.statements().stream()
+                        : reader.read(configuration,
+                            experimentalDatabase,
+                            parsingContext,
+                            loadableMigrationInfo.getLoadableResource(),
+                            loadableMigrationInfo.getSqlScriptMetadata());
 
                     executionUnits.forEach(x -> {
                         sqlStatement.set(x);
@@ -280,17 +288,8 @@ public class JdbcMigrator extends Migrator {
         final MigrationInfo migrationInfo,
         final ParsingContext parsingContext) {
         if (migrationInfo instanceof final LoadableMigrationInfo loadableMigrationInfo) {
-            try (final SqlStatementIterator sqlStatementIterator = getSqlStatementIterator(experimentalDatabase,
-                configuration,
-                loadableMigrationInfo,
-                parsingContext)) {
-                while (sqlStatementIterator.hasNext()) {
-                    final SqlStatement sqlStatement = sqlStatementIterator.next();
-                    if (!sqlStatement.canExecuteInTransaction()) {
-                        return true;
-                    }
-                }
-            }
+            return analyze(experimentalDatabase, configuration, loadableMigrationInfo, parsingContext)
+                .containsNonTransactionalStatements();
         }
         return false;
     }
@@ -311,13 +310,23 @@ public class JdbcMigrator extends Migrator {
             parsingContext);
     }
 
-    private SqlStatementIterator getSqlStatementIterator(final ExperimentalDatabase experimentalDatabase,
+    private MigrationAnalysis analyze(final ExperimentalDatabase experimentalDatabase,
         final Configuration configuration,
         final LoadableMigrationInfo loadableMigrationInfo,
         final ParsingContext parsingContext) {
+        final MigrationAnalysis cachedAnalysis = migrationAnalyses.get(loadableMigrationInfo);
+        if (cachedAnalysis != null) {
+            return cachedAnalysis;
+        }
+
         final Parser parser = (Parser) experimentalDatabase.getParser().apply(configuration, parsingContext);
         final SqlScriptMetadata metadata = loadableMigrationInfo.getSqlScriptMetadata();
-        return parser.parse(loadableMigrationInfo.getLoadableResource(), metadata);
+        try (final SqlStatementIterator sqlStatementIterator = parser.parse(loadableMigrationInfo.getLoadableResource(),
+            metadata)) {
+            final MigrationAnalysis migrationAnalysis = MigrationAnalysis.of(sqlStatementIterator);
+            migrationAnalyses.put(loadableMigrationInfo, migrationAnalysis);
+            return migrationAnalysis;
+        }
     }
 
     private void handleMigrationError(final FlywayException e,
@@ -406,29 +415,18 @@ public class JdbcMigrator extends Migrator {
         final MigrationInfo migrationInfo,
         final ParsingContext parsingContext) {
         if (migrationInfo instanceof final LoadableMigrationInfo loadableMigrationInfo) {
-            try (final SqlStatementIterator sqlStatementIterator = getSqlStatementIterator(experimentalDatabase,
+            final SqlStatement sqlStatement = analyze(experimentalDatabase,
                 configuration,
                 loadableMigrationInfo,
-                parsingContext)) {
-                boolean haveFoundNonTransactionalStatements = false;
-                boolean haveFoundTransactionalStatements = false;
-                while (sqlStatementIterator.hasNext()) {
-                    final SqlStatement sqlStatement = sqlStatementIterator.next();
-                    if (sqlStatement.canExecuteInTransaction()) {
-                        haveFoundTransactionalStatements = true;
-                    } else {
-                        haveFoundNonTransactionalStatements = true;
-                    }
-                    if (haveFoundTransactionalStatements && haveFoundNonTransactionalStatements) {
-                        throw new FlywayException(
-                            "Detected both transactional and non-transactional statements within the same migration"
-                                + " (even though mixed is false). Offending statement found at line "
-                                + sqlStatement.getLineNumber()
-                                + ": "
-                                + sqlStatement.getSql()
-                                + (sqlStatement.canExecuteInTransaction() ? "" : " [non-transactional]"));
-                    }
-                }
+                parsingContext).firstMixedStatement();
+            if (sqlStatement != null) {
+                throw new FlywayException(
+                    "Detected both transactional and non-transactional statements within the same migration"
+                        + " (even though mixed is false). Offending statement found at line "
+                        + sqlStatement.getLineNumber()
+                        + ": "
+                        + sqlStatement.getSql()
+                        + (sqlStatement.canExecuteInTransaction() ? "" : " [non-transactional]"));
             }
         }
     }
@@ -0,0 +1,58 @@
+/*-
+ * ========================LICENSE_START=================================
+ * flyway-verb-migrate
+ * ========================================================================
+ * Copyright (C) 2010 - 2025 Red Gate Software Ltd
+ * ========================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+package org.flywaydb.verb.migrate.migrators;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.flywaydb.core.internal.sqlscript.SqlStatement;
+import org.flywaydb.core.internal.sqlscript.SqlStatementIterator;
+
+/**
+ * The result of parsing a migration once, shared between grouping and execution.
+ *
+ * @param statements The statements of the migration.
+ * @param containsNonTransactionalStatements Whether any statement can't be executed in a transaction.
+ * @param firstMixedStatement The first statement at which both transactional and non-transactional statements have
+ * been seen, or {@code null} if the migration isn't mixed.
+ */
+record MigrationAnalysis(List<SqlStatement> statements,
+                         boolean containsNonTransactionalStatements,
+                         SqlStatement firstMixedStatement) {
+
+    static MigrationAnalysis of(final SqlStatementIterator sqlStatementIterator) {
+        final List<SqlStatement> statements = new ArrayList<>();
+        boolean haveFoundNonTransactionalStatements = false;
+        boolean haveFoundTransactionalStatements = false;
+        SqlStatement firstMixedStatement = null;
+        while (sqlStatementIterator.hasNext()) {
+            final SqlStatement sqlStatement = sqlStatementIterator.next();
+            statements.add(sqlStatement);
+            if (sqlStatement.canExecuteInTransaction()) {
+                haveFoundTransactionalStatements = true;
+            } else {
+                haveFoundNonTransactionalStatements = true;
+            }
+            if (firstMixedStatement == null && haveFoundTransactionalStatements && haveFoundNonTransactionalStatements) {
+                firstMixedStatement = sqlStatement;
+            }
+        }
+        return new MigrationAnalysis(statements, haveFoundNonTransactionalStatements, firstMixedStatement);
+    }
+}
@@ -36,5 +36,7 @@ public class FlywayPlugin implements Plugin<Project> {
         project.getTasks().create("flywayValidate", FlywayValidateTask.class);
         project.getTasks().create("flywayInfo", FlywayInfoTask.class);
         project.getTasks().create("flywayRepair", FlywayRepairTask.class);
+        project.getPluginManager().withPlugin("java",
+                plugin -> project.getTasks().create("flywayIndex", FlywayIndexTask.class));
     }
 }
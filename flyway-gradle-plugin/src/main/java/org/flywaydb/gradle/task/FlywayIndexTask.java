@@ -0,0 +1,57 @@
+/*-
+ * ========================LICENSE_START=================================
+ * flyway-gradle-plugin
+ * ========================================================================
+ * Copyright (C) 2010 - 2025 Red Gate Software Ltd
+ * ========================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+package org.flywaydb.gradle.task;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.internal.scanner.MigrationIndex;
+import org.gradle.api.plugins.JavaPluginConvention;
+import org.gradle.api.tasks.SourceSet;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <p>Writes an index of the resources in the configured classpath locations to {@code META-INF/flyway/index} in the
+ * resources output directory of the main source set, so that it is packaged with them.</p>
+ * <p>When the packaged artifact is on the classpath at runtime, Flyway resolves these locations from the index
+ * instead of scanning the jar, reading every file and calculating its checksum. No database connection is needed.
+ * To package the index, make the {@code jar} task depend on this task.</p>
+ */
+public class FlywayIndexTask extends AbstractFlywayTask {
+    public FlywayIndexTask() {
+        super();
+        setDescription("Writes an index of the migrations and callbacks in the configured classpath locations " +
+                               "to META-INF/flyway/index so that they can be resolved without scanning at runtime.");
+        dependsOn("classes");
+    }
+
+    @Override
+    protected Object run(Flyway flyway) {
+        SourceSet main = getProject().getConvention().getPlugin(JavaPluginConvention.class)
+                .getSourceSets().getByName(SourceSet.MAIN_SOURCE_SET_NAME);
+
+        List<File> roots = new ArrayList<>(main.getOutput().getClassesDirs().getFiles());
+        File resourcesDir = main.getOutput().getResourcesDir();
+        roots.add(resourcesDir);
+
+        return MigrationIndex.generate(flyway.getConfiguration(), roots, resourcesDir);
+    }
+}
@@ -0,0 +1,48 @@
+/*-
+ * ========================LICENSE_START=================================
+ * flyway-maven-plugin
+ * ========================================================================
+ * Copyright (C) 2010 - 2025 Red Gate Software Ltd
+ * ========================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+package org.flywaydb.maven;
+
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.ResolutionScope;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.internal.scanner.MigrationIndex;
+
+import java.io.File;
+import java.util.Collections;
+
+/**
+ * <p>Writes an index of the resources in the configured classpath locations to {@code META-INF/flyway/index} in the
+ * project's output directory, so that it is packaged with them.</p>
+ * <p>When the packaged artifact is on the classpath at runtime, Flyway resolves these locations from the index
+ * instead of scanning the jar, reading every file and calculating its checksum. No database connection is needed.</p>
+ */
+@SuppressWarnings({"UnusedDeclaration", "JavaDoc"})
+@Mojo(name = "index",
+        requiresDependencyResolution = ResolutionScope.RUNTIME,
+        defaultPhase = LifecyclePhase.PROCESS_CLASSES,
+        threadSafe = true)
+public class IndexMojo extends AbstractFlywayMojo {
+    @Override
+    protected void doExecute(Flyway flyway) {
+        File outputDirectory = new File(mavenProject.getBuild().getOutputDirectory());
+        MigrationIndex.generate(flyway.getConfiguration(), Collections.singletonList(outputDirectory), outputDirectory);
+    }
+}
@@ -24,14 +24,24 @@ import lombok.RequiredArgsConstructor;
 import lombok.experimental.Delegate;
 import org.flywaydb.core.api.logging.Log;
 
+import java.util.function.Supplier;
+
 @RequiredArgsConstructor(access = AccessLevel.PACKAGE)
 public class MavenLog implements Log {
-    @Delegate(types = Log.class, excludes = ExcludeNotice.class)
+    @Delegate(types = Log.class, excludes = Excluded.class)
     private final org.apache.maven.plugin.logging.Log logger;
 
+    public void debug(Supplier<String> message) {
+        if (logger.isDebugEnabled()) {
+            logger.debug(message.get());
+        }
+    }
+
     public void notice(String message) {}
 }
 
-interface ExcludeNotice {
+interface Excluded {
+    void debug(Supplier<String> message);
+
     void notice(String message);
 }
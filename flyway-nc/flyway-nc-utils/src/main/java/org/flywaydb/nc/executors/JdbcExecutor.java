@@ -54,6 +54,7 @@ public class JdbcExecutor implements Executor<SqlStatement> {
         if (configuration.isBatch()) {
             experimentalDatabase.doExecuteBatch();
         }
+        experimentalDatabase.endExecution();
     }
 
     @Override